@@ -0,0 +1,70 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import com.mapbox.services.android.navigation.v5.navigation.RouteFixture;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of evaluating the default banner milestone plus a set of custom step milestones,
+ * as done by the route processor for every new route progress.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MilestoneBenchmark {
+
+  @Param({"1", "24"})
+  public int stepMilestoneCount;
+
+  private List<Milestone> milestones;
+  private int tick;
+
+  @Setup
+  public void setup() {
+    milestones = new ArrayList<>();
+    milestones.add(new BannerInstructionMilestone.Builder().build());
+    for (int i = 0; i < stepMilestoneCount; i++) {
+      milestones.add(new StepMilestone.Builder()
+        .setIdentifier(i)
+        .setTrigger(Trigger.all(
+          Trigger.lt(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, 100d * (i + 1)),
+          Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+          Trigger.neq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE)
+        ))
+        .build());
+    }
+    tick = 0;
+  }
+
+  @Benchmark
+  public int evaluateMilestones(RouteFixture fixture) {
+    RouteProgress previousRouteProgress = fixture.routeProgress(tick == 0 ? 0 : tick - 1);
+    RouteProgress routeProgress = fixture.routeProgress(tick);
+    int triggered = 0;
+    for (Milestone milestone : milestones) {
+      if (milestone.isOccurring(previousRouteProgress, routeProgress)) {
+        triggered++;
+      }
+    }
+    tick = (tick + 1) % fixture.tickCount();
+    return triggered;
+  }
+}
@@ -0,0 +1,46 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.navigator.FixLocation;
+import com.mapbox.navigator.NavigationStatus;
+
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Date;
+
+/**
+ * Stands in for the native navigator with a deterministic cost per call: setting a route costs
+ * proportionally to the size of its json, like parsing it would, and computing a status costs a
+ * fixed amount of work.
+ */
+class FakeNativeNavigator implements NativeNavigator {
+
+  private static final long STATUS_TOKENS = 2000;
+  private static final long LOCATION_TOKENS = 50;
+  private final NavigationStatus status = StubNavigationStatus.create(0, 0, 1000d, 100d);
+
+  @Override
+  public void setRoute(String routeJson, int routeIndex, int legIndex) {
+    Blackhole.consumeCPU(routeJson.length());
+  }
+
+  @Override
+  public void updateLocation(FixLocation fixLocation) {
+    Blackhole.consumeCPU(LOCATION_TOKENS);
+  }
+
+  @Override
+  public NavigationStatus getStatus(Date date) {
+    Blackhole.consumeCPU(STATUS_TOKENS);
+    return status;
+  }
+
+  @Override
+  public String getHistory() {
+    return "";
+  }
+
+  @Override
+  public void toggleHistory(boolean isEnabled) {
+    // No history recorded
+  }
+}
@@ -0,0 +1,104 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.navigator.NavigationStatus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of a route processor tick, and of the calls made to the navigator from other threads,
+ * while routes are updated and history is read concurrently, using a {@link FakeNativeNavigator}.
+ * <p>
+ * The {@code commandQueue} group goes through {@link MapboxNavigator}, which queues route updates
+ * for the route processor thread. The {@code monitor} group reproduces the previous behavior,
+ * where every call to the navigator contended on the same monitor. Compare the percentiles of
+ * their {@code tick} and {@code reroute} results.
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class MapboxNavigatorBenchmark {
+
+  private FakeNativeNavigator navigator;
+  private MapboxNavigator mapboxNavigator;
+  // Alternated, so each reroute sets a new route
+  private DirectionsRoute[] routes;
+  private int routeIndex;
+  private String routeJson;
+
+  @Setup
+  public void setup(RouteFixture fixture) {
+    navigator = new FakeNativeNavigator();
+    mapboxNavigator = new MapboxNavigator(navigator);
+    DirectionsRoute route = fixture.directionsRoute();
+    routes = new DirectionsRoute[] {route, route.toBuilder().build()};
+    routeJson = route.toJson();
+  }
+
+  @Benchmark
+  @Group("commandQueue")
+  @GroupThreads(1)
+  public NavigationStatus commandQueueTick() {
+    mapboxNavigator.submitQueuedCommands();
+    return mapboxNavigator.retrieveStatus(new Date(), 0);
+  }
+
+  @Benchmark
+  @Group("commandQueue")
+  @GroupThreads(1)
+  public void commandQueueReroute() {
+    routeIndex = (routeIndex + 1) % routes.length;
+    mapboxNavigator.updateRoute(routes[routeIndex]);
+  }
+
+  @Benchmark
+  @Group("commandQueue")
+  @GroupThreads(1)
+  public String commandQueueHistory() {
+    return mapboxNavigator.retrieveHistory();
+  }
+
+  @Benchmark
+  @Group("monitor")
+  @GroupThreads(1)
+  public NavigationStatus monitorTick() {
+    synchronized (navigator) {
+      return navigator.getStatus(new Date());
+    }
+  }
+
+  @Benchmark
+  @Group("monitor")
+  @GroupThreads(1)
+  public void monitorReroute() {
+    synchronized (navigator) {
+      navigator.setRoute(routeJson, 0, 0);
+    }
+  }
+
+  @Benchmark
+  @Group("monitor")
+  @GroupThreads(1)
+  public String monitorHistory() {
+    synchronized (navigator) {
+      return navigator.getHistory();
+    }
+  }
+}
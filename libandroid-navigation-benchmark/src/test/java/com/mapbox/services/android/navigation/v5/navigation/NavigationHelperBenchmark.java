@@ -0,0 +1,77 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.routeprogress.CurrentLegAnnotation;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of the {@link NavigationHelper} calculations used while building a route progress.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NavigationHelperBenchmark {
+
+  private CurrentLegAnnotation currentLegAnnotation;
+  private int tick;
+
+  @Benchmark
+  public List<Point> decodeStepPoints(RouteFixture fixture) {
+    RouteProgress routeProgress = nextRouteProgress(fixture);
+    return NavigationHelper.decodeStepPoints(routeProgress.directionsRoute(), null,
+      routeProgress.legIndex(), routeProgress.currentLegProgress().stepIndex());
+  }
+
+  @Benchmark
+  public List<Pair<StepIntersection, Double>> createDistancesToIntersections(RouteFixture fixture) {
+    RouteProgress routeProgress = nextRouteProgress(fixture);
+    return NavigationHelper.createDistancesToIntersections(routeProgress.currentStepPoints(),
+      routeProgress.currentLegProgress().currentStepProgress().intersections());
+  }
+
+  @Benchmark
+  public StepIntersection findCurrentIntersection(RouteFixture fixture) {
+    RouteProgress routeProgress = nextRouteProgress(fixture);
+    return NavigationHelper.findCurrentIntersection(
+      routeProgress.currentLegProgress().currentStepProgress().intersections(),
+      routeProgress.currentLegProgress().currentStepProgress().intersectionDistancesAlongStep(),
+      routeProgress.currentLegProgress().currentStepProgress().distanceTraveled()
+    );
+  }
+
+  @Benchmark
+  public CurrentLegAnnotation createCurrentAnnotation(RouteFixture fixture) {
+    RouteProgress routeProgress = nextRouteProgress(fixture);
+    if (routeProgress.currentLegProgress().stepIndex() == 0) {
+      currentLegAnnotation = null;
+    }
+    currentLegAnnotation = NavigationHelper.createCurrentAnnotation(currentLegAnnotation,
+      routeProgress.currentLeg(), routeProgress.currentLegProgress().distanceRemaining());
+    return currentLegAnnotation;
+  }
+
+  private RouteProgress nextRouteProgress(RouteFixture fixture) {
+    RouteProgress routeProgress = fixture.routeProgress(tick);
+    tick = (tick + 1) % fixture.tickCount();
+    return routeProgress;
+  }
+}
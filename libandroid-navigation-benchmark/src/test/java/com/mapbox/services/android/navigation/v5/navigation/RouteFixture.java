@@ -0,0 +1,139 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Scanner;
+
+/**
+ * Shared benchmark state holding one of the library's fixture routes, a stubbed sequence of
+ * {@link NavigationStatus} ticks driving along it and the {@link RouteProgress} built for each tick.
+ */
+@State(Scope.Benchmark)
+public class RouteFixture {
+
+  static final String SHORT_ROUTE = "short";
+  static final String LONG_ROUTE = "long";
+  static final String MULTI_LEG_ROUTE = "multi_leg";
+
+  private static final String SHORT_ROUTE_FIXTURE = "dcmapbox_chipoltle.json";
+  private static final String LONG_ROUTE_FIXTURE = "directions_v5_precision_6.json";
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+  private static final String UTF_8 = "UTF-8";
+  private static final double METERS_PER_TICK = 25d;
+  private static final int MAX_TICKS_PER_STEP = 40;
+
+  @Param({SHORT_ROUTE, LONG_ROUTE, MULTI_LEG_ROUTE})
+  public String route;
+
+  private DirectionsRoute directionsRoute;
+  private RouteGeometryIndex geometryIndex;
+  private NavigationStatus[] statuses;
+  private RouteProgress[] routeProgresses;
+
+  @Setup
+  public void setup() throws IOException {
+    directionsRoute = loadRoute(route);
+    geometryIndex = new RouteGeometryIndex(directionsRoute);
+    statuses = buildStatuses(directionsRoute);
+    routeProgresses = buildRouteProgresses(geometryIndex, statuses);
+  }
+
+  public DirectionsRoute directionsRoute() {
+    return directionsRoute;
+  }
+
+  public int tickCount() {
+    return statuses.length;
+  }
+
+  public RouteProgress routeProgress(int tick) {
+    return routeProgresses[tick];
+  }
+
+  RouteGeometryIndex geometryIndex() {
+    return geometryIndex;
+  }
+
+  NavigationStatus status(int tick) {
+    return statuses[tick];
+  }
+
+  private static DirectionsRoute loadRoute(String route) throws IOException {
+    Gson gson = new GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+    String body = loadJsonFixture(retrieveFixtureName(route));
+    DirectionsResponse response = gson.fromJson(body, DirectionsResponse.class);
+    return response.routes().get(0);
+  }
+
+  private static String retrieveFixtureName(String route) {
+    switch (route) {
+      case SHORT_ROUTE:
+        return SHORT_ROUTE_FIXTURE;
+      case LONG_ROUTE:
+        return LONG_ROUTE_FIXTURE;
+      case MULTI_LEG_ROUTE:
+        return MULTI_LEG_ROUTE_FIXTURE;
+      default:
+        throw new IllegalArgumentException("Unknown benchmark route: " + route);
+    }
+  }
+
+  private static String loadJsonFixture(String filename) throws IOException {
+    ClassLoader classLoader = RouteFixture.class.getClassLoader();
+    try (InputStream inputStream = classLoader.getResourceAsStream(filename)) {
+      Scanner scanner = new Scanner(inputStream, UTF_8).useDelimiter("\\A");
+      return scanner.hasNext() ? scanner.next() : "";
+    }
+  }
+
+  /**
+   * Drives along every step of every leg, emitting a tick every {@link #METERS_PER_TICK} meters
+   * (capped at {@link #MAX_TICKS_PER_STEP} ticks per step).
+   */
+  private static NavigationStatus[] buildStatuses(DirectionsRoute route) {
+    List<NavigationStatus> statuses = new ArrayList<>();
+    List<RouteLeg> legs = route.legs();
+    for (int legIndex = 0; legIndex < legs.size(); legIndex++) {
+      List<LegStep> steps = legs.get(legIndex).steps();
+      double legDistanceRemaining = legs.get(legIndex).distance();
+      for (int stepIndex = 0; stepIndex < steps.size(); stepIndex++) {
+        double stepDistance = steps.get(stepIndex).distance();
+        int ticks = (int) Math.min(MAX_TICKS_PER_STEP, Math.max(1, Math.ceil(stepDistance / METERS_PER_TICK)));
+        for (int tick = 0; tick < ticks; tick++) {
+          double stepDistanceTraveled = stepDistance * tick / ticks;
+          statuses.add(StubNavigationStatus.create(legIndex, stepIndex,
+            legDistanceRemaining - stepDistanceTraveled, stepDistance - stepDistanceTraveled));
+        }
+        legDistanceRemaining -= stepDistance;
+      }
+    }
+    return statuses.toArray(new NavigationStatus[statuses.size()]);
+  }
+
+  private static RouteProgress[] buildRouteProgresses(RouteGeometryIndex geometryIndex,
+                                                      NavigationStatus[] statuses) {
+    NavigationRouteProcessor routeProcessor = new NavigationRouteProcessor();
+    RouteProgress[] routeProgresses = new RouteProgress[statuses.length];
+    for (int i = 0; i < statuses.length; i++) {
+      routeProgresses[i] = routeProcessor.buildNewRouteProgress(statuses[i], geometryIndex);
+    }
+    return routeProgresses;
+  }
+}
@@ -0,0 +1,47 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time and allocation of {@link NavigationRouteProcessor#buildNewRouteProgress} for one tick, driving
+ * along the whole fixture route.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteProcessorBenchmark {
+
+  private NavigationRouteProcessor routeProcessor;
+  private int tick;
+
+  @Setup
+  public void setup() {
+    routeProcessor = new NavigationRouteProcessor();
+    tick = 0;
+  }
+
+  @Benchmark
+  public RouteProgress buildNewRouteProgress(RouteFixture fixture) {
+    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(fixture.status(tick),
+      fixture.geometryIndex());
+    routeProcessor.updatePreviousRouteProgress(routeProgress);
+    tick = (tick + 1) % fixture.tickCount();
+    return routeProgress;
+  }
+}
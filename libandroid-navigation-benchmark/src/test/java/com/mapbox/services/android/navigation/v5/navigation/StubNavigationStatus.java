@@ -0,0 +1,74 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.navigator.RouteState;
+
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Stands in for the native navigator by answering the {@link NavigationStatus} getters read by the
+ * route processing pipeline with pre-computed values.
+ * <p>
+ * Values are converted to the declared return type of each getter, so the stub doesn't depend on
+ * whether the native bindings expose distances as {@code float} or {@code double}.
+ * {@link StubNavigationStatusBenchmark} measures the cost of reading these stubs, which should be
+ * subtracted from the pipeline results.
+ */
+class StubNavigationStatus implements Answer<Object> {
+
+  private final int legIndex;
+  private final int stepIndex;
+  private final double legDistanceRemaining;
+  private final double stepDistanceRemaining;
+
+  private StubNavigationStatus(int legIndex, int stepIndex, double legDistanceRemaining,
+                               double stepDistanceRemaining) {
+    this.legIndex = legIndex;
+    this.stepIndex = stepIndex;
+    this.legDistanceRemaining = legDistanceRemaining;
+    this.stepDistanceRemaining = stepDistanceRemaining;
+  }
+
+  static NavigationStatus create(int legIndex, int stepIndex, double legDistanceRemaining,
+                                 double stepDistanceRemaining) {
+    return mock(NavigationStatus.class,
+      new StubNavigationStatus(legIndex, stepIndex, legDistanceRemaining, stepDistanceRemaining));
+  }
+
+  @Override
+  public Object answer(InvocationOnMock invocation) {
+    Class<?> returnType = invocation.getMethod().getReturnType();
+    switch (invocation.getMethod().getName()) {
+      case "getLegIndex":
+        return legIndex;
+      case "getStepIndex":
+        return stepIndex;
+      case "getRemainingLegDistance":
+        return convert(legDistanceRemaining, returnType);
+      case "getRemainingStepDistance":
+        return convert(stepDistanceRemaining, returnType);
+      case "getRouteState":
+        return RouteState.TRACKING;
+      case "getInTunnel":
+        return false;
+      default:
+        return returnType.isPrimitive() ? convert(0, returnType) : null;
+    }
+  }
+
+  private static Object convert(double value, Class<?> returnType) {
+    if (returnType == boolean.class) {
+      return value != 0;
+    } else if (returnType == float.class) {
+      return (float) value;
+    } else if (returnType == int.class) {
+      return (int) value;
+    } else if (returnType == long.class) {
+      return (long) value;
+    }
+    return value;
+  }
+}
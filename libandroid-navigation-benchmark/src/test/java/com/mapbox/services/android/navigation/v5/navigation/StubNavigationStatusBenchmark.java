@@ -0,0 +1,43 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.navigator.NavigationStatus;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Baseline cost of reading a stubbed {@link NavigationStatus} once per tick, as done by
+ * {@link NavigationRouteProcessor}. Subtract it from {@link RouteProcessorBenchmark} results.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class StubNavigationStatusBenchmark {
+
+  private int tick;
+
+  @Benchmark
+  public void readStatus(RouteFixture fixture, Blackhole blackhole) {
+    NavigationStatus status = fixture.status(tick);
+    blackhole.consume(status.getLegIndex());
+    blackhole.consume(status.getStepIndex());
+    blackhole.consume(status.getRemainingLegDistance());
+    blackhole.consume(status.getRemainingStepDistance());
+    blackhole.consume(status.getInTunnel());
+    blackhole.consume(status.getVoiceInstruction());
+    tick = (tick + 1) % fixture.tickCount();
+  }
+}
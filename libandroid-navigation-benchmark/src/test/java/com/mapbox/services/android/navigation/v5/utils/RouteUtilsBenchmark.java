@@ -0,0 +1,54 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.services.android.navigation.v5.navigation.RouteFixture;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-tick cost of the {@link RouteUtils} instruction lookups done by the default milestones.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteUtilsBenchmark {
+
+  private final RouteUtils routeUtils = new RouteUtils();
+  private int tick;
+
+  @Benchmark
+  public BannerInstructions findCurrentBannerInstructions(RouteFixture fixture) {
+    RouteLegProgress legProgress = nextRouteProgress(fixture).currentLegProgress();
+    return routeUtils.findCurrentBannerInstructions(legProgress.currentStep(),
+      legProgress.currentStepProgress().distanceRemaining());
+  }
+
+  @Benchmark
+  public VoiceInstructions findCurrentVoiceInstructions(RouteFixture fixture) {
+    RouteLegProgress legProgress = nextRouteProgress(fixture).currentLegProgress();
+    return routeUtils.findCurrentVoiceInstructions(legProgress.currentStep(),
+      legProgress.currentStepProgress().distanceRemaining());
+  }
+
+  private RouteProgress nextRouteProgress(RouteFixture fixture) {
+    RouteProgress routeProgress = fixture.routeProgress(tick);
+    tick = (tick + 1) % fixture.tickCount();
+    return routeProgress;
+  }
+}
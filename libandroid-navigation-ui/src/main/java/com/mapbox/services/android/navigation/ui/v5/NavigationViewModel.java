@@ -297,7 +297,7 @@ public class NavigationViewModel extends AndroidViewModel {
     @Override
     public void onProgressChange(Location location, RouteProgress routeProgress) {
       NavigationViewModel.this.routeProgress = routeProgress;
-      instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress));
+      instructionModel.setValue(new InstructionModel(distanceFormatter, routeProgress, routeUtils));
       summaryModel.setValue(new SummaryModel(getApplication(), distanceFormatter, routeProgress, timeFormatType));
       navigationLocation.setValue(location);
     }
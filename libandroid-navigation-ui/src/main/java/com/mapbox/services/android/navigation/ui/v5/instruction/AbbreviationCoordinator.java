@@ -56,53 +56,51 @@ class AbbreviationCoordinator {
    * @return the properly abbreviated string that will fit in the TextView
    */
   String abbreviateBannerText(List<BannerComponentNode> bannerComponentNodes, TextView textView) {
-    String bannerText = join(bannerComponentNodes);
-
     if (abbreviations.isEmpty()) {
-      return bannerText;
+      return join(bannerComponentNodes);
     }
 
-    bannerText = abbreviateUntilTextFits(textView, bannerText, bannerComponentNodes);
+    abbreviateUntilTextFits(textView, bannerComponentNodes);
 
     abbreviations.clear();
-    return bannerText;
+    return join(bannerComponentNodes);
   }
 
-  private String abbreviateUntilTextFits(TextView textView, String startingText,
-                                         List<BannerComponentNode> bannerComponentNodes) {
-    int currAbbreviationPriority = 0;
+  /**
+   * Abbreviates one abbreviation priority after the other until the text fits, updating the width
+   * of the whole text with the difference each abbreviation makes, so the text is only measured
+   * once per component, and joined once it fits.
+   */
+  private void abbreviateUntilTextFits(TextView textView, List<BannerComponentNode> bannerComponentNodes) {
     int maxAbbreviationPriority = Collections.max(abbreviations.keySet());
-    String bannerText = startingText;
-
-    while (shouldKeepAbbreviating(textView, bannerText, currAbbreviationPriority, maxAbbreviationPriority)) {
-      List<Integer> indices = abbreviations.get(currAbbreviationPriority++);
-
-      boolean abbreviationPriorityExists = abbreviateAtAbbreviationPriority(bannerComponentNodes, indices);
+    int availableWidth = textView.getWidth();
+    float textWidth = measureBannerText(textView, bannerComponentNodes);
+
+    for (int abbreviationPriority = 0; textWidth >= availableWidth
+      && abbreviationPriority <= maxAbbreviationPriority; abbreviationPriority++) {
+      List<Integer> indices = abbreviations.get(abbreviationPriority);
+      if (indices == null) {
+        continue;
+      }
 
-      if (abbreviationPriorityExists) {
-        bannerText = join(bannerComponentNodes);
+      for (Integer index : indices) {
+        BannerComponentNode bannerComponentNode = bannerComponentNodes.get(index);
+        textWidth -= textViewUtils.measureText(textView, bannerComponentNode.toString());
+        abbreviate(bannerComponentNode);
+        textWidth += textViewUtils.measureText(textView, bannerComponentNode.toString());
       }
     }
-
-    return bannerText;
-  }
-
-  private boolean shouldKeepAbbreviating(TextView textView, String bannerText,
-                                         int currAbbreviationPriority, int maxAbbreviationPriority) {
-    return !textViewUtils.textFits(textView, bannerText) && currAbbreviationPriority <= maxAbbreviationPriority;
   }
 
-  private boolean abbreviateAtAbbreviationPriority(List<BannerComponentNode> bannerComponentNodes,
-                                                   List<Integer> indices) {
-    if (indices == null) {
-      return false;
+  private float measureBannerText(TextView textView, List<BannerComponentNode> bannerComponentNodes) {
+    if (bannerComponentNodes.isEmpty()) {
+      return 0f;
     }
-
-    for (Integer index : indices) {
-      abbreviate(bannerComponentNodes.get(index));
+    float textWidth = (bannerComponentNodes.size() - 1) * textViewUtils.measureText(textView, SINGLE_SPACE);
+    for (BannerComponentNode bannerComponentNode : bannerComponentNodes) {
+      textWidth += textViewUtils.measureText(textView, bannerComponentNode.toString());
     }
-
-    return true;
+    return textWidth;
   }
 
   private void abbreviate(BannerComponentNode bannerComponentNode) {
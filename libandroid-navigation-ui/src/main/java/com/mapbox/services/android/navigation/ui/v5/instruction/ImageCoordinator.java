@@ -1,6 +1,8 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
 import android.content.Context;
+import android.graphics.Bitmap;
+import android.support.annotation.Nullable;
 import android.text.Spannable;
 import android.text.SpannableString;
 import android.text.TextUtils;
@@ -10,12 +12,18 @@ import android.widget.TextView;
 import com.mapbox.api.directions.v5.models.BannerComponents;
 import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.ui.v5.instruction.InstructionLoader.BannerComponentNode;
 import com.squareup.picasso.Picasso;
 
+import java.io.File;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Utility class that can be used to load a given {@link BannerText} into the provided
@@ -29,12 +37,16 @@ import java.util.List;
  */
 public class ImageCoordinator {
 
+  private static final int MAXIMUM_SHIELD_CACHE_FRACTION = 64;
   private static ImageCoordinator instance;
   private boolean isInitialized;
   private Picasso picassoImageLoader;
   private List<InstructionTarget> targets;
   private UrlDensityMap urlDensityMap;
   private List<BannerShield> bannerShieldList;
+  private ShieldImageCache shieldImageCache;
+  private Set<String> prefetchedUrls;
+  private DirectionsRoute prefetchedRoute;
 
   private ImageCoordinator() {
   }
@@ -92,8 +104,43 @@ public class ImageCoordinator {
     fetchInstructions(legStep);
   }
 
+  /**
+   * Will pre-fetch the images of every step of the given {@link DirectionsRoute}, each distinct
+   * image once, so they are ready before the steps showing them are reached.
+   * <p>
+   * Pre-fetching the same route again does nothing.
+   *
+   * @param directionsRoute providing the image Urls
+   * @since 0.21.0
+   */
+  public void prefetchImageCache(DirectionsRoute directionsRoute) {
+    checkIsInitialized();
+    if (directionsRoute == null || directionsRoute == prefetchedRoute) {
+      return;
+    }
+    prefetchedRoute = directionsRoute;
+    prefetchedUrls.clear();
+    fetchImageUrls(collectImageUrls(directionsRoute));
+  }
+
+  /**
+   * Stores the loaded images in the given directory, and reads them back from it instead of
+   * downloading them again, across navigation sessions.
+   * <p>
+   * Images are only kept in memory by default.
+   *
+   * @param directory to store images in, or null to stop storing them
+   * @since 0.21.0
+   */
+  public void setShieldCacheDirectory(@Nullable File directory) {
+    checkIsInitialized();
+    shieldImageCache.updateDirectory(directory);
+  }
+
   public void shutdown() {
     targets.clear();
+    prefetchedUrls.clear();
+    prefetchedRoute = null;
   }
 
   /**
@@ -110,7 +157,13 @@ public class ImageCoordinator {
     }
 
     updateShieldUrlIndices(bannerComponentNodes);
-    createTargets(textView);
+    Spannable instructionSpannable = new SpannableString(textView.getText());
+    List<BannerShield> missingShields = setCachedShields(textView, instructionSpannable);
+    if (missingShields.size() < bannerShieldList.size()) {
+      textView.setText(InstructionTarget.truncateImageSpan(instructionSpannable, textView));
+    }
+    bannerShieldList.clear();
+    createTargets(textView, instructionSpannable, missingShields);
     loadTargets();
   }
 
@@ -123,6 +176,10 @@ public class ImageCoordinator {
     urlDensityMap = new UrlDensityMap(context);
     targets = new ArrayList<>();
     bannerShieldList = new ArrayList<>();
+    shieldImageCache = new ShieldImageCache(
+      (int) (Runtime.getRuntime().maxMemory() / MAXIMUM_SHIELD_CACHE_FRACTION)
+    );
+    prefetchedUrls = new HashSet<>();
   }
 
   private void fetchInstructions(LegStep legStep) {
@@ -131,15 +188,35 @@ public class ImageCoordinator {
       return;
     }
 
-    List<BannerInstructions> bannerInstructionList = new ArrayList<>(legStep.bannerInstructions());
-    for (BannerInstructions instructions : bannerInstructionList) {
-      if (hasComponents(instructions.primary())) {
-        fetchImageBaseUrls(instructions.primary());
+    Set<String> imageUrls = new LinkedHashSet<>();
+    collectImageUrls(legStep, imageUrls);
+    fetchImageUrls(imageUrls);
+  }
+
+  private Set<String> collectImageUrls(DirectionsRoute directionsRoute) {
+    Set<String> imageUrls = new LinkedHashSet<>();
+    if (directionsRoute.legs() == null) {
+      return imageUrls;
+    }
+    for (RouteLeg leg : directionsRoute.legs()) {
+      if (leg.steps() == null) {
+        continue;
       }
-      if (hasComponents(instructions.secondary())) {
-        fetchImageBaseUrls(instructions.secondary());
+      for (LegStep step : leg.steps()) {
+        collectImageUrls(step, imageUrls);
       }
     }
+    return imageUrls;
+  }
+
+  private void collectImageUrls(LegStep legStep, Set<String> imageUrls) {
+    if (legStep.bannerInstructions() == null) {
+      return;
+    }
+    for (BannerInstructions instructions : legStep.bannerInstructions()) {
+      collectImageUrls(instructions.primary(), imageUrls);
+      collectImageUrls(instructions.secondary(), imageUrls);
+    }
   }
 
   private void updateShieldUrlIndices(List<BannerComponentNode> bannerComponentNodes) {
@@ -157,15 +234,30 @@ public class ImageCoordinator {
   }
 
   /**
-   * Takes a given {@link BannerText} and fetches a valid
+   * Takes a given {@link BannerText} and collects a valid
    * imageBaseUrl if one is found.
    *
    * @param bannerText to provide the base URL
+   * @param imageUrls  collected so far
    */
-  private void fetchImageBaseUrls(BannerText bannerText) {
+  private void collectImageUrls(BannerText bannerText, Set<String> imageUrls) {
+    if (!hasComponents(bannerText)) {
+      return;
+    }
     for (BannerComponents components : bannerText.components()) {
       if (hasImageUrl(components)) {
-        picassoImageLoader.load(urlDensityMap.get(components.imageBaseUrl())).fetch();
+        imageUrls.add(components.imageBaseUrl());
+      }
+    }
+  }
+
+  /**
+   * Fetches each image not fetched yet, skipping the ones already stored on disk.
+   */
+  private void fetchImageUrls(Set<String> imageUrls) {
+    for (String imageUrl : imageUrls) {
+      if (prefetchedUrls.add(imageUrl) && shieldImageCache.retrieveStoredShield(imageUrl) == null) {
+        picassoImageLoader.load(urlDensityMap.get(imageUrl)).fetch();
       }
     }
   }
@@ -174,10 +266,28 @@ public class ImageCoordinator {
     return !TextUtils.isEmpty(components.imageBaseUrl());
   }
 
-  private void createTargets(TextView textView) {
-    Spannable instructionSpannable = new SpannableString(textView.getText());
-    for (final BannerShield bannerShield : bannerShieldList) {
-      targets.add(new InstructionTarget(textView, instructionSpannable, bannerShieldList, bannerShield,
+  /**
+   * Sets the shields already decoded at the line height of the given {@link TextView}.
+   *
+   * @return the shields still to be loaded
+   */
+  private List<BannerShield> setCachedShields(TextView textView, Spannable instructionSpannable) {
+    int lineHeight = textView.getLineHeight();
+    List<BannerShield> missingShields = new ArrayList<>();
+    for (BannerShield bannerShield : bannerShieldList) {
+      Bitmap shield = shieldImageCache.retrieveScaledShield(bannerShield.getUrl(), lineHeight);
+      if (shield == null) {
+        missingShields.add(bannerShield);
+      } else {
+        InstructionTarget.setImageSpan(textView, instructionSpannable, bannerShield, shield);
+      }
+    }
+    return missingShields;
+  }
+
+  private void createTargets(TextView textView, Spannable instructionSpannable, List<BannerShield> shields) {
+    for (final BannerShield bannerShield : shields) {
+      targets.add(new InstructionTarget(textView, instructionSpannable, bannerShield, shieldImageCache,
         new InstructionTarget.InstructionLoadedCallback() {
           @Override
           public void onInstructionLoaded(InstructionTarget target) {
@@ -185,13 +295,17 @@ public class ImageCoordinator {
           }
         }));
     }
-    bannerShieldList.clear();
   }
 
   private void loadTargets() {
     for (InstructionTarget target : new ArrayList<>(targets)) {
-      picassoImageLoader.load(urlDensityMap.get(target.getShield().getUrl()))
-        .into(target);
+      String url = target.getShield().getUrl();
+      File storedShield = shieldImageCache.retrieveStoredShield(url);
+      if (storedShield != null) {
+        picassoImageLoader.load(storedShield).into(target);
+      } else {
+        picassoImageLoader.load(urlDensityMap.get(url)).into(target);
+      }
     }
   }
 
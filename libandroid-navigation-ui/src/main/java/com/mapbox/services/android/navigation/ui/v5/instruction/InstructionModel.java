@@ -20,8 +20,21 @@ public class InstructionModel {
   private RouteUtils routeUtils;
 
   public InstructionModel(DistanceFormatter distanceFormatter, RouteProgress progress) {
+    this(distanceFormatter, progress, new RouteUtils());
+  }
+
+  /**
+   * Creates a model finding the banner instructions with the given {@link RouteUtils}. Reusing the
+   * same one for every progress update keeps the instructions of the current steps indexed.
+   *
+   * @param distanceFormatter for the step distance remaining
+   * @param progress          to build the model from
+   * @param routeUtils        shared between the models of consecutive progress updates
+   * @since 0.21.0
+   */
+  public InstructionModel(DistanceFormatter distanceFormatter, RouteProgress progress, RouteUtils routeUtils) {
     this.progress = progress;
-    routeUtils = new RouteUtils();
+    this.routeUtils = routeUtils;
     buildInstructionModel(distanceFormatter, progress);
   }
 
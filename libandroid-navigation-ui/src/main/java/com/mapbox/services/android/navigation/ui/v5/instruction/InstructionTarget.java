@@ -12,25 +12,22 @@ import android.widget.TextView;
 import com.squareup.picasso.Picasso;
 import com.squareup.picasso.Target;
 
-import java.util.List;
-
 import timber.log.Timber;
 
 public class InstructionTarget implements Target {
 
   private TextView textView;
   private Spannable instructionSpannable;
-  private List<BannerShield> shields;
   private BannerShield shield;
+  private ShieldImageCache shieldImageCache;
   private InstructionLoadedCallback instructionLoadedCallback;
 
-  InstructionTarget(TextView textView, Spannable instructionSpannable,
-                    List<BannerShield> shields, BannerShield shield,
-                    InstructionLoadedCallback instructionLoadedCallback) {
+  InstructionTarget(TextView textView, Spannable instructionSpannable, BannerShield shield,
+                    ShieldImageCache shieldImageCache, InstructionLoadedCallback instructionLoadedCallback) {
     this.textView = textView;
     this.instructionSpannable = instructionSpannable;
-    this.shields = shields;
     this.shield = shield;
+    this.shieldImageCache = shieldImageCache;
     this.instructionLoadedCallback = instructionLoadedCallback;
   }
 
@@ -40,8 +37,9 @@ public class InstructionTarget implements Target {
 
   @Override
   public void onBitmapLoaded(Bitmap bitmap, Picasso.LoadedFrom from) {
-    Drawable drawable = createDrawable(bitmap);
-    createAndSetImageSpan(drawable);
+    Bitmap scaledBitmap = shieldImageCache.putShield(shield.getUrl(), textView.getLineHeight(), bitmap);
+    setImageSpan(textView, instructionSpannable, shield, scaledBitmap);
+    textView.setText(truncateImageSpan(instructionSpannable, textView));
     sendInstructionLoadedCallback();
   }
 
@@ -65,22 +63,15 @@ public class InstructionTarget implements Target {
     textView.setText(shield.getText());
   }
 
-  private void createAndSetImageSpan(Drawable drawable) {
+  /**
+   * Sets the given shield, already scaled to the line height, in place of its text.
+   */
+  static void setImageSpan(TextView textView, Spannable instructionSpannable, BannerShield shield,
+                           Bitmap scaledBitmap) {
+    Drawable drawable = new BitmapDrawable(textView.getContext().getResources(), scaledBitmap);
+    drawable.setBounds(0, 0, scaledBitmap.getWidth(), scaledBitmap.getHeight());
     instructionSpannable.setSpan(new ImageSpan(drawable),
       shield.getStartIndex(), shield.getEndIndex(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
-
-    if (shields.indexOf(shield) == shields.size() - 1) {
-      CharSequence truncatedSequence = truncateImageSpan(instructionSpannable, textView);
-      textView.setText(truncatedSequence);
-    }
-  }
-
-  private Drawable createDrawable(Bitmap bitmap) {
-    Drawable drawable = new BitmapDrawable(textView.getContext().getResources(), bitmap);
-    int bottom = textView.getLineHeight();
-    int right = bottom * bitmap.getWidth() / bitmap.getHeight();
-    drawable.setBounds(0, 0, right, bottom);
-    return drawable;
   }
 
   private void sendInstructionLoadedCallback() {
@@ -89,7 +80,7 @@ public class InstructionTarget implements Target {
     }
   }
 
-  private static CharSequence truncateImageSpan(Spannable instructionSpannable, TextView textView) {
+  static CharSequence truncateImageSpan(Spannable instructionSpannable, TextView textView) {
     int availableSpace = textView.getWidth() - textView.getPaddingRight() - textView.getPaddingLeft();
     return TextUtils.ellipsize(instructionSpannable, textView.getPaint(), availableSpace, TextUtils.TruncateAt.END);
   }
@@ -32,6 +32,7 @@ import com.mapbox.api.directions.v5.models.BannerInstructions;
 import com.mapbox.api.directions.v5.models.BannerText;
 import com.mapbox.api.directions.v5.models.IntersectionLanes;
 import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.ui.v5.FeedbackButton;
 import com.mapbox.services.android.navigation.ui.v5.NavigationButton;
 import com.mapbox.services.android.navigation.ui.v5.NavigationViewModel;
@@ -56,6 +57,7 @@ import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 import com.mapbox.services.android.navigation.v5.utils.LocaleUtils;
 import com.mapbox.services.android.navigation.v5.utils.RouteUtils;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import timber.log.Timber;
@@ -98,10 +100,13 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
   private Animation rerouteSlideUpTop;
   private Animation rerouteSlideDownTop;
   private LegStep currentStep;
+  private RouteLeg currentLeg;
+  private RouteLeg preparedLeg;
   private NavigationViewModel navigationViewModel;
   private InstructionListListener instructionListListener;
 
   private DistanceFormatter distanceFormatter;
+  private RouteUtils routeUtils;
   private boolean isRerouting;
   private SoundButton soundButton;
   private FeedbackButton feedbackButton;
@@ -225,7 +230,7 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
   @Deprecated
   public void update(RouteProgress routeProgress) {
     if (routeProgress != null && !isRerouting) {
-      InstructionModel model = new InstructionModel(distanceFormatter, routeProgress);
+      InstructionModel model = new InstructionModel(distanceFormatter, routeProgress, routeUtils);
       updateDataFromInstruction(model);
       updateManeuverView(model.getManeuverType(), model.getManeuverModifier(), model.getRoundaboutAngle());
       updateDataFromBannerText(model.getPrimaryBannerText(), model.getSecondaryBannerText());
@@ -243,7 +248,7 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
    */
   public void updateDistanceWith(RouteProgress routeProgress) {
     if (routeProgress != null && !isRerouting) {
-      InstructionModel model = new InstructionModel(distanceFormatter, routeProgress);
+      InstructionModel model = new InstructionModel(distanceFormatter, routeProgress, routeUtils);
       updateDataFromInstruction(model);
     }
   }
@@ -401,6 +406,7 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
     String unitType = localeUtils.getUnitTypeForDeviceLocale(getContext());
     int roundingIncrement = NavigationConstants.ROUNDING_INCREMENT_FIFTY;
     distanceFormatter = new DistanceFormatter(getContext(), language, unitType, roundingIncrement);
+    routeUtils = new RouteUtils();
     inflate(getContext(), R.layout.instruction_view_layout, this);
   }
 
@@ -635,6 +641,39 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
     return newStep;
   }
 
+  /**
+   * Looks to see if we have a new leg.
+   *
+   * @param routeProgress provides updated leg information
+   * @return true if new leg, false if not
+   */
+  private boolean newLeg(RouteProgress routeProgress) {
+    RouteLeg leg = routeProgress.currentLeg();
+    boolean newLeg = currentLeg != leg;
+    currentLeg = leg;
+    return newLeg;
+  }
+
+  /**
+   * Draws the maneuvers of the current leg ahead of time, so they show up right away in the banner.
+   * Tried again on each update until the maneuver view is measured.
+   */
+  private void prepareLegManeuvers() {
+    if (currentLeg == null || currentLeg == preparedLeg) {
+      return;
+    }
+    List<BannerInstructions> legInstructions = new ArrayList<>();
+    for (LegStep step : currentLeg.steps()) {
+      List<BannerInstructions> stepInstructions = step.bannerInstructions();
+      if (stepInstructions != null) {
+        legInstructions.addAll(stepInstructions);
+      }
+    }
+    if (upcomingManeuverView.prepareManeuvers(legInstructions)) {
+      preparedLeg = currentLeg;
+    }
+  }
+
   /**
    * Looks for turn lane data and populates / shows the turn lane view if found.
    * If not, hides the turn lane view.
@@ -788,6 +827,10 @@ public class InstructionView extends RelativeLayout implements FeedbackBottomShe
       LegStep upComingStep = model.getProgress().currentLegProgress().upComingStep();
       ImageCoordinator.getInstance().prefetchImageCache(upComingStep);
     }
+    if (newLeg(model.getProgress())) {
+      ImageCoordinator.getInstance().prefetchImageCache(model.getProgress().directionsRoute());
+    }
+    prepareLegManeuvers();
   }
 
   /**
@@ -0,0 +1,219 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction;
+
+import android.graphics.Bitmap;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.LruCache;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+import timber.log.Timber;
+
+/**
+ * Shield images, kept decoded and scaled to the line height of the text they're shown in, so a
+ * shield seen before is shown right away, without creating a new {@link InstructionTarget}.
+ * <p>
+ * Optionally, the downloaded images are also stored in a directory, read back instead of
+ * downloading them again, across navigation sessions. The directory can be filled with local
+ * files, named with {@link #retrieveDiskFile(String)}, to show shields without a network. The
+ * files of the directory are listed once, in the background, when it is set: whether a shield is
+ * stored is then known without accessing the disk.
+ * <p>
+ * Used on the main thread; the directory is listed and files are written in the background.
+ */
+class ShieldImageCache {
+
+  private static final String PNG_EXTENSION = ".png";
+  private static final String SCHEME_SEPARATOR = "://";
+  private static final String INVALID_FILE_NAME_CHARACTERS = "[^a-zA-Z0-9._-]";
+  private static final String FILE_NAME_SEPARATOR = "_";
+  private static final char KEY_SEPARATOR = '|';
+  private static final int PNG_QUALITY = 100;
+  private final LruCache<String, Bitmap> scaledShields;
+  private final Executor executor;
+  // Names of the files stored in the directory, guarded by itself
+  private final Set<String> storedFileNames = new HashSet<>();
+  @Nullable
+  private volatile File directory;
+
+  ShieldImageCache(int maximumSizeInBytes) {
+    this(maximumSizeInBytes, Executors.newSingleThreadExecutor());
+  }
+
+  // Package private (no modifier) for testing purposes
+  ShieldImageCache(int maximumSizeInBytes, Executor executor) {
+    this.executor = executor;
+    scaledShields = new LruCache<String, Bitmap>(maximumSizeInBytes) {
+      @Override
+      protected int sizeOf(String key, Bitmap bitmap) {
+        return bitmap.getByteCount();
+      }
+    };
+  }
+
+  void updateDirectory(@Nullable final File directory) {
+    synchronized (storedFileNames) {
+      this.directory = directory;
+      storedFileNames.clear();
+    }
+    if (directory != null) {
+      executor.execute(new Runnable() {
+        @Override
+        public void run() {
+          indexDirectory(directory);
+        }
+      });
+    }
+  }
+
+  @Nullable
+  Bitmap retrieveScaledShield(String url, int lineHeight) {
+    return scaledShields.get(buildKey(url, lineHeight));
+  }
+
+  /**
+   * Scales a downloaded shield to the line height, keeps it and stores the original in the
+   * directory, if any.
+   *
+   * @param url        of the shield
+   * @param lineHeight of the text showing the shield
+   * @param shield     as downloaded
+   * @return the scaled shield
+   */
+  @NonNull
+  Bitmap putShield(String url, int lineHeight, Bitmap shield) {
+    Bitmap scaledShield = scale(shield, lineHeight);
+    scaledShields.put(buildKey(url, lineHeight), scaledShield);
+    File file = retrieveDiskFile(url);
+    if (file != null && !isStored(file)) {
+      executor.execute(new SaveShieldCommand(file, shield));
+    }
+    return scaledShield;
+  }
+
+  /**
+   * Returns the file where the given shield is stored, whether it exists or not.
+   *
+   * @param url of the shield
+   * @return the file, or null if there is no directory
+   */
+  @Nullable
+  File retrieveDiskFile(String url) {
+    File directory = this.directory;
+    if (directory == null) {
+      return null;
+    }
+    String path = url;
+    int schemeEnd = url.indexOf(SCHEME_SEPARATOR);
+    if (schemeEnd >= 0) {
+      path = url.substring(schemeEnd + SCHEME_SEPARATOR.length());
+    }
+    String fileName = path.replaceAll(INVALID_FILE_NAME_CHARACTERS, FILE_NAME_SEPARATOR) + PNG_EXTENSION;
+    return new File(directory, fileName);
+  }
+
+  /**
+   * @return the stored shield file, or null if it isn't stored
+   */
+  @Nullable
+  File retrieveStoredShield(String url) {
+    File file = retrieveDiskFile(url);
+    return file != null && isStored(file) ? file : null;
+  }
+
+  private boolean isStored(File file) {
+    synchronized (storedFileNames) {
+      return file.getParentFile().equals(directory) && storedFileNames.contains(file.getName());
+    }
+  }
+
+  private void indexDirectory(File directory) {
+    if (!directory.exists() && !directory.mkdirs()) {
+      Timber.e("Unable to create the shield cache directory %s", directory);
+      return;
+    }
+    File[] files = directory.listFiles();
+    if (files == null) {
+      return;
+    }
+    for (File file : files) {
+      if (file.getName().endsWith(PNG_EXTENSION)) {
+        addStoredFile(file);
+      }
+    }
+  }
+
+  private void addStoredFile(File file) {
+    synchronized (storedFileNames) {
+      // Ignored if the directory changed meanwhile
+      if (file.getParentFile().equals(directory)) {
+        storedFileNames.add(file.getName());
+      }
+    }
+  }
+
+  private static String buildKey(String url, int lineHeight) {
+    return url + KEY_SEPARATOR + lineHeight;
+  }
+
+  private static Bitmap scale(Bitmap shield, int lineHeight) {
+    if (lineHeight <= 0 || shield.getHeight() == lineHeight) {
+      return shield;
+    }
+    int width = Math.max(1, lineHeight * shield.getWidth() / shield.getHeight());
+    return Bitmap.createScaledBitmap(shield, width, lineHeight, true);
+  }
+
+  private class SaveShieldCommand implements Runnable {
+
+    private final File file;
+    private final Bitmap shield;
+
+    SaveShieldCommand(File file, Bitmap shield) {
+      this.file = file;
+      this.shield = shield;
+    }
+
+    @Override
+    public void run() {
+      File temporaryFile = new File(file.getPath() + ".tmp");
+      OutputStream outputStream = null;
+      try {
+        outputStream = new FileOutputStream(temporaryFile);
+        shield.compress(Bitmap.CompressFormat.PNG, PNG_QUALITY, outputStream);
+        outputStream.close();
+        outputStream = null;
+        if (temporaryFile.renameTo(file)) {
+          addStoredFile(file);
+        } else {
+          Timber.e("Unable to store the shield %s", file);
+        }
+      } catch (IOException exception) {
+        Timber.e(exception, "Unable to store the shield %s", file);
+      } finally {
+        closeQuietly(outputStream);
+        if (temporaryFile.exists() && !temporaryFile.delete()) {
+          Timber.e("Unable to delete %s", temporaryFile);
+        }
+      }
+    }
+
+    private void closeQuietly(@Nullable OutputStream outputStream) {
+      if (outputStream == null) {
+        return;
+      }
+      try {
+        outputStream.close();
+      } catch (IOException exception) {
+        Timber.e(exception);
+      }
+    }
+  }
+}
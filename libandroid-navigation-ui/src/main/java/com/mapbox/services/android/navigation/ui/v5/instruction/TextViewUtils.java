@@ -1,13 +1,71 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction;
 
 import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.support.v4.util.LruCache;
 import android.widget.TextView;
 
+/**
+ * Measures banner text, keeping the width of each text measured per typeface and text size, as
+ * the same components are measured for every banner and instruction list row showing them.
+ * <p>
+ * Only used on the main thread.
+ */
 class TextViewUtils {
 
-  boolean textFits(TextView textView, String text) {
-    Paint paint = new Paint(textView.getPaint());
-    float width = paint.measureText(text);
-    return width < textView.getWidth();
+  private static final int MAXIMUM_MEASURED_TEXTS = 512;
+  private static final LruCache<MeasuredText, Float> MEASURED_WIDTHS =
+    new LruCache<>(MAXIMUM_MEASURED_TEXTS);
+
+  /**
+   * Returns the width of the given text, drawn with the paint of the given {@link TextView}.
+   *
+   * @param textView providing the paint
+   * @param text     to measure
+   * @return the width in pixels
+   */
+  float measureText(TextView textView, String text) {
+    Paint paint = textView.getPaint();
+    MeasuredText measuredText = new MeasuredText(paint.getTypeface(), paint.getTextSize(), text);
+    Float width = MEASURED_WIDTHS.get(measuredText);
+    if (width == null) {
+      width = paint.measureText(text);
+      MEASURED_WIDTHS.put(measuredText, width);
+    }
+    return width;
+  }
+
+  private static class MeasuredText {
+
+    private final Typeface typeface;
+    private final float textSize;
+    private final String text;
+
+    MeasuredText(Typeface typeface, float textSize, String text) {
+      this.typeface = typeface;
+      this.textSize = textSize;
+      this.text = text;
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      if (this == object) {
+        return true;
+      }
+      if (!(object instanceof MeasuredText)) {
+        return false;
+      }
+      MeasuredText measuredText = (MeasuredText) object;
+      return Float.compare(textSize, measuredText.textSize) == 0
+        && text.equals(measuredText.text)
+        && (typeface == null ? measuredText.typeface == null : typeface.equals(measuredText.typeface));
+    }
+
+    @Override
+    public int hashCode() {
+      int result = typeface == null ? 0 : typeface.hashCode();
+      result = 31 * result + Float.floatToIntBits(textSize);
+      return 31 * result + text.hashCode();
+    }
   }
 }
@@ -0,0 +1,90 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.PointF;
+import android.support.annotation.NonNull;
+import android.support.v4.util.LruCache;
+import android.support.v4.util.Pair;
+
+/**
+ * Maneuvers drawn by {@link ManeuversStyleKit}, rasterized once per maneuver, roundabout angle,
+ * size and colors, so every {@link ManeuverView} showing the same maneuver draws the same bitmap.
+ * <p>
+ * Drawing with {@link ManeuversStyleKit} isn't thread safe, so this cache is only used on the main thread.
+ */
+class ManeuverBitmapCache {
+
+  private static final char KEY_SEPARATOR = '|';
+  private static final int ROUNDABOUT_ANGLE_INCREMENT = 5;
+  private static final float NO_ROUNDABOUT_ANGLE = 0f;
+  private final LruCache<String, Bitmap> bitmaps;
+  private final StringBuilder keyBuilder = new StringBuilder();
+
+  ManeuverBitmapCache(int maximumSizeInBytes) {
+    bitmaps = new LruCache<String, Bitmap>(maximumSizeInBytes) {
+      @Override
+      protected int sizeOf(String key, Bitmap bitmap) {
+        return bitmap.getByteCount();
+      }
+    };
+  }
+
+  /**
+   * Roundabouts are drawn with their angle rounded to the closest {@link #ROUNDABOUT_ANGLE_INCREMENT},
+   * as a few degrees don't make a visible difference but would each need their own bitmap.
+   *
+   * @param roundaboutAngle to round
+   * @return the angle the roundabout is drawn with
+   */
+  static float quantizeRoundaboutAngle(float roundaboutAngle) {
+    return Math.round(roundaboutAngle / ROUNDABOUT_ANGLE_INCREMENT) * ROUNDABOUT_ANGLE_INCREMENT;
+  }
+
+  /**
+   * Returns the maneuver rasterized with the given parameters, drawing it if it isn't cached yet.
+   *
+   * @param update              drawing the maneuver
+   * @param typeAndModifier     of the maneuver
+   * @param isRoundabout        if the roundabout angle is drawn
+   * @param roundaboutAngle     of roundabout maneuvers
+   * @param size                in pixels, both dimensions greater than zero
+   * @param primaryColor        of the maneuver
+   * @param secondaryColor      of the maneuver
+   * @return the rasterized maneuver
+   */
+  @NonNull
+  Bitmap retrieveBitmap(ManeuverViewUpdate update, Pair<String, String> typeAndModifier, boolean isRoundabout,
+                        float roundaboutAngle, PointF size, int primaryColor, int secondaryColor) {
+    float angle = isRoundabout ? quantizeRoundaboutAngle(roundaboutAngle) : NO_ROUNDABOUT_ANGLE;
+    String key = buildKey(typeAndModifier, angle, size, primaryColor, secondaryColor);
+    Bitmap bitmap = bitmaps.get(key);
+    if (bitmap == null) {
+      bitmap = drawBitmap(update, angle, size, primaryColor, secondaryColor);
+      bitmaps.put(key, bitmap);
+    }
+    return bitmap;
+  }
+
+  // Package private (no modifier) for testing purposes
+  Bitmap drawBitmap(ManeuverViewUpdate update, float roundaboutAngle, PointF size,
+                    int primaryColor, int secondaryColor) {
+    Bitmap bitmap = Bitmap.createBitmap((int) size.x, (int) size.y, Bitmap.Config.ARGB_8888);
+    update.updateManeuverView(new Canvas(bitmap), primaryColor, secondaryColor, size, roundaboutAngle);
+    return bitmap;
+  }
+
+  private String buildKey(Pair<String, String> typeAndModifier, float roundaboutAngle, PointF size,
+                          int primaryColor, int secondaryColor) {
+    keyBuilder.setLength(0);
+    return keyBuilder
+      .append(typeAndModifier.first).append(KEY_SEPARATOR)
+      .append(typeAndModifier.second).append(KEY_SEPARATOR)
+      .append(roundaboutAngle).append(KEY_SEPARATOR)
+      .append((int) size.x).append(KEY_SEPARATOR)
+      .append((int) size.y).append(KEY_SEPARATOR)
+      .append(primaryColor).append(KEY_SEPARATOR)
+      .append(secondaryColor)
+      .toString();
+  }
+}
@@ -1,6 +1,7 @@
 package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
 
 import android.content.Context;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
 import android.graphics.PointF;
 import android.support.annotation.Nullable;
@@ -9,10 +10,13 @@ import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.view.View;
 
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.BannerText;
 import com.mapbox.services.android.navigation.ui.v5.R;
 import com.mapbox.services.android.navigation.ui.v5.ThemeSwitcher;
 
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
@@ -44,6 +48,10 @@ public class ManeuverView extends View {
   private static final float TOP_ROUNDABOUT_ANGLE_LIMIT = 300f;
   private static final float BOTTOM_ROUNDABOUT_ANGLE_LIMIT = 60f;
   private static final float DEFAULT_ROUNDABOUT_ANGLE = 180f;
+  private static final int MAXIMUM_BITMAP_CACHE_FRACTION = 64;
+  private static final ManeuverBitmapCache BITMAP_CACHE = new ManeuverBitmapCache(
+    (int) (Runtime.getRuntime().maxMemory() / MAXIMUM_BITMAP_CACHE_FRACTION)
+  );
   private static final Map<Pair<String, String>, ManeuverViewUpdate> MANEUVER_VIEW_UPDATE_MAP = new ManeuverViewMap();
   private static final Set<String> SHOULD_FLIP_MODIFIERS = new HashSet<String>() {
     {
@@ -104,11 +112,7 @@ public class ManeuverView extends View {
     if (isNewTypeOrModifier(maneuverType, maneuverModifier)) {
       this.maneuverType = maneuverType;
       this.maneuverModifier = maneuverModifier;
-      if (checkManeuverTypeWithNullModifier(maneuverType)) {
-        return;
-      }
-      maneuverType = checkManeuverModifier(maneuverType, maneuverModifier);
-      maneuverTypeAndModifier = new Pair<>(maneuverType, maneuverModifier);
+      maneuverTypeAndModifier = buildTypeAndModifier(maneuverType, maneuverModifier);
       invalidate();
     }
   }
@@ -120,6 +124,37 @@ public class ManeuverView extends View {
     }
   }
 
+  /**
+   * Draws the maneuvers of the given instructions ahead of time, at the size and with the colors
+   * of this view, so they can be shown right away by any maneuver view of the same size.
+   * <p>
+   * Has no effect until this view has been measured.
+   *
+   * @param instructions with the maneuvers to draw, for instance the ones of the current leg
+   * @return true if the maneuvers were drawn, false if this view hasn't been measured yet
+   * @since 0.21.0
+   */
+  public boolean prepareManeuvers(List<BannerInstructions> instructions) {
+    if (!hasValidSize()) {
+      return false;
+    }
+    for (BannerInstructions instruction : instructions) {
+      BannerText primary = instruction.primary();
+      if (primary == null || primary.type() == null) {
+        continue;
+      }
+      Pair<String, String> typeAndModifier = buildTypeAndModifier(primary.type(), primary.modifier());
+      ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(typeAndModifier);
+      if (maneuverViewUpdate != null) {
+        Double degrees = primary.degrees();
+        float angle = degrees == null ? DEFAULT_ROUNDABOUT_ANGLE : limitRoundaboutAngle(degrees.floatValue());
+        BITMAP_CACHE.retrieveBitmap(maneuverViewUpdate, typeAndModifier,
+          ROUNDABOUT_MANEUVER_TYPES.contains(primary.type()), angle, size, primaryColor, secondaryColor);
+      }
+    }
+    return true;
+  }
+
   @Override
   protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
     super.onMeasure(widthMeasureSpec, heightMeasureSpec);
@@ -143,7 +178,11 @@ public class ManeuverView extends View {
     }
 
     ManeuverViewUpdate maneuverViewUpdate = MANEUVER_VIEW_UPDATE_MAP.get(maneuverTypeAndModifier);
-    if (maneuverViewUpdate != null) {
+    if (maneuverViewUpdate != null && hasValidSize()) {
+      Bitmap maneuverBitmap = BITMAP_CACHE.retrieveBitmap(maneuverViewUpdate, maneuverTypeAndModifier,
+        ROUNDABOUT_MANEUVER_TYPES.contains(maneuverType), roundaboutAngle, size, primaryColor, secondaryColor);
+      canvas.drawBitmap(maneuverBitmap, 0, 0, null);
+    } else if (maneuverViewUpdate != null) {
       maneuverViewUpdate.updateManeuverView(canvas, primaryColor, secondaryColor, size, roundaboutAngle);
     }
     boolean flip = SHOULD_FLIP_MODIFIERS.contains(maneuverModifier);
@@ -162,17 +201,19 @@ public class ManeuverView extends View {
       || !TextUtils.equals(this.maneuverModifier, maneuverModifier);
   }
 
-  private boolean checkManeuverTypeWithNullModifier(String maneuverType) {
+  private boolean hasValidSize() {
+    return size != null && size.x > 0 && size.y > 0;
+  }
+
+  private static Pair<String, String> buildTypeAndModifier(String maneuverType, String maneuverModifier) {
     if (MANEUVER_TYPES_WITH_NULL_MODIFIERS.contains(maneuverType)) {
-      maneuverTypeAndModifier = new Pair<>(maneuverType, null);
-      invalidate();
-      return true;
+      return new Pair<>(maneuverType, null);
     }
-    return false;
+    return new Pair<>(checkManeuverModifier(maneuverType, maneuverModifier), maneuverModifier);
   }
 
   @Nullable
-  private String checkManeuverModifier(String maneuverType, String maneuverModifier) {
+  private static String checkManeuverModifier(String maneuverType, String maneuverModifier) {
     if (!maneuverType.contentEquals(STEP_MANEUVER_TYPE_ARRIVE) && maneuverModifier != null) {
       maneuverType = null;
     }
@@ -180,28 +221,16 @@ public class ManeuverView extends View {
   }
 
   private void updateRoundaboutAngle(float roundaboutAngle) {
-    if (checkRoundaboutBottomLimit(roundaboutAngle)) {
-      return;
-    }
-    if (checkRoundaboutTopLimit(roundaboutAngle)) {
-      return;
-    }
-    this.roundaboutAngle = roundaboutAngle;
+    this.roundaboutAngle = limitRoundaboutAngle(roundaboutAngle);
   }
 
-  private boolean checkRoundaboutBottomLimit(float roundaboutAngle) {
+  private static float limitRoundaboutAngle(float roundaboutAngle) {
     if (roundaboutAngle < BOTTOM_ROUNDABOUT_ANGLE_LIMIT) {
-      this.roundaboutAngle = BOTTOM_ROUNDABOUT_ANGLE_LIMIT;
-      return true;
+      return BOTTOM_ROUNDABOUT_ANGLE_LIMIT;
     }
-    return false;
-  }
-
-  private boolean checkRoundaboutTopLimit(float roundaboutAngle) {
     if (roundaboutAngle > TOP_ROUNDABOUT_ANGLE_LIMIT) {
-      this.roundaboutAngle = TOP_ROUNDABOUT_ANGLE_LIMIT;
-      return true;
+      return TOP_ROUNDABOUT_ANGLE_LIMIT;
     }
-    return false;
+    return roundaboutAngle;
   }
 }
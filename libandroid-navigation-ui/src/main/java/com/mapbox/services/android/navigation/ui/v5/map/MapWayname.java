@@ -2,8 +2,10 @@ package com.mapbox.services.android.navigation.ui.v5.map;
 
 import android.graphics.Bitmap;
 import android.graphics.PointF;
+import android.support.annotation.Nullable;
 
 import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.style.layers.Layer;
 import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
@@ -24,6 +26,7 @@ class MapWayname {
   private MapLayerInteractor layerInteractor;
   private WaynameFeatureFinder featureInteractor;
   private MapPaddingAdjustor paddingAdjustor;
+  private WaynameRoadMatcher roadMatcher = new WaynameRoadMatcher();
   private boolean isAutoQueryEnabled;
   private boolean isVisible;
   private String wayname = "";
@@ -36,11 +39,20 @@ class MapWayname {
     this.paddingAdjustor = paddingAdjustor;
   }
 
-  void updateWaynameWithPoint(PointF point, SymbolLayer waynameLayer) {
-    if (!isAutoQueryEnabled || !isVisible) {
+  /**
+   * Queries the map for the road at the given point, unless the location is still on the road
+   * found last, in which case the wayname is already up to date.
+   *
+   * @param location     snapped to the route
+   * @param point        of the location on the screen
+   * @param waynameLayer showing the wayname
+   */
+  void updateWaynameWithPoint(Point location, PointF point, SymbolLayer waynameLayer) {
+    if (!isAutoQueryEnabled || !isVisible || roadMatcher.isOnRoad(location)) {
       return;
     }
     List<Feature> roads = findRoadLabelFeatures(point);
+    roadMatcher.updateRoad(findNamedRoad(roads));
     boolean shouldBeVisible = !roads.isEmpty();
     adjustWaynameVisibility(shouldBeVisible, waynameLayer);
     adjustMapPadding(shouldBeVisible);
@@ -58,6 +70,9 @@ class MapWayname {
 
   void updateWaynameVisibility(boolean isVisible, SymbolLayer waynameLayer) {
     this.isVisible = isVisible;
+    if (!isVisible) {
+      roadMatcher.updateRoad(null);
+    }
     adjustMapPadding(isVisible);
     if (checkWaynameVisibility(isVisible, waynameLayer)) {
       return;
@@ -67,6 +82,7 @@ class MapWayname {
 
   void updateWaynameQueryMap(boolean isEnabled) {
     isAutoQueryEnabled = isEnabled;
+    roadMatcher.updateRoad(null);
   }
 
   boolean isVisible() {
@@ -82,6 +98,15 @@ class MapWayname {
     return featureInteractor.queryRenderedFeatures(point, layerIds);
   }
 
+  @Nullable
+  private Feature findNamedRoad(List<Feature> roads) {
+    if (roads.isEmpty()) {
+      return null;
+    }
+    Feature roadFeature = roads.get(FIRST_ROAD_FEATURE);
+    return roadFeature.hasNonNullValueForProperty(NAME_PROPERTY) ? roadFeature : null;
+  }
+
   private void updateLayerWithRoadLabelFeatures(List<Feature> roads, SymbolLayer waynameLayer) {
     boolean isValidFeatureList = !roads.isEmpty();
     if (isValidFeatureList) {
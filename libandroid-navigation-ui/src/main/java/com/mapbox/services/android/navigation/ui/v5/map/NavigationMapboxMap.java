@@ -592,6 +592,7 @@ public class NavigationMapboxMap {
   private void updateMapWaynameWithLocation(Location location) {
     LatLng latLng = new LatLng(location);
     PointF mapPoint = mapboxMap.getProjection().toScreenLocation(latLng);
-    mapWayname.updateWaynameWithPoint(mapPoint, waynameLayer);
+    Point point = Point.fromLngLat(location.getLongitude(), location.getLatitude());
+    mapWayname.updateWaynameWithPoint(point, mapPoint, waynameLayer);
   }
 }
@@ -0,0 +1,66 @@
+package com.mapbox.services.android.navigation.ui.v5.map;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.Geometry;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.MultiLineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+import com.mapbox.turf.TurfMisc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Remembers the geometry of the last road found for the wayname, so the map doesn't need to be
+ * queried again while the location stays on that road.
+ */
+class WaynameRoadMatcher {
+
+  private static final double ROAD_TOLERANCE_IN_METERS = 10;
+  private static final int MINIMUM_LINE_SIZE = 2;
+  private List<List<Point>> roadLines = Collections.emptyList();
+
+  /**
+   * @param location to check
+   * @return true if the location is within the tolerance of the last road
+   */
+  boolean isOnRoad(Point location) {
+    for (List<Point> line : roadLines) {
+      Point pointOnLine = (Point) TurfMisc.nearestPointOnLine(location, line).geometry();
+      if (pointOnLine != null
+        && TurfMeasurement.distance(location, pointOnLine, TurfConstants.UNIT_METERS) <= ROAD_TOLERANCE_IN_METERS) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Remembers the given road, or forgets the last one if null.
+   *
+   * @param road found for the wayname
+   */
+  void updateRoad(@Nullable Feature road) {
+    List<List<Point>> lines = new ArrayList<>();
+    Geometry geometry = road == null ? null : road.geometry();
+    if (geometry instanceof LineString) {
+      addLine(lines, ((LineString) geometry).coordinates());
+    } else if (geometry instanceof MultiLineString) {
+      for (List<Point> line : ((MultiLineString) geometry).coordinates()) {
+        addLine(lines, line);
+      }
+    }
+    roadLines = lines;
+  }
+
+  private void addLine(List<List<Point>> lines, List<Point> line) {
+    if (line.size() >= MINIMUM_LINE_SIZE) {
+      lines.add(line);
+    }
+  }
+}
@@ -0,0 +1,103 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.content.Context;
+import android.graphics.drawable.Drawable;
+import android.support.annotation.ColorInt;
+import android.support.annotation.DrawableRes;
+import android.support.annotation.Nullable;
+import android.support.v7.content.res.AppCompatResources;
+
+import com.mapbox.mapboxsdk.style.expressions.Expression;
+import com.mapbox.mapboxsdk.style.layers.LineLayer;
+import com.mapbox.mapboxsdk.style.layers.Property;
+import com.mapbox.mapboxsdk.style.layers.PropertyFactory;
+import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
+
+import static com.mapbox.mapboxsdk.style.expressions.Expression.color;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.exponential;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.get;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.interpolate;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.match;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
+import static com.mapbox.mapboxsdk.style.expressions.Expression.zoom;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_KEY;
+
+/**
+ * Creates the layers and icons {@link NavigationMapRoute} draws the routes and their waypoints with.
+ */
+class MapRouteLayerProvider {
+
+  private static final String WAYPOINT_PROPERTY_KEY = "waypoint";
+  private static final String ORIGIN_MARKER_NAME = "originMarker";
+  private static final String DESTINATION_MARKER_NAME = "destinationMarker";
+
+  LineLayer initializeRouteShieldLayer(String layerId, String sourceId, float scale, @ColorInt int color) {
+    return new LineLayer(layerId, sourceId).withProperties(
+      PropertyFactory.lineCap(Property.LINE_CAP_ROUND),
+      PropertyFactory.lineJoin(Property.LINE_JOIN_ROUND),
+      PropertyFactory.lineWidth(interpolate(
+        exponential(1.5f), zoom(),
+        stop(10f, 7f),
+        stop(14f, 10.5f * scale),
+        stop(16.5f, 15.5f * scale),
+        stop(19f, 24f * scale),
+        stop(22f, 29f * scale)
+        )
+      ),
+      PropertyFactory.lineColor(color)
+    );
+  }
+
+  LineLayer initializeRouteLayer(String layerId, String sourceId, float scale, @ColorInt int defaultColor,
+                                 @ColorInt int moderateColor, @ColorInt int severeColor) {
+    return new LineLayer(layerId, sourceId).withProperties(
+      PropertyFactory.lineCap(Property.LINE_CAP_ROUND),
+      PropertyFactory.lineJoin(Property.LINE_JOIN_ROUND),
+      PropertyFactory.lineWidth(interpolate(
+        exponential(1.5f), zoom(),
+        stop(4f, 3f * scale),
+        stop(10f, 4f * scale),
+        stop(13f, 6f * scale),
+        stop(16f, 10f * scale),
+        stop(19f, 14f * scale),
+        stop(22f, 18f * scale)
+        )
+      ),
+      PropertyFactory.lineColor(match(
+        Expression.toString(get(CONGESTION_KEY)),
+        color(defaultColor),
+        stop("moderate", color(moderateColor)),
+        stop("heavy", color(severeColor)),
+        stop("severe", color(severeColor))
+        )
+      )
+    );
+  }
+
+  SymbolLayer initializeWaypointLayer(String layerId, String sourceId) {
+    return new SymbolLayer(layerId, sourceId).withProperties(
+      PropertyFactory.iconImage(match(
+        Expression.toString(get(WAYPOINT_PROPERTY_KEY)), literal(ORIGIN_MARKER_NAME),
+        stop("origin", literal(ORIGIN_MARKER_NAME)),
+        stop("destination", literal(DESTINATION_MARKER_NAME))
+        )
+      ),
+      PropertyFactory.iconSize(interpolate(
+        exponential(1.5f), zoom(),
+        stop(22f, 2.8f),
+        stop(12f, 1.3f),
+        stop(10f, 0.8f),
+        stop(0f, 0.6f)
+      )),
+      PropertyFactory.iconPitchAlignment(Property.ANCHOR_MAP),
+      PropertyFactory.iconAllowOverlap(true),
+      PropertyFactory.iconIgnorePlacement(true)
+    );
+  }
+
+  @Nullable
+  Drawable initializeWaypointDrawable(Context context, @DrawableRes int drawableRes) {
+    return AppCompatResources.getDrawable(context, drawableRes);
+  }
+}
@@ -5,12 +5,15 @@ import android.location.Location;
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.services.android.navigation.v5.routeprogress.ProgressChangeListener;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.utils.RouteFingerprint;
 
 import java.util.List;
 
 class MapRouteProgressChangeListener implements ProgressChangeListener {
 
   private final NavigationMapRoute mapRoute;
+  private DirectionsRoute fingerprintedRoute;
+  private long fingerprint;
 
   MapRouteProgressChangeListener(NavigationMapRoute mapRoute) {
     this.mapRoute = mapRoute;
@@ -18,23 +21,35 @@ class MapRouteProgressChangeListener implements ProgressChangeListener {
 
   @Override
   public void onProgressChange(Location location, RouteProgress routeProgress) {
-    DirectionsRoute currentRoute = routeProgress.directionsRoute();
     List<DirectionsRoute> directionsRoutes = mapRoute.retrieveDirectionsRoutes();
     int primaryRouteIndex = mapRoute.retrievePrimaryRouteIndex();
-    addNewRoute(currentRoute, directionsRoutes, primaryRouteIndex);
+    addNewRoute(routeProgress, directionsRoutes, primaryRouteIndex);
     mapRoute.addUpcomingManeuverArrow(routeProgress);
   }
 
-  private void addNewRoute(DirectionsRoute currentRoute, List<DirectionsRoute> directionsRoutes,
+  private void addNewRoute(RouteProgress routeProgress, List<DirectionsRoute> directionsRoutes,
                            int primaryRouteIndex) {
-    if (isANewRoute(currentRoute, directionsRoutes, primaryRouteIndex)) {
-      mapRoute.addRoute(currentRoute);
+    if (isANewRoute(routeProgress, directionsRoutes, primaryRouteIndex)) {
+      mapRoute.addRoute(routeProgress.directionsRoute());
     }
   }
 
-  private boolean isANewRoute(DirectionsRoute currentRoute, List<DirectionsRoute> directionsRoutes,
+  private boolean isANewRoute(RouteProgress routeProgress, List<DirectionsRoute> directionsRoutes,
                               int primaryRouteIndex) {
     boolean noRoutes = directionsRoutes.isEmpty();
-    return noRoutes || !currentRoute.equals(directionsRoutes.get(primaryRouteIndex));
+    if (noRoutes) {
+      return true;
+    }
+    DirectionsRoute primaryRoute = directionsRoutes.get(primaryRouteIndex);
+    return routeProgress.directionsRoute() != primaryRoute
+      && routeProgress.routeFingerprint() != retrieveFingerprint(primaryRoute);
+  }
+
+  private long retrieveFingerprint(DirectionsRoute primaryRoute) {
+    if (primaryRoute != fingerprintedRoute) {
+      fingerprintedRoute = primaryRoute;
+      fingerprint = RouteFingerprint.from(primaryRoute);
+    }
+    return fingerprint;
   }
 }
@@ -18,8 +18,8 @@ import android.support.v4.graphics.drawable.DrawableCompat;
 import android.support.v7.content.res.AppCompatResources;
 
 import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
-import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.Feature;
 import com.mapbox.geojson.FeatureCollection;
 import com.mapbox.geojson.LineString;
@@ -53,11 +53,9 @@ import java.util.List;
 import java.util.Locale;
 
 import static com.mapbox.mapboxsdk.style.expressions.Expression.color;
-import static com.mapbox.mapboxsdk.style.expressions.Expression.exponential;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.get;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.interpolate;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.linear;
-import static com.mapbox.mapboxsdk.style.expressions.Expression.literal;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.match;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.step;
 import static com.mapbox.mapboxsdk.style.expressions.Expression.stop;
@@ -88,15 +86,15 @@ import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
 public class NavigationMapRoute implements MapView.OnMapChangedListener,
   MapboxMap.OnMapClickListener, LifecycleObserver {
 
-  private static final String CONGESTION_KEY = "congestion";
-  private static final String SOURCE_KEY = "source";
-  private static final String INDEX_KEY = "index";
+  static final String CONGESTION_KEY = "congestion";
+  static final String SOURCE_KEY = "source";
+  static final String INDEX_KEY = "index";
 
-  private static final String GENERIC_ROUTE_SOURCE_ID = "mapbox-navigation-route-source";
+  static final String GENERIC_ROUTE_SOURCE_ID = "mapbox-navigation-route-source";
   private static final String GENERIC_ROUTE_LAYER_ID = "mapbox-navigation-route-layer";
   private static final String WAYPOINT_SOURCE_ID = "mapbox-navigation-waypoint-source";
   private static final String WAYPOINT_LAYER_ID = "mapbox-navigation-waypoint-layer";
-  private static final String ID_FORMAT = "%s-%d";
+  static final String ID_FORMAT = "%s-%d";
   private static final String GENERIC_ROUTE_SHIELD_LAYER_ID = "mapbox-navigation-route-shield-layer";
   private static final int TWO_POINTS = 2;
   private static final int THIRTY = 30;
@@ -161,6 +159,9 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   private final List<DirectionsRoute> directionsRoutes;
   private final List<String> layerIds;
   private final MapView mapView;
+  private final MapRouteLayerProvider layerProvider;
+  private final RouteFeatureCollectionBuilder featureCollectionBuilder;
+  private RouteFeatureCollectionTask featureCollectionTask;
   private int primaryRouteIndex;
   private float routeScale;
   private float alternativeRouteScale;
@@ -172,6 +173,7 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   private GeoJsonSource arrowHeadGeoJsonSource;
   private Feature arrowShaftGeoJsonFeature = Feature.fromGeometry(Point.fromLngLat(0, 0));
   private Feature arrowHeadGeoJsonFeature = Feature.fromGeometry(Point.fromLngLat(0, 0));
+  private LegStep arrowUpcomingStep;
   private ProgressChangeListener progressChangeListener = new MapRouteProgressChangeListener(this);
 
   /**
@@ -254,11 +256,21 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   public NavigationMapRoute(@Nullable MapboxNavigation navigation, @NonNull MapView mapView,
                             @NonNull MapboxMap mapboxMap, @StyleRes int styleRes,
                             @Nullable String belowLayer) {
+    this(navigation, mapView, mapboxMap, styleRes, belowLayer, new MapRouteLayerProvider(),
+      new RouteFeatureCollectionBuilder());
+  }
+
+  // Package private (no modifier) for testing purposes
+  NavigationMapRoute(@Nullable MapboxNavigation navigation, @NonNull MapView mapView,
+                     @NonNull MapboxMap mapboxMap, @StyleRes int styleRes, @Nullable String belowLayer,
+                     MapRouteLayerProvider layerProvider, RouteFeatureCollectionBuilder featureCollectionBuilder) {
     this.styleRes = styleRes;
     this.mapView = mapView;
     this.mapboxMap = mapboxMap;
     this.navigation = navigation;
     this.belowLayer = belowLayer;
+    this.layerProvider = layerProvider;
+    this.featureCollectionBuilder = featureCollectionBuilder;
     featureCollections = new ArrayList<>();
     directionsRoutes = new ArrayList<>();
     routeLineStrings = new HashMap<>();
@@ -284,6 +296,10 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
    * Provide a list of {@link DirectionsRoute}s, the primary route will default to the first route
    * in the directions route list. All other routes in the list will be drawn on the map using the
    * alternative route style.
+   * <p>
+   * The routes are built on a background thread and drawn once they're ready, so they don't show
+   * on the map right after this call. Changes made meanwhile, like hiding the alternative routes
+   * with {@link #showAlternativeRoutes(boolean)}, are applied once the routes are drawn.
    *
    * @param directionsRoutes a list of direction routes, first one being the primary and the rest of
    *                         the routes are considered alternatives.
@@ -294,9 +310,7 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
     this.directionsRoutes.addAll(directionsRoutes);
     primaryRouteIndex = 0;
     alternativesVisible = directionsRoutes.size() > 1;
-    generateFeatureCollectionList(directionsRoutes);
-    drawRoutes();
-    addDirectionWaypoints();
+    buildFeatureCollections(directionsRoutes);
   }
 
   /**
@@ -348,6 +362,12 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
     }
     updateArrowLayersVisibilityTo(true);
 
+    LegStep upcomingStep = routeProgress.currentLegProgress().upComingStep();
+    if (upcomingStep != null && upcomingStep == arrowUpcomingStep) {
+      return;
+    }
+    arrowUpcomingStep = upcomingStep;
+
     List<Point> maneuverPoints = obtainArrowPointsFrom(routeProgress);
 
     updateArrowShaftWith(maneuverPoints);
@@ -416,16 +436,36 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   }
 
   private void clearRoutes() {
+    cancelFeatureCollectionTask();
     removeLayerIds();
     updateArrowLayersVisibilityTo(false);
     clearRouteListData();
   }
 
-  private void generateFeatureCollectionList(List<DirectionsRoute> directionsRoutes) {
-    // Each route contains traffic information and should be recreated considering this traffic
-    // information.
-    for (int i = 0; i < directionsRoutes.size(); i++) {
-      featureCollections.add(addTrafficToSource(directionsRoutes.get(i), i));
+  /**
+   * Each route contains traffic information and is built, considering this traffic information,
+   * on a background thread. The routes are drawn once all of them have been built.
+   */
+  private void buildFeatureCollections(List<DirectionsRoute> directionsRoutes) {
+    featureCollectionTask = featureCollectionBuilder.buildInBackground(new ArrayList<>(directionsRoutes),
+      new RouteFeatureCollectionTask.Listener() {
+        @Override
+        public void onFeatureCollectionsBuilt(@NonNull List<FeatureCollection> routeFeatureCollections) {
+          featureCollectionTask = null;
+          addFeatureCollections(routeFeatureCollections);
+          drawRoutes();
+          addDirectionWaypoints();
+          toggleAlternativeVisibility(alternativesVisible);
+        }
+      });
+  }
+
+  private void addFeatureCollections(List<FeatureCollection> routeFeatureCollections) {
+    for (int i = 0; i < routeFeatureCollections.size(); i++) {
+      FeatureCollection routeFeatureCollection = routeFeatureCollections.get(i);
+      featureCollections.add(routeFeatureCollection);
+      LineString routeGeometry = (LineString) routeFeatureCollection.features().get(0).geometry();
+      routeLineStrings.put(routeGeometry, directionsRoutes.get(i));
     }
 
     // Add the waypoint geometries to represent them as an icon
@@ -434,6 +474,13 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
     );
   }
 
+  private void cancelFeatureCollectionTask() {
+    if (featureCollectionTask != null) {
+      featureCollectionTask.cancel(false);
+      featureCollectionTask = null;
+    }
+  }
+
   /**
    * The routes also display an icon for each waypoint in the route, we use symbol layers for this.
    */
@@ -447,11 +494,14 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   }
 
   private void addDirectionWaypoints() {
+    if (featureCollections.isEmpty()) {
+      return;
+    }
     MapUtils.updateMapSourceFromFeatureCollection(
       mapboxMap, featureCollections.get(featureCollections.size() - 1), WAYPOINT_SOURCE_ID);
     drawWaypointMarkers(mapboxMap,
-      AppCompatResources.getDrawable(mapView.getContext(), originWaypointIcon),
-      AppCompatResources.getDrawable(mapView.getContext(), destinationWaypointIcon)
+      layerProvider.initializeWaypointDrawable(mapView.getContext(), originWaypointIcon),
+      layerProvider.initializeWaypointDrawable(mapView.getContext(), destinationWaypointIcon)
     );
   }
 
@@ -496,6 +546,7 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
   }
 
   private void initializeUpcomingManeuverArrow() {
+    arrowUpcomingStep = null;
     arrowShaftGeoJsonSource = (GeoJsonSource) mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID);
     arrowHeadGeoJsonSource = (GeoJsonSource) mapboxMap.getSource(ARROW_HEAD_SOURCE_ID);
 
@@ -712,29 +763,12 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
    * Add the route layer to the map either using the custom style values or the default.
    */
   private void addRouteLayer(String layerId, String sourceId, int index) {
-    float scale = index == primaryRouteIndex ? routeScale : alternativeRouteScale;
-    Layer routeLayer = new LineLayer(layerId, sourceId).withProperties(
-      PropertyFactory.lineCap(Property.LINE_CAP_ROUND),
-      PropertyFactory.lineJoin(Property.LINE_JOIN_ROUND),
-      PropertyFactory.lineWidth(interpolate(
-        exponential(1.5f), zoom(),
-        stop(4f, 3f * scale),
-        stop(10f, 4f * scale),
-        stop(13f, 6f * scale),
-        stop(16f, 10f * scale),
-        stop(19f, 14f * scale),
-        stop(22f, 18f * scale)
-        )
-      ),
-      PropertyFactory.lineColor(match(
-        Expression.toString(get(CONGESTION_KEY)),
-        color(index == primaryRouteIndex ? routeDefaultColor : alternativeRouteDefaultColor),
-        stop("moderate", color(index == primaryRouteIndex ? routeModerateColor : alternativeRouteModerateColor)),
-        stop("heavy", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor)),
-        stop("severe", color(index == primaryRouteIndex ? routeSevereColor : alternativeRouteSevereColor))
-        )
-      )
-    );
+    boolean isPrimary = index == primaryRouteIndex;
+    float scale = isPrimary ? routeScale : alternativeRouteScale;
+    Layer routeLayer = layerProvider.initializeRouteLayer(layerId, sourceId, scale,
+      isPrimary ? routeDefaultColor : alternativeRouteDefaultColor,
+      isPrimary ? routeModerateColor : alternativeRouteModerateColor,
+      isPrimary ? routeSevereColor : alternativeRouteSevereColor);
     MapUtils.addLayerToMap(mapboxMap, routeLayer, belowLayer);
   }
 
@@ -763,21 +797,8 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
    */
   private void addRouteShieldLayer(String layerId, String sourceId, int index) {
     float scale = index == primaryRouteIndex ? routeScale : alternativeRouteScale;
-    Layer routeLayer = new LineLayer(layerId, sourceId).withProperties(
-      PropertyFactory.lineCap(Property.LINE_CAP_ROUND),
-      PropertyFactory.lineJoin(Property.LINE_JOIN_ROUND),
-      PropertyFactory.lineWidth(interpolate(
-        exponential(1.5f), zoom(),
-        stop(10f, 7f),
-        stop(14f, 10.5f * scale),
-        stop(16.5f, 15.5f * scale),
-        stop(19f, 24f * scale),
-        stop(22f, 29f * scale)
-        )
-      ),
-      PropertyFactory.lineColor(
-        index == primaryRouteIndex ? routeShieldColor : alternativeRouteShieldColor)
-    );
+    Layer routeLayer = layerProvider.initializeRouteShieldLayer(layerId, sourceId, scale,
+      index == primaryRouteIndex ? routeShieldColor : alternativeRouteShieldColor);
     MapUtils.addLayerToMap(mapboxMap, routeLayer, belowLayer);
   }
 
@@ -864,24 +885,7 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
       bitmap = MapImageUtils.getBitmapFromDrawable(destinationMarker);
       mapboxMap.addImage("destinationMarker", bitmap);
 
-      waypointLayer = new SymbolLayer(WAYPOINT_LAYER_ID, WAYPOINT_SOURCE_ID).withProperties(
-        PropertyFactory.iconImage(match(
-          Expression.toString(get("waypoint")), literal("originMarker"),
-          stop("origin", literal("originMarker")),
-          stop("destination", literal("destinationMarker"))
-          )
-        ),
-        PropertyFactory.iconSize(interpolate(
-          exponential(1.5f), zoom(),
-          stop(22f, 2.8f),
-          stop(12f, 1.3f),
-          stop(10f, 0.8f),
-          stop(0f, 0.6f)
-        )),
-        PropertyFactory.iconPitchAlignment(Property.ANCHOR_MAP),
-        PropertyFactory.iconAllowOverlap(true),
-        PropertyFactory.iconIgnorePlacement(true)
-      );
+      waypointLayer = layerProvider.initializeWaypointLayer(WAYPOINT_LAYER_ID, WAYPOINT_SOURCE_ID);
       layerIds.add(WAYPOINT_LAYER_ID);
       MapUtils.addLayerToMap(mapboxMap, waypointLayer, belowLayer);
     }
@@ -1050,55 +1054,4 @@ public class NavigationMapRoute implements MapView.OnMapChangedListener,
       navigation.removeProgressChangeListener(progressChangeListener);
     }
   }
-
-  /**
-   * If the {@link DirectionsRoute} request contains congestion information via annotations, breakup
-   * the source into pieces so data-driven styling can be used to change the route colors
-   * accordingly.
-   */
-  private FeatureCollection addTrafficToSource(DirectionsRoute route, int index) {
-    final List<Feature> features = new ArrayList<>();
-    LineString originalGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    buildRouteFeatureFromGeometry(index, features, originalGeometry);
-    routeLineStrings.put(originalGeometry, route);
-
-    LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
-    buildTrafficFeaturesFromRoute(route, index, features, lineString);
-    return FeatureCollection.fromFeatures(features);
-  }
-
-  private void buildRouteFeatureFromGeometry(int index, List<Feature> features, LineString originalGeometry) {
-    Feature feat = Feature.fromGeometry(originalGeometry);
-    feat.addStringProperty(SOURCE_KEY, String.format(Locale.US, ID_FORMAT, GENERIC_ROUTE_SOURCE_ID, index));
-    feat.addNumberProperty(INDEX_KEY, index);
-    features.add(feat);
-  }
-
-  private void buildTrafficFeaturesFromRoute(DirectionsRoute route, int index,
-                                             List<Feature> features, LineString lineString) {
-    for (RouteLeg leg : route.legs()) {
-      if (leg.annotation() != null && leg.annotation().congestion() != null) {
-        for (int i = 0; i < leg.annotation().congestion().size(); i++) {
-          // See https://github.com/mapbox/mapbox-navigation-android/issues/353
-          if (leg.annotation().congestion().size() + 1 <= lineString.coordinates().size()) {
-
-            List<Point> points = new ArrayList<>();
-            points.add(lineString.coordinates().get(i));
-            points.add(lineString.coordinates().get(i + 1));
-
-            LineString congestionLineString = LineString.fromLngLats(points);
-            Feature feature = Feature.fromGeometry(congestionLineString);
-            feature.addStringProperty(CONGESTION_KEY, leg.annotation().congestion().get(i));
-            feature.addStringProperty(SOURCE_KEY, String.format(Locale.US, ID_FORMAT,
-              GENERIC_ROUTE_SOURCE_ID, index));
-            feature.addNumberProperty(INDEX_KEY, index);
-            features.add(feature);
-          }
-        }
-      } else {
-        Feature feature = Feature.fromGeometry(lineString);
-        features.add(feature);
-      }
-    }
-  }
 }
\ No newline at end of file
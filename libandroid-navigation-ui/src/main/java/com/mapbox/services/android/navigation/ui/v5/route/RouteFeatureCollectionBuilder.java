@@ -0,0 +1,112 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegAnnotation;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.CONGESTION_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.GENERIC_ROUTE_SOURCE_ID;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.ID_FORMAT;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.INDEX_KEY;
+import static com.mapbox.services.android.navigation.ui.v5.route.NavigationMapRoute.SOURCE_KEY;
+
+/**
+ * Builds the {@link FeatureCollection} drawn by {@link NavigationMapRoute} for a single route.
+ * <p>
+ * The first feature holds the whole route geometry. It's followed by one feature per run of
+ * consecutive segments sharing the same congestion level, so the number of features grows with the
+ * number of congestion changes rather than with the number of segments in the route.
+ */
+class RouteFeatureCollectionBuilder {
+
+  private static final int FIRST_SEGMENT = 0;
+  private static final int ONE_COORDINATE = 1;
+
+  @NonNull
+  FeatureCollection build(DirectionsRoute route, int index) {
+    List<Feature> features = new ArrayList<>();
+    String sourceId = String.format(Locale.US, ID_FORMAT, GENERIC_ROUTE_SOURCE_ID, index);
+    LineString routeGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    Feature routeFeature = Feature.fromGeometry(routeGeometry);
+    routeFeature.addStringProperty(SOURCE_KEY, sourceId);
+    routeFeature.addNumberProperty(INDEX_KEY, index);
+    features.add(routeFeature);
+    buildCongestionFeatures(route, routeGeometry.coordinates(), sourceId, index, features);
+    return FeatureCollection.fromFeatures(features);
+  }
+
+  /**
+   * Builds the feature collections of all the given routes on a background thread.
+   *
+   * @param routes   to build, the index of each being its position in the list
+   * @param listener notified on the main thread with the feature collections, in the same order
+   * @return the running task, to cancel it if the routes are replaced
+   */
+  @NonNull
+  RouteFeatureCollectionTask buildInBackground(List<DirectionsRoute> routes,
+                                               RouteFeatureCollectionTask.Listener listener) {
+    RouteFeatureCollectionTask task = new RouteFeatureCollectionTask(routes, this, listener);
+    task.execute();
+    return task;
+  }
+
+  /**
+   * Each leg annotation is indexed from the first coordinate of its leg, the legs following each other
+   * in the route geometry and sharing their waypoint coordinate.
+   */
+  private void buildCongestionFeatures(DirectionsRoute route, List<Point> coordinates, String sourceId,
+                                       int index, List<Feature> features) {
+    int legOffset = 0;
+    for (RouteLeg leg : route.legs()) {
+      List<String> congestion = retrieveCongestion(leg);
+      if (congestion == null || congestion.isEmpty()) {
+        // Following legs can't be located without the amount of segments in this one
+        return;
+      }
+      // See https://github.com/mapbox/mapbox-navigation-android/issues/353
+      boolean isValidLegAnnotation = legOffset + congestion.size() + ONE_COORDINATE <= coordinates.size();
+      if (!isValidLegAnnotation) {
+        return;
+      }
+      int runStart = FIRST_SEGMENT;
+      for (int segment = runStart + 1; segment <= congestion.size(); segment++) {
+        boolean isEndOfRun = segment == congestion.size()
+          || !isSameCongestion(congestion.get(runStart), congestion.get(segment));
+        if (isEndOfRun) {
+          List<Point> runCoordinates = new ArrayList<>(
+            coordinates.subList(legOffset + runStart, legOffset + segment + ONE_COORDINATE)
+          );
+          Feature feature = Feature.fromGeometry(LineString.fromLngLats(runCoordinates));
+          feature.addStringProperty(CONGESTION_KEY, congestion.get(runStart));
+          feature.addStringProperty(SOURCE_KEY, sourceId);
+          feature.addNumberProperty(INDEX_KEY, index);
+          features.add(feature);
+          runStart = segment;
+        }
+      }
+      legOffset += congestion.size();
+    }
+  }
+
+  @Nullable
+  private List<String> retrieveCongestion(RouteLeg leg) {
+    LegAnnotation annotation = leg.annotation();
+    return annotation == null ? null : annotation.congestion();
+  }
+
+  private boolean isSameCongestion(@Nullable String congestion, @Nullable String otherCongestion) {
+    return congestion == null ? otherCongestion == null : congestion.equals(otherCongestion);
+  }
+}
@@ -0,0 +1,49 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.os.AsyncTask;
+import android.support.annotation.NonNull;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.geojson.FeatureCollection;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Builds the route feature collections of {@link NavigationMapRoute} off the main thread.
+ */
+class RouteFeatureCollectionTask extends AsyncTask<Void, Void, List<FeatureCollection>> {
+
+  private final List<DirectionsRoute> routes;
+  private final RouteFeatureCollectionBuilder builder;
+  private final Listener listener;
+
+  RouteFeatureCollectionTask(List<DirectionsRoute> routes, RouteFeatureCollectionBuilder builder,
+                             Listener listener) {
+    this.routes = routes;
+    this.builder = builder;
+    this.listener = listener;
+  }
+
+  @Override
+  protected List<FeatureCollection> doInBackground(Void... voids) {
+    List<FeatureCollection> featureCollections = new ArrayList<>(routes.size());
+    for (int i = 0; i < routes.size(); i++) {
+      if (isCancelled()) {
+        break;
+      }
+      featureCollections.add(builder.build(routes.get(i), i));
+    }
+    return featureCollections;
+  }
+
+  @Override
+  protected void onPostExecute(List<FeatureCollection> featureCollections) {
+    listener.onFeatureCollectionsBuilt(featureCollections);
+  }
+
+  interface Listener {
+
+    void onFeatureCollectionsBuilt(@NonNull List<FeatureCollection> featureCollections);
+  }
+}
@@ -7,6 +7,7 @@ import android.support.annotation.NonNull;
 import android.support.v4.util.Pair;
 import android.text.TextUtils;
 
+import com.mapbox.services.android.navigation.v5.navigation.VoiceInstructionCache;
 import com.mapbox.services.android.navigation.v5.navigation.VoiceInstructionLoader;
 
 import java.io.File;
@@ -25,6 +26,10 @@ import timber.log.Timber;
  * <p>
  * Will retrieve synthesized speech mp3s from Mapbox's API Voice.
  * </p>
+ * <p>
+ * Downloaded mp3s are kept in a {@link VoiceInstructionCache}, shared with the {@link VoiceInstructionLoader},
+ * so repeated and prefetched instructions are played straight from disk.
+ * </p>
  */
 class MapboxSpeechPlayer implements SpeechPlayer {
 
@@ -39,7 +44,7 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   private SpeechListener speechListener;
   private MediaPlayer mediaPlayer;
   private Queue<File> instructionQueue;
-  private File mapboxCache;
+  private VoiceInstructionCache voiceInstructionCache;
   private Cache okhttpCache;
   private boolean isPlaying;
   private boolean isMuted;
@@ -59,6 +64,7 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     voiceInstructionLoader = VoiceInstructionLoader.builder()
       .language(language)
       .cache(okhttpCache)
+      .voiceInstructionCache(voiceInstructionCache)
       .accessToken(accessToken)
       .build();
   }
@@ -105,8 +111,8 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     File okHttpDirectory = new File(context.getCacheDir(), OKHTTP_INSTRUCTION_CACHE);
     okHttpDirectory.mkdir();
     okhttpCache = new Cache(okHttpDirectory, TEN_MEGABYTE_CACHE_SIZE);
-    mapboxCache = new File(context.getCacheDir(), MAPBOX_INSTRUCTION_CACHE);
-    mapboxCache.mkdir();
+    File mapboxDirectory = new File(context.getCacheDir(), MAPBOX_INSTRUCTION_CACHE);
+    voiceInstructionCache = VoiceInstructionCache.getInstance(mapboxDirectory, TEN_MEGABYTE_CACHE_SIZE);
   }
 
   private void playAnnouncementTextAndTypeFrom(SpeechAnnouncement announcement) {
@@ -144,17 +150,22 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     }
   }
 
-  private void downloadVoiceFile(final String instruction, String textType) {
+  private void downloadVoiceFile(final String instruction, final String textType) {
     boolean isInvalidInstruction = TextUtils.isEmpty(instruction);
     if (isMuted || isInvalidInstruction) {
       return;
     }
+    File cachedInstruction = voiceInstructionLoader.retrieveCachedInstruction(instruction, textType);
+    if (cachedInstruction != null) {
+      onInstructionReady(cachedInstruction);
+      return;
+    }
 
     voiceInstructionLoader.getInstruction(instruction, textType, new Callback<ResponseBody>() {
       @Override
       public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
         if (response.isSuccessful()) {
-          executeInstructionTask(response.body());
+          executeInstructionTask(instruction, textType, response.body());
         } else {
           try {
             onError(response.errorBody().string());
@@ -225,14 +236,13 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void onInstructionFinishedPlaying() {
-    deleteLastInstructionPlayed();
+    removeLastInstructionPlayed();
     startNextInstruction();
   }
 
-  private void deleteLastInstructionPlayed() {
-    if (!instructionQueue.isEmpty()) {
-      instructionQueue.poll().delete();
-    }
+  private void removeLastInstructionPlayed() {
+    // Played files stay in the voice instruction cache, which evicts them once it's full
+    instructionQueue.poll();
   }
 
   private void startNextInstruction() {
@@ -242,17 +252,14 @@ class MapboxSpeechPlayer implements SpeechPlayer {
   }
 
   private void clearInstructionUrls() {
-    while (!instructionQueue.isEmpty()) {
-      instructionQueue.remove().delete();
-    }
+    instructionQueue.clear();
   }
 
-  private void executeInstructionTask(ResponseBody responseBody) {
-    new SpeechDownloadTask(mapboxCache.getPath(), new SpeechDownloadTask.TaskListener() {
+  private void executeInstructionTask(String instruction, String textType, ResponseBody responseBody) {
+    new SpeechDownloadTask(voiceInstructionLoader, instruction, textType, new SpeechDownloadTask.TaskListener() {
       @Override
       public void onFinishedDownloading(@NonNull File instructionFile) {
-        playInstructionIfUpNext(instructionFile);
-        instructionQueue.add(instructionFile);
+        onInstructionReady(instructionFile);
       }
 
       @Override
@@ -262,6 +269,11 @@ class MapboxSpeechPlayer implements SpeechPlayer {
     }).executeOnExecutor(AsyncTask.SERIAL_EXECUTOR, responseBody);
   }
 
+  private void onInstructionReady(File instructionFile) {
+    playInstructionIfUpNext(instructionFile);
+    instructionQueue.add(instructionFile);
+  }
+
   private void playInstructionIfUpNext(File instructionFile) {
     if (instructionQueue.isEmpty()) {
       playInstruction(instructionFile);
@@ -3,24 +3,26 @@ package com.mapbox.services.android.navigation.ui.v5.voice;
 import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 
+import com.mapbox.services.android.navigation.v5.navigation.VoiceInstructionLoader;
+
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.io.OutputStream;
 
 import okhttp3.ResponseBody;
+import timber.log.Timber;
 
 class SpeechDownloadTask extends AsyncTask<ResponseBody, Void, File> {
 
-  private static final String MP3_POSTFIX = ".mp3";
-  private static final int END_OF_FILE_DENOTER = -1;
-  private static int instructionNamingInt = 1;
-  private final String cacheDirectory;
+  private final VoiceInstructionLoader voiceInstructionLoader;
+  private final String instruction;
+  private final String textType;
   private final TaskListener taskListener;
 
-  SpeechDownloadTask(String cacheDirectory, TaskListener taskListener) {
-    this.cacheDirectory = cacheDirectory;
+  SpeechDownloadTask(VoiceInstructionLoader voiceInstructionLoader, String instruction, String textType,
+                     TaskListener taskListener) {
+    this.voiceInstructionLoader = voiceInstructionLoader;
+    this.instruction = instruction;
+    this.textType = textType;
     this.taskListener = taskListener;
   }
 
@@ -30,46 +32,19 @@ class SpeechDownloadTask extends AsyncTask<ResponseBody, Void, File> {
   }
 
   /**
-   * Saves the file returned in the response body as a file in the cache directory
+   * Saves the file returned in the response body in the voice instruction cache
    *
    * @param responseBody containing file
    * @return resulting file, or null if there were any IO exceptions
    */
   private File saveAsFile(ResponseBody responseBody) {
     try {
-      File file = new File(cacheDirectory + File.separator + instructionNamingInt++ + MP3_POSTFIX);
-      InputStream inputStream = null;
-      OutputStream outputStream = null;
-
-      try {
-        inputStream = responseBody.byteStream();
-        outputStream = new FileOutputStream(file);
-        byte[] buffer = new byte[4096];
-        int numOfBufferedBytes;
-
-        while ((numOfBufferedBytes = inputStream.read(buffer)) != END_OF_FILE_DENOTER) {
-          outputStream.write(buffer, 0, numOfBufferedBytes);
-        }
-
-        outputStream.flush();
-        return file;
-
-      } catch (IOException exception) {
-        taskListener.onErrorDownloading();
-        return null;
-
-      } finally {
-        if (inputStream != null) {
-          inputStream.close();
-        }
-
-        if (outputStream != null) {
-          outputStream.close();
-        }
-      }
-
+      return voiceInstructionLoader.saveInstruction(instruction, textType, responseBody.byteStream());
     } catch (IOException exception) {
+      Timber.e(exception);
       return null;
+    } finally {
+      responseBody.close();
     }
   }
 
@@ -25,8 +25,9 @@ public class AbbreviationCoordinatorTest extends BaseTest {
         .build();
     TextViewUtils textViewUtils = mock(TextViewUtils.class);
     TextView textView = mock(TextView.class);
-    when(textViewUtils.textFits(textView, abbreviation)).thenReturn(true);
-    when(textViewUtils.textFits(textView, bannerComponents.text())).thenReturn(false);
+    when(textView.getWidth()).thenReturn(100);
+    when(textViewUtils.measureText(textView, abbreviation)).thenReturn(50f);
+    when(textViewUtils.measureText(textView, bannerComponents.text())).thenReturn(150f);
     AbbreviationCoordinator abbreviationCoordinator = new AbbreviationCoordinator(textViewUtils);
     abbreviationCoordinator.addPriorityInfo(bannerComponents, 0);
     List<InstructionLoader.BannerComponentNode> bannerComponentNodes = new ArrayList<>();
@@ -49,7 +50,8 @@ public class AbbreviationCoordinatorTest extends BaseTest {
         .build();
     TextViewUtils textViewUtils = mock(TextViewUtils.class);
     TextView textView = mock(TextView.class);
-    when(textViewUtils.textFits(textView, bannerComponents.text())).thenReturn(true);
+    when(textView.getWidth()).thenReturn(100);
+    when(textViewUtils.measureText(textView, bannerComponents.text())).thenReturn(50f);
     AbbreviationCoordinator abbreviationCoordinator = new AbbreviationCoordinator(textViewUtils);
     abbreviationCoordinator.addPriorityInfo(bannerComponents, 0);
     List<InstructionLoader.BannerComponentNode> bannerComponentNodes = new ArrayList<>();
@@ -59,4 +61,36 @@ public class AbbreviationCoordinatorTest extends BaseTest {
 
     assertEquals(text, abbreviatedTextFromCoordinator);
   }
+
+  @Test
+  public void onAbbreviateBannerText_abbreviationStopsOnceTextFits() {
+    BannerComponents firstComponents = BannerComponentsFaker.bannerComponents()
+      .text("North")
+      .abbreviation("N")
+      .abbreviationPriority(0)
+      .build();
+    BannerComponents secondComponents = BannerComponentsFaker.bannerComponents()
+      .text("Street")
+      .abbreviation("St")
+      .abbreviationPriority(1)
+      .build();
+    TextViewUtils textViewUtils = mock(TextViewUtils.class);
+    TextView textView = mock(TextView.class);
+    when(textView.getWidth()).thenReturn(100);
+    when(textViewUtils.measureText(textView, " ")).thenReturn(10f);
+    when(textViewUtils.measureText(textView, "North")).thenReturn(60f);
+    when(textViewUtils.measureText(textView, "N")).thenReturn(10f);
+    when(textViewUtils.measureText(textView, "Street")).thenReturn(60f);
+    when(textViewUtils.measureText(textView, "St")).thenReturn(20f);
+    AbbreviationCoordinator abbreviationCoordinator = new AbbreviationCoordinator(textViewUtils);
+    abbreviationCoordinator.addPriorityInfo(firstComponents, 0);
+    abbreviationCoordinator.addPriorityInfo(secondComponents, 1);
+    List<InstructionLoader.BannerComponentNode> bannerComponentNodes = new ArrayList<>();
+    bannerComponentNodes.add(new AbbreviationCoordinator.AbbreviationNode(firstComponents, 0));
+    bannerComponentNodes.add(new AbbreviationCoordinator.AbbreviationNode(secondComponents, 6));
+
+    String abbreviatedText = abbreviationCoordinator.abbreviateBannerText(bannerComponentNodes, textView);
+
+    assertEquals("N Street", abbreviatedText);
+  }
 }
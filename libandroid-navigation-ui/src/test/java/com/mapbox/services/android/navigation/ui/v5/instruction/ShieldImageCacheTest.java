@@ -0,0 +1,112 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction;
+
+import android.graphics.Bitmap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class ShieldImageCacheTest {
+
+  private static final String SHIELD_URL = "https://s3.amazonaws.com/mapbox/shields/v3/i-95";
+  private static final int CACHE_SIZE = 1024;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void retrieveDiskFile_withoutDirectoryReturnsNull() {
+    ShieldImageCache cache = buildCache();
+
+    assertNull(cache.retrieveDiskFile(SHIELD_URL));
+  }
+
+  @Test
+  public void retrieveDiskFile_fileIsInDirectory() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    ShieldImageCache cache = buildCache();
+    cache.updateDirectory(directory);
+
+    File file = cache.retrieveDiskFile(SHIELD_URL);
+
+    assertEquals(directory, file.getParentFile());
+    assertEquals("s3.amazonaws.com_mapbox_shields_v3_i-95.png", file.getName());
+  }
+
+  @Test
+  public void retrieveStoredShield_missingFileReturnsNull() throws IOException {
+    ShieldImageCache cache = buildCache();
+    cache.updateDirectory(temporaryFolder.newFolder());
+
+    assertNull(cache.retrieveStoredShield(SHIELD_URL));
+  }
+
+  @Test
+  public void retrieveStoredShield_localFileIsReturned() throws IOException {
+    File directory = temporaryFolder.newFolder();
+    File localShield = new File(directory, "s3.amazonaws.com_mapbox_shields_v3_i-95.png");
+    assertTrue(localShield.createNewFile());
+    ShieldImageCache cache = buildCache();
+    cache.updateDirectory(directory);
+
+    File storedShield = cache.retrieveStoredShield(SHIELD_URL);
+
+    assertEquals(localShield, storedShield);
+  }
+
+  @Test
+  public void retrieveStoredShield_fileAddedAfterDirectoryIsListedIsNotReturned() throws IOException {
+    ShieldImageCache cache = buildCache();
+    cache.updateDirectory(temporaryFolder.newFolder());
+    assertTrue(cache.retrieveDiskFile(SHIELD_URL).createNewFile());
+
+    assertNull(cache.retrieveStoredShield(SHIELD_URL));
+  }
+
+  @Test
+  public void putShield_savedShieldIsReturned() throws IOException {
+    ShieldImageCache cache = buildCache();
+    cache.updateDirectory(temporaryFolder.newFolder());
+
+    cache.putShield(SHIELD_URL, 0, mock(Bitmap.class));
+
+    File storedShield = cache.retrieveStoredShield(SHIELD_URL);
+    assertEquals(cache.retrieveDiskFile(SHIELD_URL), storedShield);
+    assertTrue(storedShield.exists());
+  }
+
+  @Test
+  public void updateDirectory_missingDirectoryIsCreated() throws IOException {
+    File directory = new File(temporaryFolder.getRoot(), "shields");
+    ShieldImageCache cache = buildCache();
+
+    cache.updateDirectory(directory);
+
+    assertTrue(directory.isDirectory());
+  }
+
+  @Test
+  public void retrieveScaledShield_unknownShieldReturnsNull() {
+    ShieldImageCache cache = buildCache();
+
+    assertNull(cache.retrieveScaledShield(SHIELD_URL, 40));
+  }
+
+  private ShieldImageCache buildCache() {
+    return new ShieldImageCache(CACHE_SIZE, new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+  }
+}
@@ -0,0 +1,100 @@
+package com.mapbox.services.android.navigation.ui.v5.instruction.maneuver;
+
+import android.graphics.Bitmap;
+import android.graphics.PointF;
+import android.support.v4.util.Pair;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+public class ManeuverBitmapCacheTest {
+
+  private static final float DELTA = 0f;
+  private static final int CACHE_SIZE_IN_BYTES = 1024;
+  private static final int PRIMARY_COLOR = 1;
+  private static final int SECONDARY_COLOR = 2;
+  private static final Pair<String, String> ROUNDABOUT = new Pair<>("roundabout", null);
+
+  @Test
+  public void quantizeRoundaboutAngle_angleIsRoundedToClosestIncrement() {
+    assertEquals(180f, ManeuverBitmapCache.quantizeRoundaboutAngle(182.4f), DELTA);
+    assertEquals(185f, ManeuverBitmapCache.quantizeRoundaboutAngle(183f), DELTA);
+    assertEquals(0f, ManeuverBitmapCache.quantizeRoundaboutAngle(2f), DELTA);
+  }
+
+  @Test
+  public void retrieveBitmap_sameManeuverIsDrawnOnce() {
+    ManeuverBitmapCache cache = buildCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+    PointF size = buildSize(64, 64);
+
+    Bitmap bitmap = cache.retrieveBitmap(update, ROUNDABOUT, true, 180f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+    Bitmap otherBitmap = cache.retrieveBitmap(update, ROUNDABOUT, true, 180f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+
+    assertSame(bitmap, otherBitmap);
+    verify(cache, times(1)).drawBitmap(any(ManeuverViewUpdate.class), anyFloat(), any(PointF.class), anyInt(),
+      anyInt());
+  }
+
+  @Test
+  public void retrieveBitmap_closeRoundaboutAnglesAreDrawnOnceWithQuantizedAngle() {
+    ManeuverBitmapCache cache = buildCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+    PointF size = buildSize(64, 64);
+
+    cache.retrieveBitmap(update, ROUNDABOUT, true, 179f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+    cache.retrieveBitmap(update, ROUNDABOUT, true, 181f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+
+    verify(cache, times(1)).drawBitmap(update, 180f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+  }
+
+  @Test
+  public void retrieveBitmap_angleIsIgnoredForOtherManeuvers() {
+    ManeuverBitmapCache cache = buildCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+    Pair<String, String> turnRight = new Pair<>(null, "right");
+    PointF size = buildSize(64, 64);
+
+    cache.retrieveBitmap(update, turnRight, false, 90f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+    cache.retrieveBitmap(update, turnRight, false, 270f, size, PRIMARY_COLOR, SECONDARY_COLOR);
+
+    verify(cache, times(1)).drawBitmap(eq(update), eq(0f), eq(size), anyInt(), anyInt());
+  }
+
+  @Test
+  public void retrieveBitmap_otherSizeIsDrawnAgain() {
+    ManeuverBitmapCache cache = buildCache();
+    ManeuverViewUpdate update = mock(ManeuverViewUpdate.class);
+
+    cache.retrieveBitmap(update, ROUNDABOUT, true, 180f, buildSize(64, 64), PRIMARY_COLOR, SECONDARY_COLOR);
+    cache.retrieveBitmap(update, ROUNDABOUT, true, 180f, buildSize(48, 48), PRIMARY_COLOR, SECONDARY_COLOR);
+
+    verify(cache, times(2)).drawBitmap(any(ManeuverViewUpdate.class), anyFloat(), any(PointF.class), anyInt(),
+      anyInt());
+  }
+
+  private ManeuverBitmapCache buildCache() {
+    ManeuverBitmapCache cache = spy(new ManeuverBitmapCache(CACHE_SIZE_IN_BYTES));
+    doReturn(mock(Bitmap.class)).when(cache).drawBitmap(any(ManeuverViewUpdate.class), anyFloat(),
+      any(PointF.class), anyInt(), anyInt());
+    return cache;
+  }
+
+  private PointF buildSize(float width, float height) {
+    PointF size = mock(PointF.class);
+    size.x = width;
+    size.y = height;
+    return size;
+  }
+}
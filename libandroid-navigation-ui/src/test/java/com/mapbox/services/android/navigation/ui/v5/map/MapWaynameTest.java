@@ -5,6 +5,8 @@ import android.graphics.PointF;
 import android.support.annotation.NonNull;
 
 import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
 import com.mapbox.mapboxsdk.style.layers.Property;
 import com.mapbox.mapboxsdk.style.layers.PropertyValue;
 import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
@@ -12,6 +14,7 @@ import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
 import org.junit.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
@@ -27,6 +30,8 @@ import static org.mockito.Mockito.when;
 
 public class MapWaynameTest {
 
+  private static final Point LOCATION = Point.fromLngLat(-77.0365, 38.8977);
+
   @Test
   public void onUpdateWaynameWithPoint_queryRenderedFeaturesIsCalled() {
     WaynameLayoutProvider layoutProvider = mock(WaynameLayoutProvider.class);
@@ -42,7 +47,7 @@ public class MapWaynameTest {
     mapWayname.updateWaynameVisibility(true, waynameLayer);
     mapWayname.updateWaynameQueryMap(true);
 
-    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
 
     verify(featureInteractor).queryRenderedFeatures(point, layerIds);
   }
@@ -62,7 +67,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     mapWayname.updateWaynameVisibility(true, waynameLayer);
 
-    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
 
     verify(layoutProvider, times(1)).generateLayoutBitmap(roadName);
   }
@@ -76,7 +81,7 @@ public class MapWaynameTest {
     roads.add(road);
     MapWayname mapWayname = buildMapWayname(point, waynameLayer, roads);
 
-    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
 
     verify(waynameLayer, times(0)).setProperties(any(PropertyValue.class));
   }
@@ -152,7 +157,7 @@ public class MapWaynameTest {
     MapWayname mapWayname = buildMapWayname(point, layoutProvider, waynameLayer, roads);
     mapWayname.updateWaynameVisibility(true, waynameLayer);
 
-    mapWayname.updateWaynameWithPoint(point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
 
     verify(layoutProvider).generateLayoutBitmap(roadName);
   }
@@ -174,6 +179,84 @@ public class MapWaynameTest {
     verify(layerInteractor).addLayerImage(MAPBOX_WAYNAME_ICON, bitmap);
   }
 
+  @Test
+  public void onLocationOnSameRoad_queryRenderedFeaturesIsSkipped() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(any(PointF.class), any(String[].class)))
+      .thenReturn(buildRoads("roadName"));
+    MapWayname mapWayname = buildMapWayname(waynameLayer, featureInteractor);
+    mapWayname.updateWaynameVisibility(true, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
+
+    mapWayname.updateWaynameWithPoint(Point.fromLngLat(-77.0364, 38.8977), point, waynameLayer);
+
+    verify(featureInteractor, times(1)).queryRenderedFeatures(any(PointF.class), any(String[].class));
+  }
+
+  @Test
+  public void onLocationOffRoad_queryRenderedFeaturesIsCalled() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(any(PointF.class), any(String[].class)))
+      .thenReturn(buildRoads("roadName"));
+    MapWayname mapWayname = buildMapWayname(waynameLayer, featureInteractor);
+    mapWayname.updateWaynameVisibility(true, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
+
+    mapWayname.updateWaynameWithPoint(Point.fromLngLat(-77.0365, 38.8987), point, waynameLayer);
+
+    verify(featureInteractor, times(2)).queryRenderedFeatures(any(PointF.class), any(String[].class));
+  }
+
+  @Test
+  public void onLocationOnSameRoad_layoutBitmapIsGeneratedOnce() {
+    PointF point = mock(PointF.class);
+    SymbolLayer waynameLayer = mock(SymbolLayer.class);
+    WaynameFeatureFinder featureInteractor = mock(WaynameFeatureFinder.class);
+    when(featureInteractor.queryRenderedFeatures(any(PointF.class), any(String[].class)))
+      .thenReturn(buildRoads("roadName"));
+    WaynameLayoutProvider layoutProvider = mock(WaynameLayoutProvider.class);
+    when(layoutProvider.generateLayoutBitmap("roadName")).thenReturn(mock(Bitmap.class));
+    MapLayerInteractor layerInteractor = mock(MapLayerInteractor.class);
+    when(waynameLayer.getVisibility()).thenReturn(visibility(Property.VISIBLE));
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    MapWayname mapWayname = new MapWayname(layoutProvider, layerInteractor, featureInteractor, paddingAdjustor);
+    mapWayname.updateWaynameQueryMap(true);
+    mapWayname.updateWaynameVisibility(true, waynameLayer);
+
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
+    mapWayname.updateWaynameWithPoint(LOCATION, point, waynameLayer);
+
+    verify(layoutProvider, times(1)).generateLayoutBitmap("roadName");
+  }
+
+  @NonNull
+  private List<Feature> buildRoads(String roadName) {
+    LineString roadLine = LineString.fromLngLats(Arrays.asList(
+      Point.fromLngLat(-77.0375, 38.8977),
+      Point.fromLngLat(-77.0355, 38.8977)
+    ));
+    Feature road = Feature.fromGeometry(roadLine);
+    road.addStringProperty("name", roadName);
+    List<Feature> roads = new ArrayList<>();
+    roads.add(road);
+    return roads;
+  }
+
+  @NonNull
+  private MapWayname buildMapWayname(SymbolLayer waynameLayer, WaynameFeatureFinder featureInteractor) {
+    WaynameLayoutProvider layoutProvider = mock(WaynameLayoutProvider.class);
+    MapLayerInteractor layerInteractor = mock(MapLayerInteractor.class);
+    when(waynameLayer.getVisibility()).thenReturn(visibility(Property.VISIBLE));
+    MapPaddingAdjustor paddingAdjustor = mock(MapPaddingAdjustor.class);
+    MapWayname mapWayname = new MapWayname(layoutProvider, layerInteractor, featureInteractor, paddingAdjustor);
+    mapWayname.updateWaynameQueryMap(true);
+    return mapWayname;
+  }
+
   @NonNull
   private MapWayname buildMapWayname(PointF point, WaynameLayoutProvider layoutProvider,
                                      SymbolLayer waynameLayer, List<Feature> roads) {
@@ -0,0 +1,183 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.content.res.TypedArray;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.Point;
+import com.mapbox.mapboxsdk.maps.MapView;
+import com.mapbox.mapboxsdk.maps.MapboxMap;
+import com.mapbox.mapboxsdk.style.layers.Layer;
+import com.mapbox.mapboxsdk.style.layers.LineLayer;
+import com.mapbox.mapboxsdk.style.layers.Property;
+import com.mapbox.mapboxsdk.style.layers.PropertyValue;
+import com.mapbox.mapboxsdk.style.layers.SymbolLayer;
+import com.mapbox.mapboxsdk.style.sources.GeoJsonSource;
+import com.mapbox.services.android.navigation.ui.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.mapbox.mapboxsdk.style.layers.PropertyFactory.visibility;
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyListOf;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class NavigationMapRouteTest extends BaseTest {
+
+  private static final String ALTERNATIVE_ROUTE_LAYER_ID = "mapbox-navigation-route-layer-1";
+  private static final String ARROW_SHAFT_SOURCE_ID = "mapbox-navigation-arrow-shaft-source";
+
+  @Test
+  public void onFeatureCollectionsBuilt_hiddenAlternativesStayHidden() throws Exception {
+    MapboxMap mapboxMap = buildMapboxMap();
+    LineLayer alternativeRouteLayer = mock(LineLayer.class);
+    when(mapboxMap.getLayer(ALTERNATIVE_ROUTE_LAYER_ID)).thenReturn(alternativeRouteLayer);
+    RouteFeatureCollectionBuilder featureCollectionBuilder = mock(RouteFeatureCollectionBuilder.class);
+    NavigationMapRoute navigationMapRoute = buildNavigationMapRoute(mapboxMap, featureCollectionBuilder);
+    List<DirectionsRoute> routes = buildTwoRoutes();
+
+    navigationMapRoute.addRoutes(routes);
+    navigationMapRoute.showAlternativeRoutes(false);
+    buildFeatureCollections(featureCollectionBuilder, routes);
+
+    ArgumentCaptor<PropertyValue> visibilityCaptor = ArgumentCaptor.forClass(PropertyValue.class);
+    verify(alternativeRouteLayer).setProperties(visibilityCaptor.capture());
+    assertEquals(Property.NONE, visibilityCaptor.getValue().getValue());
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_sameUpcomingStepIsNotUpdatedAgain() {
+    MapboxMap mapboxMap = buildMapboxMap();
+    NavigationMapRoute navigationMapRoute = buildNavigationMapRoute(mapboxMap,
+      mock(RouteFeatureCollectionBuilder.class));
+    RouteProgress routeProgress = buildRouteProgress(mock(LegStep.class));
+
+    navigationMapRoute.addUpcomingManeuverArrow(routeProgress);
+    navigationMapRoute.addUpcomingManeuverArrow(routeProgress);
+
+    GeoJsonSource arrowShaftSource = (GeoJsonSource) mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID);
+    verify(arrowShaftSource, times(1)).setGeoJson(any(Feature.class));
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_newUpcomingStepIsUpdated() {
+    MapboxMap mapboxMap = buildMapboxMap();
+    NavigationMapRoute navigationMapRoute = buildNavigationMapRoute(mapboxMap,
+      mock(RouteFeatureCollectionBuilder.class));
+
+    navigationMapRoute.addUpcomingManeuverArrow(buildRouteProgress(mock(LegStep.class)));
+    navigationMapRoute.addUpcomingManeuverArrow(buildRouteProgress(mock(LegStep.class)));
+
+    GeoJsonSource arrowShaftSource = (GeoJsonSource) mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID);
+    verify(arrowShaftSource, times(2)).setGeoJson(any(Feature.class));
+  }
+
+  @Test
+  public void addUpcomingManeuverArrow_sameUpcomingStepIsUpdatedAfterStyleLoads() {
+    MapboxMap mapboxMap = buildMapboxMap();
+    NavigationMapRoute navigationMapRoute = buildNavigationMapRoute(mapboxMap,
+      mock(RouteFeatureCollectionBuilder.class));
+    RouteProgress routeProgress = buildRouteProgress(mock(LegStep.class));
+
+    navigationMapRoute.addUpcomingManeuverArrow(routeProgress);
+    navigationMapRoute.onMapChanged(MapView.DID_FINISH_LOADING_STYLE);
+    navigationMapRoute.addUpcomingManeuverArrow(routeProgress);
+
+    GeoJsonSource arrowShaftSource = (GeoJsonSource) mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID);
+    verify(arrowShaftSource, times(2)).setGeoJson(any(Feature.class));
+  }
+
+  private NavigationMapRoute buildNavigationMapRoute(MapboxMap mapboxMap,
+                                                     RouteFeatureCollectionBuilder featureCollectionBuilder) {
+    MapRouteLayerProvider layerProvider = mock(MapRouteLayerProvider.class);
+    when(layerProvider.initializeRouteLayer(anyString(), anyString(), anyFloat(), anyInt(), anyInt(), anyInt()))
+      .thenReturn(mock(LineLayer.class));
+    when(layerProvider.initializeRouteShieldLayer(anyString(), anyString(), anyFloat(), anyInt()))
+      .thenReturn(mock(LineLayer.class));
+    return new NavigationMapRoute(null, buildMapView(), mapboxMap, 0, null,
+      layerProvider, featureCollectionBuilder);
+  }
+
+  private MapView buildMapView() {
+    Context context = mock(Context.class);
+    when(context.obtainStyledAttributes(anyInt(), any(int[].class))).thenReturn(mock(TypedArray.class));
+    when(context.getResources()).thenReturn(mock(Resources.class));
+    MapView mapView = mock(MapView.class);
+    when(mapView.getContext()).thenReturn(context);
+    return mapView;
+  }
+
+  private MapboxMap buildMapboxMap() {
+    MapboxMap mapboxMap = mock(MapboxMap.class);
+    when(mapboxMap.getSource(ARROW_SHAFT_SOURCE_ID)).thenReturn(mock(GeoJsonSource.class));
+    when(mapboxMap.getSource("mapbox-navigation-arrow-head-source")).thenReturn(mock(GeoJsonSource.class));
+    when(mapboxMap.<GeoJsonSource>getSourceAs(anyString())).thenReturn(mock(GeoJsonSource.class));
+    when(mapboxMap.getLayer("mapbox-navigation-arrow-shaft-layer")).thenReturn(buildHiddenLayer(LineLayer.class));
+    when(mapboxMap.getLayer("mapbox-navigation-arrow-shaft-casing-layer"))
+      .thenReturn(buildHiddenLayer(LineLayer.class));
+    when(mapboxMap.getLayer("mapbox-navigation-arrow-head-layer")).thenReturn(buildHiddenLayer(SymbolLayer.class));
+    when(mapboxMap.getLayer("mapbox-navigation-arrow-head-casing-layer"))
+      .thenReturn(buildHiddenLayer(SymbolLayer.class));
+    return mapboxMap;
+  }
+
+  private <T extends Layer> T buildHiddenLayer(Class<T> layerClass) {
+    T layer = mock(layerClass);
+    PropertyValue<String> hidden = visibility(Property.NONE);
+    when(layer.getVisibility()).thenReturn(hidden);
+    return layer;
+  }
+
+  private RouteProgress buildRouteProgress(LegStep upcomingStep) {
+    List<Point> currentStepPoints = new ArrayList<>();
+    currentStepPoints.add(Point.fromLngLat(-77.0350, 38.8990));
+    currentStepPoints.add(Point.fromLngLat(-77.0340, 38.8990));
+    List<Point> upcomingStepPoints = new ArrayList<>();
+    upcomingStepPoints.add(Point.fromLngLat(-77.0340, 38.8990));
+    upcomingStepPoints.add(Point.fromLngLat(-77.0340, 38.8980));
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.upComingStep()).thenReturn(upcomingStep);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.currentStepPoints()).thenReturn(currentStepPoints);
+    when(routeProgress.upcomingStepPoints()).thenReturn(upcomingStepPoints);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    return routeProgress;
+  }
+
+  private List<DirectionsRoute> buildTwoRoutes() throws Exception {
+    List<DirectionsRoute> routes = new ArrayList<>();
+    routes.add(buildTestDirectionsRoute());
+    routes.add(buildTestDirectionsRoute());
+    return routes;
+  }
+
+  private void buildFeatureCollections(RouteFeatureCollectionBuilder featureCollectionBuilder,
+                                       List<DirectionsRoute> routes) {
+    ArgumentCaptor<RouteFeatureCollectionTask.Listener> listenerCaptor =
+      ArgumentCaptor.forClass(RouteFeatureCollectionTask.Listener.class);
+    verify(featureCollectionBuilder).buildInBackground(anyListOf(DirectionsRoute.class), listenerCaptor.capture());
+    RouteFeatureCollectionBuilder builder = new RouteFeatureCollectionBuilder();
+    List<FeatureCollection> featureCollections = new ArrayList<>();
+    for (int i = 0; i < routes.size(); i++) {
+      featureCollections.add(builder.build(routes.get(i), i));
+    }
+    listenerCaptor.getValue().onFeatureCollectionsBuilt(featureCollections);
+  }
+}
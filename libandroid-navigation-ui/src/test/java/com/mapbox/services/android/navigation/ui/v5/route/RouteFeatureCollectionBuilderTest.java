@@ -0,0 +1,97 @@
+package com.mapbox.services.android.navigation.ui.v5.route;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.mapbox.api.directions.v5.DirectionsAdapterFactory;
+import com.mapbox.api.directions.v5.models.DirectionsResponse;
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.Feature;
+import com.mapbox.geojson.FeatureCollection;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.ui.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+
+public class RouteFeatureCollectionBuilderTest extends BaseTest {
+
+  private static final String CONGESTION_ROUTE_FIXTURE = "directions_distance_congestion_annotation.json";
+  private static final String TWO_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void build_firstFeatureIsWholeRoute() throws IOException {
+    DirectionsRoute route = buildRoute(CONGESTION_ROUTE_FIXTURE);
+    RouteFeatureCollectionBuilder builder = new RouteFeatureCollectionBuilder();
+
+    FeatureCollection featureCollection = builder.build(route, 1);
+
+    Feature routeFeature = featureCollection.features().get(0);
+    LineString routeGeometry = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    assertEquals(routeGeometry.coordinates(), ((LineString) routeFeature.geometry()).coordinates());
+    assertEquals("mapbox-navigation-route-source-1", routeFeature.getStringProperty(NavigationMapRoute.SOURCE_KEY));
+    assertEquals(1, routeFeature.getNumberProperty(NavigationMapRoute.INDEX_KEY).intValue());
+  }
+
+  @Test
+  public void build_mergesSegmentsWithSameCongestion() throws IOException {
+    DirectionsRoute route = buildRoute(CONGESTION_ROUTE_FIXTURE);
+    RouteFeatureCollectionBuilder builder = new RouteFeatureCollectionBuilder();
+
+    FeatureCollection featureCollection = builder.build(route, 0);
+
+    List<String> congestion = route.legs().get(0).annotation().congestion();
+    assertEquals(countRuns(congestion) + 1, featureCollection.features().size());
+  }
+
+  @Test
+  public void build_congestionRunsCoverEveryLegSegment() throws IOException {
+    DirectionsRoute route = buildRoute(TWO_LEG_ROUTE_FIXTURE);
+    RouteFeatureCollectionBuilder builder = new RouteFeatureCollectionBuilder();
+
+    FeatureCollection featureCollection = builder.build(route, 0);
+
+    List<Point> routeCoordinates = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6).coordinates();
+    List<Feature> features = featureCollection.features();
+    int coordinateIndex = 0;
+    int featureIndex = 1;
+    for (RouteLeg leg : route.legs()) {
+      List<String> congestion = leg.annotation().congestion();
+      int segment = 0;
+      while (segment < congestion.size()) {
+        Feature feature = features.get(featureIndex++);
+        List<Point> runCoordinates = ((LineString) feature.geometry()).coordinates();
+        assertEquals(congestion.get(segment), feature.getStringProperty(NavigationMapRoute.CONGESTION_KEY));
+        assertEquals(routeCoordinates.get(coordinateIndex), runCoordinates.get(0));
+        int runSegments = runCoordinates.size() - 1;
+        segment += runSegments;
+        coordinateIndex += runSegments;
+        assertEquals(routeCoordinates.get(coordinateIndex), runCoordinates.get(runSegments));
+      }
+    }
+    assertEquals(features.size(), featureIndex);
+    assertEquals(routeCoordinates.size() - 1, coordinateIndex);
+  }
+
+  private int countRuns(List<String> congestion) {
+    int runs = 1;
+    for (int i = 1; i < congestion.size(); i++) {
+      if (!congestion.get(i).equals(congestion.get(i - 1))) {
+        runs++;
+      }
+    }
+    return runs;
+  }
+
+  private DirectionsRoute buildRoute(String fixtureName) throws IOException {
+    Gson gson = new GsonBuilder().registerTypeAdapterFactory(DirectionsAdapterFactory.create()).create();
+    DirectionsResponse response = gson.fromJson(loadJsonFixture(fixtureName), DirectionsResponse.class);
+    return response.routes().get(0);
+  }
+}
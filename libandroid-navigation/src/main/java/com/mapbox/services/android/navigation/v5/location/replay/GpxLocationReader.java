@@ -0,0 +1,204 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.util.Xml;
+
+import org.xmlpull.v1.XmlPullParser;
+import org.xmlpull.v1.XmlPullParserException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the track points of a GPX trace one at a time with an {@link XmlPullParser}, so
+ * a trace can be replayed while it's being read, without holding the whole document in memory.
+ * <p>
+ * This class is not thread-safe, each reader should only be used from a single thread.
+ */
+class GpxLocationReader implements Closeable {
+
+  private static final String TAG_TRACK_POINT = "trkpt";
+  private static final String TAG_TIME = "time";
+  private static final String ATTR_LATITUDE = "lat";
+  private static final String ATTR_LONGITUDE = "lon";
+  private static final String GPX_LOCATION_NAME = "GPX Generated Location";
+  private static final String UNPARSEABLE_DATE = "Unparseable date: ";
+  private static final long NO_TIME = 0L;
+  private static final int DATE_TIME_LENGTH = 19;
+  private static final int MILLIS_PER_SECOND = 1000;
+  private static final int SECONDS_PER_MINUTE = 60;
+  private static final int MINUTES_PER_HOUR = 60;
+  private static final int HOURS_PER_DAY = 24;
+  private static final int FIRST_FRACTION_DIGIT_SCALE = 100;
+  private static final int DECIMAL = 10;
+
+  private final InputStream inputStream;
+  private final XmlPullParser parser;
+
+  GpxLocationReader(InputStream inputStream) throws IOException {
+    this.inputStream = inputStream;
+    this.parser = Xml.newPullParser();
+    try {
+      parser.setInput(inputStream, null);
+    } catch (XmlPullParserException exception) {
+      throw new IOException(exception);
+    }
+  }
+
+  /**
+   * Reads the next track point of the trace.
+   *
+   * @return the next location, or null once the end of the trace has been reached
+   * @throws IOException    if the stream can't be read or doesn't contain valid XML
+   * @throws ParseException if a track point time isn't a valid ISO 8601 date
+   */
+  @Nullable
+  Location nextLocation() throws IOException, ParseException {
+    try {
+      int eventType = parser.next();
+      while (eventType != XmlPullParser.END_DOCUMENT) {
+        if (eventType == XmlPullParser.START_TAG && TAG_TRACK_POINT.equals(parser.getName())) {
+          return readTrackPoint();
+        }
+        eventType = parser.next();
+      }
+      return null;
+    } catch (XmlPullParserException exception) {
+      throw new IOException(exception);
+    }
+  }
+
+  /**
+   * Reads up to the given amount of track points.
+   *
+   * @param maximumLocations to be read
+   * @return the locations read, empty once the end of the trace has been reached
+   * @throws IOException    if the stream can't be read or doesn't contain valid XML
+   * @throws ParseException if a track point time isn't a valid ISO 8601 date
+   */
+  @NonNull
+  List<Location> nextLocations(int maximumLocations) throws IOException, ParseException {
+    List<Location> locations = new ArrayList<>(maximumLocations);
+    Location location;
+    while (locations.size() < maximumLocations && (location = nextLocation()) != null) {
+      locations.add(location);
+    }
+    return locations;
+  }
+
+  @Override
+  public void close() throws IOException {
+    inputStream.close();
+  }
+
+  @NonNull
+  private Location readTrackPoint() throws IOException, XmlPullParserException, ParseException {
+    double latitude = Double.parseDouble(parser.getAttributeValue(null, ATTR_LATITUDE));
+    double longitude = Double.parseDouble(parser.getAttributeValue(null, ATTR_LONGITUDE));
+    long time = NO_TIME;
+    boolean hasTime = false;
+    int trackPointDepth = parser.getDepth();
+    int eventType = parser.next();
+    while (!(eventType == XmlPullParser.END_TAG && parser.getDepth() == trackPointDepth)
+      && eventType != XmlPullParser.END_DOCUMENT) {
+      boolean isTime = eventType == XmlPullParser.START_TAG && parser.getName().contains(TAG_TIME);
+      if (isTime && !hasTime) {
+        time = parseTime(parser.nextText());
+        hasTime = true;
+      }
+      eventType = parser.next();
+    }
+    return buildGpxLocation(latitude, longitude, time);
+  }
+
+  @NonNull
+  private Location buildGpxLocation(double latitude, double longitude, long time) {
+    Location gpxLocation = new Location(GPX_LOCATION_NAME);
+    gpxLocation.setTime(time);
+    gpxLocation.setLatitude(latitude);
+    gpxLocation.setLongitude(longitude);
+    return gpxLocation;
+  }
+
+  /**
+   * Parses an ISO 8601 UTC date such as {@code 2009-10-17T18:37:26Z}, with optional fractional
+   * seconds and an optional {@code +hh:mm} offset, without allocating a {@code SimpleDateFormat}.
+   *
+   * @param text to be parsed
+   * @return milliseconds since the epoch
+   * @throws ParseException if the text isn't a valid date
+   */
+  static long parseTime(String text) throws ParseException {
+    String value = text.trim();
+    if (value.length() < DATE_TIME_LENGTH || value.charAt(4) != '-' || value.charAt(7) != '-'
+      || value.charAt(10) != 'T' || value.charAt(13) != ':' || value.charAt(16) != ':') {
+      throw new ParseException(UNPARSEABLE_DATE + text, 0);
+    }
+    int year = parseDigits(value, 0, 4);
+    int month = parseDigits(value, 5, 7);
+    int day = parseDigits(value, 8, 10);
+    int hour = parseDigits(value, 11, 13);
+    int minute = parseDigits(value, 14, 16);
+    int second = parseDigits(value, 17, 19);
+
+    int index = DATE_TIME_LENGTH;
+    int millis = 0;
+    if (index < value.length() && value.charAt(index) == '.') {
+      index++;
+      int scale = FIRST_FRACTION_DIGIT_SCALE;
+      while (index < value.length() && Character.isDigit(value.charAt(index))) {
+        millis += (value.charAt(index) - '0') * scale;
+        scale /= DECIMAL;
+        index++;
+      }
+    }
+    long offsetMinutes = 0;
+    if (index < value.length() && value.charAt(index) == 'Z') {
+      index++;
+    } else if (index < value.length() && (value.charAt(index) == '+' || value.charAt(index) == '-')) {
+      int sign = value.charAt(index) == '-' ? -1 : 1;
+      if (value.length() != index + 6 || value.charAt(index + 3) != ':') {
+        throw new ParseException(UNPARSEABLE_DATE + text, index);
+      }
+      offsetMinutes = sign * (parseDigits(value, index + 1, index + 3) * MINUTES_PER_HOUR
+        + parseDigits(value, index + 4, index + 6));
+      index += 6;
+    }
+    if (index != value.length()) {
+      throw new ParseException(UNPARSEABLE_DATE + text, index);
+    }
+    long minutes = (daysFromCivil(year, month, day) * HOURS_PER_DAY + hour) * MINUTES_PER_HOUR + minute
+      - offsetMinutes;
+    return (minutes * SECONDS_PER_MINUTE + second) * MILLIS_PER_SECOND + millis;
+  }
+
+  private static int parseDigits(String value, int start, int end) throws ParseException {
+    int result = 0;
+    for (int i = start; i < end; i++) {
+      char character = value.charAt(i);
+      if (!Character.isDigit(character)) {
+        throw new ParseException(UNPARSEABLE_DATE + value, i);
+      }
+      result = result * DECIMAL + (character - '0');
+    }
+    return result;
+  }
+
+  /**
+   * Days since 1970-01-01 of the given proleptic Gregorian date.
+   */
+  private static long daysFromCivil(int year, int month, int day) {
+    int adjustedYear = month <= 2 ? year - 1 : year;
+    int era = (adjustedYear >= 0 ? adjustedYear : adjustedYear - 399) / 400;
+    int yearOfEra = adjustedYear - era * 400;
+    int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+    int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+    return era * 146097L + dayOfEra - 719468L;
+  }
+}
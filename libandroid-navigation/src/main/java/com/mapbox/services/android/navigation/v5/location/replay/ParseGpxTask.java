@@ -5,15 +5,11 @@ import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
-import org.xml.sax.SAXException;
-
 import java.io.IOException;
 import java.io.InputStream;
 import java.text.ParseException;
 import java.util.List;
 
-import javax.xml.parsers.ParserConfigurationException;
-
 class ParseGpxTask extends AsyncTask<InputStream, Void, List<Location>> {
 
   private static final int FIRST_INPUT_STREAM = 0;
@@ -50,7 +46,7 @@ class ParseGpxTask extends AsyncTask<InputStream, Void, List<Location>> {
   private List<Location> parseGpxStream(InputStream inputStream) throws IOException {
     try {
       return parser.parseGpx(inputStream);
-    } catch (ParserConfigurationException | ParseException | SAXException | IOException exception) {
+    } catch (ParseException | IOException exception) {
       exception.printStackTrace();
       listener.onParseError(exception);
       return null;
@@ -0,0 +1,245 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.annotation.SuppressLint;
+import android.location.Location;
+import android.os.Handler;
+import android.os.HandlerThread;
+import android.os.Process;
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import com.mapbox.android.core.location.LocationEngine;
+import com.mapbox.android.core.location.LocationEngineListener;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+
+import timber.log.Timber;
+
+/**
+ * A {@link LocationEngine} replaying the track points of a GPX trace, honoring the time between them.
+ * <p>
+ * The trace is read incrementally on a background thread, a small batch of locations at a time, so
+ * replay starts as soon as the first batch is read and memory use doesn't grow with the trace length.
+ *
+ * @since 0.21.0
+ */
+public class ReplayGpxLocationEngine extends LocationEngine {
+
+  private static final String GPX_READER_THREAD_NAME = "mapbox_gpx_reader_thread";
+  private static final int LOCATIONS_PER_BATCH = 50;
+  private static final int QUEUED_LOCATIONS_THRESHOLD = 10;
+  private final Handler handler;
+  private HandlerThread readerThread;
+  private Handler readerHandler;
+  private GpxLocationReader reader;
+  private ReplayLocationDispatcher dispatcher;
+  private Location lastLocation = null;
+  private int queuedLocations;
+  private boolean isReading;
+  private boolean isEndOfTrace;
+  private final ReplayLocationListener replayLocationListener = new ReplayLocationListener() {
+    @Override
+    public void onLocationReplay(Location location) {
+      for (LocationEngineListener listener : locationListeners) {
+        listener.onLocationChanged(location);
+      }
+      lastLocation = location;
+      queuedLocations--;
+      if (queuedLocations <= QUEUED_LOCATIONS_THRESHOLD) {
+        readNextBatch();
+      }
+    }
+  };
+
+  /**
+   * Creates a new engine, which has to be created on a thread with a looper, usually the main thread.
+   *
+   * @since 0.21.0
+   */
+  public ReplayGpxLocationEngine() {
+    this.handler = new Handler();
+  }
+
+  /**
+   * Starts replaying the given GPX trace, replacing any trace being replayed.
+   * <p>
+   * The stream is closed once the whole trace has been read or replay is stopped
+   * with {@link #deactivate()}.
+   *
+   * @param gpxInputStream of the GPX trace to replay
+   * @since 0.21.0
+   */
+  public void assign(@NonNull InputStream gpxInputStream) {
+    stopReplay();
+    try {
+      reader = new GpxLocationReader(gpxInputStream);
+    } catch (IOException exception) {
+      Timber.e(exception, "An error occurred reading the GPX trace.");
+      return;
+    }
+    isEndOfTrace = false;
+    readNextBatch();
+  }
+
+  /**
+   * Connect all the location listeners.
+   */
+  @Override
+  public void activate() {
+    for (LocationEngineListener listener : locationListeners) {
+      listener.onConnected();
+    }
+  }
+
+  @Override
+  public void deactivate() {
+    stopReplay();
+    if (readerThread != null) {
+      // Quit once the pending reads and the closing of the stream have run
+      final HandlerThread quittingThread = readerThread;
+      readerHandler.post(new Runnable() {
+        @Override
+        public void run() {
+          quittingThread.quit();
+        }
+      });
+      readerThread = null;
+      readerHandler = null;
+    }
+  }
+
+  /**
+   * While the {@link ReplayGpxLocationEngine} is in use, you are always connected to it.
+   *
+   * @return true.
+   */
+  @Override
+  public boolean isConnected() {
+    return true;
+  }
+
+  @SuppressLint("MissingPermission")
+  @Override
+  @Nullable
+  public Location getLastLocation() {
+    return lastLocation;
+  }
+
+  /**
+   * Nothing needs to happen here since we are replaying the locations of a GPX trace.
+   */
+  @Override
+  public void requestLocationUpdates() {
+
+  }
+
+  /**
+   * Removes location updates for the LocationListener.
+   */
+  @Override
+  public void removeLocationUpdates() {
+    for (LocationEngineListener listener : locationListeners) {
+      locationListeners.remove(listener);
+    }
+    if (dispatcher != null) {
+      dispatcher.removeReplayLocationListener(replayLocationListener);
+    }
+  }
+
+  @Override
+  public Type obtainType() {
+    return Type.MOCK;
+  }
+
+  private void readNextBatch() {
+    if (isReading || isEndOfTrace || reader == null) {
+      return;
+    }
+    isReading = true;
+    final GpxLocationReader currentReader = reader;
+    obtainReaderHandler().post(new Runnable() {
+      @Override
+      public void run() {
+        final List<Location> batch = readBatch(currentReader);
+        handler.post(new Runnable() {
+          @Override
+          public void run() {
+            onBatchRead(currentReader, batch);
+          }
+        });
+      }
+    });
+  }
+
+  @Nullable
+  private List<Location> readBatch(GpxLocationReader currentReader) {
+    try {
+      return currentReader.nextLocations(LOCATIONS_PER_BATCH);
+    } catch (IOException | ParseException exception) {
+      Timber.e(exception, "An error occurred parsing the GPX trace.");
+      return null;
+    }
+  }
+
+  private void onBatchRead(GpxLocationReader currentReader, @Nullable List<Location> batch) {
+    if (currentReader != reader) {
+      // The trace has been replaced or stopped while this batch was being read
+      return;
+    }
+    isReading = false;
+    if (batch == null || batch.isEmpty()) {
+      isEndOfTrace = true;
+      closeReader();
+      return;
+    }
+    queuedLocations += batch.size();
+    if (dispatcher == null) {
+      dispatcher = new ReplayLocationDispatcher(batch);
+      dispatcher.addReplayLocationListener(replayLocationListener);
+      dispatcher.run();
+    } else {
+      dispatcher.add(batch);
+    }
+  }
+
+  private Handler obtainReaderHandler() {
+    if (readerHandler == null) {
+      readerThread = new HandlerThread(GPX_READER_THREAD_NAME, Process.THREAD_PRIORITY_BACKGROUND);
+      readerThread.start();
+      readerHandler = new Handler(readerThread.getLooper());
+    }
+    return readerHandler;
+  }
+
+  private void stopReplay() {
+    if (dispatcher != null) {
+      dispatcher.stop();
+      dispatcher.removeReplayLocationListener(replayLocationListener);
+      dispatcher = null;
+    }
+    closeReader();
+    queuedLocations = 0;
+    isReading = false;
+  }
+
+  private void closeReader() {
+    if (reader == null) {
+      return;
+    }
+    final GpxLocationReader closingReader = reader;
+    reader = null;
+    obtainReaderHandler().post(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          closingReader.close();
+        } catch (IOException exception) {
+          Timber.e(exception, "An error occurred closing the GPX trace.");
+        }
+      }
+    });
+  }
+}
@@ -19,10 +19,11 @@ class ReplayRouteLocationConverter {
   private static final double ONE_KM_IN_METERS = 1000d;
   private static final int ONE_HOUR_IN_SECONDS = 3600;
   private static final String REPLAY_ROUTE = "ReplayRouteLocation";
+  private static final String SPEED_MUST_BE_GREATER_THAN_ZERO_KM_H = "Speed must be greater than 0 km/h.";
+  private static final String DELAY_MUST_BE_GREATER_THAN_ZERO_SECONDS = "Delay must be greater than 0 seconds.";
   private DirectionsRoute route;
   private int speed;
   private int delay;
-  private double distance;
   private int currentLeg;
   private int currentStep;
   private long time;
@@ -30,16 +31,27 @@ class ReplayRouteLocationConverter {
   ReplayRouteLocationConverter(DirectionsRoute route, int speed, int delay) {
     initialize();
     update(route);
-    this.speed = speed;
-    this.delay = delay;
-    this.distance = calculateDistancePerSec();
+    updateSpeed(speed);
+    updateDelay(delay);
   }
 
+  /**
+   * @param customSpeedInKmPerHour greater than zero, so the samples move along the route
+   */
   void updateSpeed(int customSpeedInKmPerHour) {
+    if (customSpeedInKmPerHour <= 0) {
+      throw new IllegalArgumentException(SPEED_MUST_BE_GREATER_THAN_ZERO_KM_H);
+    }
     this.speed = customSpeedInKmPerHour;
   }
 
+  /**
+   * @param customDelayInSeconds greater than zero, so the samples move along the route
+   */
   void updateDelay(int customDelayInSeconds) {
+    if (customDelayInSeconds <= 0) {
+      throw new IllegalArgumentException(DELAY_MUST_BE_GREATER_THAN_ZERO_SECONDS);
+    }
     this.delay = customDelayInSeconds;
   }
 
@@ -56,42 +68,84 @@ class ReplayRouteLocationConverter {
 
   /**
    * Interpolates the route into even points along the route and adds these to the points list.
+   * <p>
+   * The points are sampled in a single forward pass over the line, giving the same result
+   * as calling {@link TurfMeasurement#along(LineString, double, String)} for each of them.
    *
    * @param lineString our route geometry.
    * @return list of sliced {@link Point}s.
    */
   List<Point> sliceRoute(LineString lineString) {
-    double distanceMeters = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
+    List<Point> coordinates = lineString.coordinates();
+    double[] segmentDistances = new double[Math.max(coordinates.size() - 1, 0)];
+    double distanceMeters = 0;
+    for (int i = 0; i < segmentDistances.length; i++) {
+      segmentDistances[i] = TurfMeasurement.distance(coordinates.get(i), coordinates.get(i + 1),
+        TurfConstants.UNIT_METERS);
+      distanceMeters += segmentDistances[i];
+    }
     if (distanceMeters <= 0) {
       return Collections.emptyList();
     }
 
-    List<Point> points = new ArrayList<>();
+    double distance = calculateDistancePerSec();
+    List<Point> points = new ArrayList<>((int) (distanceMeters / distance) + 1);
+    int index = 0;
+    double travelled = 0;
     for (double i = 0; i < distanceMeters; i += distance) {
-      Point point = TurfMeasurement.along(lineString, i, TurfConstants.UNIT_METERS);
-      points.add(point);
+      while (travelled < i && index < segmentDistances.length) {
+        travelled += segmentDistances[index];
+        index++;
+      }
+      points.add(pointAlong(coordinates, index, travelled, i));
     }
     return points;
   }
 
   List<Location> calculateMockLocations(List<Point> points) {
-    List<Point> pointsToCopy = new ArrayList<>(points);
-    List<Location> mockedLocations = new ArrayList<>();
-    for (Point point : points) {
-      Location mockedLocation = createMockLocationFrom(point);
-
-      if (pointsToCopy.size() >= 2) {
-        double bearing = TurfMeasurement.bearing(point, points.get(1));
-        mockedLocation.setBearing((float) bearing);
+    List<Location> mockedLocations = new ArrayList<>(points.size());
+    float bearing = 0;
+    for (int i = 0; i < points.size(); i++) {
+      Location mockedLocation = createMockLocationFrom(points.get(i));
+
+      boolean hasNextPoint = i < points.size() - 1;
+      if (hasNextPoint) {
+        bearing = (float) TurfMeasurement.bearing(points.get(i), points.get(i + 1));
+      }
+      if (hasNextPoint || i > 0) {
+        // The last point keeps the bearing towards it
+        mockedLocation.setBearing(bearing);
       }
       time += delay * ONE_SECOND_IN_MILLISECONDS;
       mockedLocations.add(mockedLocation);
-      pointsToCopy.remove(point);
     }
 
     return mockedLocations;
   }
 
+  /**
+   * Point at the given distance along the line, measured from the coordinate at the given index.
+   *
+   * @param coordinates of the line
+   * @param index       of the first coordinate at or beyond the distance, or of the last coordinate
+   * @param travelled   distance along the line up to the coordinate at index
+   * @param distance    along the line of the point
+   * @return the point along the line
+   */
+  private Point pointAlong(List<Point> coordinates, int index, double travelled, double distance) {
+    Point coordinate = coordinates.get(index);
+    boolean isLastCoordinate = index == coordinates.size() - 1;
+    if (isLastCoordinate && distance >= travelled) {
+      return coordinate;
+    }
+    double overshot = distance - travelled;
+    if (overshot == 0) {
+      return coordinate;
+    }
+    double direction = TurfMeasurement.bearing(coordinate, coordinates.get(index - 1)) - 180;
+    return TurfMeasurement.destination(coordinate, overshot, direction, TurfConstants.UNIT_METERS);
+  }
+
   private void update(DirectionsRoute route) {
     this.route = route;
   }
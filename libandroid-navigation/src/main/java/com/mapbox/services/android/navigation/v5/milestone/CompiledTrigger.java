@@ -0,0 +1,260 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.support.annotation.Nullable;
+
+/**
+ * Compiled form of a {@link Trigger.Statement} tree, evaluated against a {@link TriggerSnapshot}
+ * without boxing any of the compared values.
+ * <p>
+ * Results match {@link Operation} for every statement provided by {@link Trigger}, including the
+ * {@link Number#equals(Object)} semantics of {@link Trigger#eq(int, Object)} and
+ * {@link Trigger#neq(int, Object)}.
+ *
+ * @since 0.21.0
+ */
+abstract class CompiledTrigger {
+
+  static final int GREATER_THAN = 0;
+  static final int GREATER_THAN_EQUAL = 1;
+  static final int LESS_THAN = 2;
+  static final int LESS_THAN_EQUAL = 3;
+
+  private static final Integer TRUE = TriggerProperty.TRUE;
+
+  abstract boolean isOccurring(TriggerSnapshot snapshot);
+
+  /**
+   * Compiles the given statement tree.
+   *
+   * @param statement to be compiled
+   * @return the compiled trigger, or null if the tree contains a statement that can't be compiled
+   */
+  @Nullable
+  static CompiledTrigger compile(@Nullable Trigger.Statement statement) {
+    if (statement == null) {
+      return null;
+    }
+    return statement.compile();
+  }
+
+  @Nullable
+  static CompiledTrigger[] compile(Trigger.Statement[] statements) {
+    CompiledTrigger[] compiledTriggers = new CompiledTrigger[statements.length];
+    for (int i = 0; i < statements.length; i++) {
+      CompiledTrigger compiledTrigger = compile(statements[i]);
+      if (compiledTrigger == null) {
+        return null;
+      }
+      compiledTriggers[i] = compiledTrigger;
+    }
+    return compiledTriggers;
+  }
+
+  @Nullable
+  static CompiledTrigger relational(int property, Object value, int operator) {
+    if (!TriggerSnapshot.isSupported(property) || !(value instanceof Number)) {
+      return null;
+    }
+    if (TriggerSnapshot.isComparison(property)) {
+      return new RelationalComparison(property, operator, TRUE.equals(value));
+    }
+    return new Relational(property, operator, ((Number) value).doubleValue());
+  }
+
+  @Nullable
+  static CompiledTrigger equal(int property, Object value) {
+    if (!TriggerSnapshot.isSupported(property) || !(value instanceof Number)) {
+      return null;
+    }
+    if (TriggerSnapshot.isComparison(property)) {
+      return new EqualComparison(property, TRUE.equals(value));
+    }
+    boolean isIntegerProperty = TriggerSnapshot.isIntegerProperty(property);
+    if (isIntegerProperty && value instanceof Integer) {
+      return new Equal(property, (Integer) value);
+    } else if (!isIntegerProperty && value instanceof Double) {
+      return new Equal(property, (Double) value);
+    }
+    // Boxed values of different types never equal each other
+    return new Constant(false);
+  }
+
+  @Nullable
+  static CompiledTrigger notEqual(int property, Object value) {
+    CompiledTrigger equal = equal(property, value);
+    if (equal == null) {
+      return null;
+    }
+    return new Not(equal);
+  }
+
+  private static boolean compare(double value, double comparedValue, int operator) {
+    switch (operator) {
+      case GREATER_THAN:
+        return value > comparedValue;
+      case GREATER_THAN_EQUAL:
+        return value >= comparedValue;
+      case LESS_THAN:
+        return value < comparedValue;
+      case LESS_THAN_EQUAL:
+        return value <= comparedValue;
+      default:
+        return false;
+    }
+  }
+
+  /*
+   * Compound triggers
+   */
+
+  static class All extends CompiledTrigger {
+    private final CompiledTrigger[] triggers;
+
+    All(CompiledTrigger[] triggers) {
+      this.triggers = triggers;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      for (CompiledTrigger trigger : triggers) {
+        if (!trigger.isOccurring(snapshot)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  static class Any extends CompiledTrigger {
+    private final CompiledTrigger[] triggers;
+
+    Any(CompiledTrigger[] triggers) {
+      this.triggers = triggers;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      for (CompiledTrigger trigger : triggers) {
+        if (trigger.isOccurring(snapshot)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
+  static class None extends CompiledTrigger {
+    private final CompiledTrigger[] triggers;
+
+    None(CompiledTrigger[] triggers) {
+      this.triggers = triggers;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      for (CompiledTrigger trigger : triggers) {
+        if (trigger.isOccurring(snapshot)) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+
+  /*
+   * Simple triggers
+   */
+
+  private static class Not extends CompiledTrigger {
+    private final CompiledTrigger trigger;
+
+    Not(CompiledTrigger trigger) {
+      this.trigger = trigger;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      return !trigger.isOccurring(snapshot);
+    }
+  }
+
+  private static class Constant extends CompiledTrigger {
+    private final boolean isOccurring;
+
+    Constant(boolean isOccurring) {
+      this.isOccurring = isOccurring;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      return isOccurring;
+    }
+  }
+
+  private static class Relational extends CompiledTrigger {
+    private final int property;
+    private final int operator;
+    private final double value;
+
+    Relational(int property, int operator, double value) {
+      this.property = property;
+      this.operator = operator;
+      this.value = value;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      return compare(snapshot.value(property), value, operator);
+    }
+  }
+
+  private static class RelationalComparison extends CompiledTrigger {
+    private final int property;
+    private final int operator;
+    private final boolean expected;
+
+    RelationalComparison(int property, int operator, boolean expected) {
+      this.property = property;
+      this.operator = operator;
+      this.expected = expected;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      boolean result = compare(snapshot.value(property), snapshot.comparedValue(property), operator);
+      return result == expected;
+    }
+  }
+
+  private static class Equal extends CompiledTrigger {
+    private final int property;
+    private final long valueBits;
+
+    Equal(int property, double value) {
+      this.property = property;
+      this.valueBits = Double.doubleToLongBits(value);
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      // Matches Double#equals, which compares the bit representation of both values
+      return Double.doubleToLongBits(snapshot.value(property)) == valueBits;
+    }
+  }
+
+  private static class EqualComparison extends CompiledTrigger {
+    private final int property;
+    private final boolean expected;
+
+    EqualComparison(int property, boolean expected) {
+      this.property = property;
+      this.expected = expected;
+    }
+
+    @Override
+    boolean isOccurring(TriggerSnapshot snapshot) {
+      boolean result = snapshot.value(property) == snapshot.comparedValue(property);
+      return result == expected;
+    }
+  }
+}
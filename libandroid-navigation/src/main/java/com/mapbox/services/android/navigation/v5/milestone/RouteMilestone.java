@@ -12,18 +12,19 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 public class RouteMilestone extends Milestone {
 
   private Builder builder;
+  private TriggerEvaluator triggerEvaluator;
   private boolean called;
 
   private RouteMilestone(Builder builder) {
     super(builder);
     this.builder = builder;
+    this.triggerEvaluator = new TriggerEvaluator(builder.getTrigger());
   }
 
   @Override
   public boolean isOccurring(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
 
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress)) && !called) {
+    if (triggerEvaluator.isOccurring(builder.getTrigger(), previousRouteProgress, routeProgress) && !called) {
       called = true;
       return true;
     }
@@ -13,11 +13,13 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 public class StepMilestone extends Milestone {
 
   private Builder builder;
+  private TriggerEvaluator triggerEvaluator;
   private boolean called;
 
   private StepMilestone(Builder builder) {
     super(builder);
     this.builder = builder;
+    this.triggerEvaluator = new TriggerEvaluator(builder.getTrigger());
   }
 
   @Override
@@ -33,8 +35,7 @@ public class StepMilestone extends Milestone {
     if (called) {
       return false;
     }
-    if (builder.getTrigger().isOccurring(
-      TriggerProperty.getSparseArray(previousRouteProgress, routeProgress))) {
+    if (triggerEvaluator.isOccurring(builder.getTrigger(), previousRouteProgress, routeProgress)) {
       called = true;
       return true;
     }
@@ -1,5 +1,6 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
+import android.support.annotation.Nullable;
 import android.util.SparseArray;
 
 import java.util.Map;
@@ -34,6 +35,19 @@ public class Trigger {
      * @since 0.4.0
      */
     public abstract boolean isOccurring(SparseArray<Number[]> statementObjects);
+
+    /**
+     * Compiles this statement so it can be evaluated against a {@link TriggerSnapshot}. Statements
+     * created outside of the SDK can't be compiled and are evaluated with
+     * {@link #isOccurring(SparseArray)} instead.
+     *
+     * @return the compiled statement, or null if it can't be compiled
+     * @since 0.21.0
+     */
+    @Nullable
+    CompiledTrigger compile() {
+      return null;
+    }
   }
 
   /*
@@ -52,6 +66,12 @@ public class Trigger {
       this.statements = statements;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      CompiledTrigger[] compiledTriggers = CompiledTrigger.compile(statements);
+      return compiledTriggers == null ? null : new CompiledTrigger.All(compiledTriggers);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       boolean all = true;
@@ -76,6 +96,12 @@ public class Trigger {
       this.statements = statements;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      CompiledTrigger[] compiledTriggers = CompiledTrigger.compile(statements);
+      return compiledTriggers == null ? null : new CompiledTrigger.None(compiledTriggers);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       for (Statement statement : statements) {
@@ -99,6 +125,12 @@ public class Trigger {
       this.statements = statements;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      CompiledTrigger[] compiledTriggers = CompiledTrigger.compile(statements);
+      return compiledTriggers == null ? null : new CompiledTrigger.Any(compiledTriggers);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       for (Statement statement : statements) {
@@ -129,6 +161,11 @@ public class Trigger {
       this.value = value;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.relational(key, value, CompiledTrigger.GREATER_THAN);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThan(statementObjects.get(key), (Number) value);
@@ -150,6 +187,11 @@ public class Trigger {
       this.value = value;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.relational(key, value, CompiledTrigger.GREATER_THAN_EQUAL);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.greaterThanEqual(statementObjects.get(key), (Number) value);
@@ -170,6 +212,11 @@ public class Trigger {
       this.value = value;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.relational(key, value, CompiledTrigger.LESS_THAN);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThan(statementObjects.get(key), (Number) value);
@@ -191,6 +238,11 @@ public class Trigger {
       this.value = value;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.relational(key, value, CompiledTrigger.LESS_THAN_EQUAL);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.lessThanEqual(statementObjects.get(key), (Number) value);
@@ -211,6 +263,11 @@ public class Trigger {
       this.values = values;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.notEqual(key, values[0]);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.notEqual(statementObjects.get(key), (Number) values[0]);
@@ -231,6 +288,11 @@ public class Trigger {
       this.value = value;
     }
 
+    @Override
+    CompiledTrigger compile() {
+      return CompiledTrigger.equal(key, value);
+    }
+
     @Override
     public boolean isOccurring(SparseArray<Number[]> statementObjects) {
       return Operation.equal(statementObjects.get(key), (Number) value);
@@ -0,0 +1,40 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * Evaluates the {@link Trigger.Statement} of a milestone.
+ * <p>
+ * The statement gets compiled once into a {@link CompiledTrigger}, which is then evaluated against a
+ * re-used {@link TriggerSnapshot} for every update. Statements which can't be compiled fall back to
+ * {@link TriggerProperty#getSparseArray(RouteProgress, RouteProgress)}.
+ *
+ * @since 0.21.0
+ */
+class TriggerEvaluator {
+
+  private final TriggerSnapshot snapshot = new TriggerSnapshot();
+  private Trigger.Statement statement;
+  private CompiledTrigger compiledTrigger;
+
+  TriggerEvaluator(Trigger.Statement statement) {
+    compile(statement);
+  }
+
+  boolean isOccurring(Trigger.Statement statement, RouteProgress previousRouteProgress,
+                      RouteProgress routeProgress) {
+    if (this.statement != statement) {
+      compile(statement);
+    }
+    if (compiledTrigger == null) {
+      return statement.isOccurring(TriggerProperty.getSparseArray(previousRouteProgress, routeProgress));
+    }
+    snapshot.update(previousRouteProgress, routeProgress);
+    return compiledTrigger.isOccurring(snapshot);
+  }
+
+  private void compile(Trigger.Statement statement) {
+    this.statement = statement;
+    this.compiledTrigger = CompiledTrigger.compile(statement);
+  }
+}
@@ -0,0 +1,107 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+
+/**
+ * Flat, primitive copy of the {@link TriggerProperty} values used by {@link CompiledTrigger}.
+ * <p>
+ * Holds the same values {@link TriggerProperty#getSparseArray(RouteProgress, RouteProgress)} provides,
+ * but an instance is re-used for every update rather than boxing each value into a new array.
+ * Properties which compare two values (for example {@link TriggerProperty#NEW_STEP}) store the
+ * second value in {@link #comparedValue(int)}.
+ *
+ * @since 0.21.0
+ */
+class TriggerSnapshot {
+
+  private static final int PROPERTY_COUNT = TriggerProperty.NEXT_STEP_DURATION_SECONDS + 1;
+  private static final int FIRST_INDEX = 0;
+  private static final int TWO_STEPS = 2;
+  private static final int ONE_LEG = 1;
+
+  private final double[] values = new double[PROPERTY_COUNT];
+  private final double[] comparedValues = new double[PROPERTY_COUNT];
+
+  void update(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    RouteStepProgress stepProgress = legProgress.currentStepProgress();
+    LegStep currentStep = legProgress.currentStep();
+    LegStep upcomingStep = legProgress.upComingStep();
+    int stepIndex = legProgress.stepIndex();
+    int legIndex = routeProgress.legIndex();
+
+    values[TriggerProperty.STEP_DISTANCE_TOTAL_METERS] = currentStep.distance();
+    values[TriggerProperty.STEP_DURATION_TOTAL_SECONDS] = currentStep.duration();
+    values[TriggerProperty.STEP_DISTANCE_REMAINING_METERS] = stepProgress.distanceRemaining();
+    values[TriggerProperty.STEP_DURATION_REMAINING_SECONDS] = stepProgress.durationRemaining();
+    values[TriggerProperty.STEP_INDEX] = stepIndex;
+    updateComparison(TriggerProperty.NEW_STEP, previousRouteProgress.currentLegProgress().stepIndex(), stepIndex);
+    updateComparison(TriggerProperty.LAST_STEP, stepIndex, routeProgress.currentLeg().steps().size() - TWO_STEPS);
+    updateComparison(TriggerProperty.FIRST_STEP, stepIndex, FIRST_INDEX);
+    values[TriggerProperty.NEXT_STEP_DURATION_SECONDS] = upcomingStep != null ? upcomingStep.duration() : 0;
+    values[TriggerProperty.NEXT_STEP_DISTANCE_METERS] = upcomingStep != null ? upcomingStep.distance() : 0;
+    // FIRST_LEG shares its key with STEP_DISTANCE_TRAVELED_METERS and takes precedence, as in the SparseArray
+    updateComparison(TriggerProperty.FIRST_LEG, legIndex, FIRST_INDEX);
+    updateComparison(TriggerProperty.LAST_LEG, legIndex,
+      routeProgress.directionsRoute().legs().size() - ONE_LEG);
+  }
+
+  double value(int property) {
+    return values[property];
+  }
+
+  double comparedValue(int property) {
+    return comparedValues[property];
+  }
+
+  /**
+   * @param property a {@link TriggerProperty} key
+   * @return true if this snapshot provides a value for the property
+   */
+  static boolean isSupported(int property) {
+    switch (property) {
+      case TriggerProperty.STEP_DURATION_REMAINING_SECONDS:
+      case TriggerProperty.STEP_DISTANCE_REMAINING_METERS:
+      case TriggerProperty.STEP_DISTANCE_TOTAL_METERS:
+      case TriggerProperty.STEP_DURATION_TOTAL_SECONDS:
+      case TriggerProperty.NEXT_STEP_DISTANCE_METERS:
+      case TriggerProperty.NEXT_STEP_DURATION_SECONDS:
+        return true;
+      default:
+        return isIntegerProperty(property);
+    }
+  }
+
+  /**
+   * @param property a {@link TriggerProperty} key
+   * @return true if the property holds two values which are compared with each other
+   */
+  static boolean isComparison(int property) {
+    switch (property) {
+      case TriggerProperty.NEW_STEP:
+      case TriggerProperty.LAST_STEP:
+      case TriggerProperty.FIRST_STEP:
+      case TriggerProperty.FIRST_LEG:
+      case TriggerProperty.LAST_LEG:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  /**
+   * @param property a {@link TriggerProperty} key
+   * @return true if the property is boxed as an {@link Integer} by the {@code SparseArray}
+   */
+  static boolean isIntegerProperty(int property) {
+    return property == TriggerProperty.STEP_INDEX || isComparison(property);
+  }
+
+  private void updateComparison(int property, int value, int comparedValue) {
+    values[property] = value;
+    comparedValues[property] = comparedValue;
+  }
+}
@@ -1,6 +1,5 @@
 package com.mapbox.services.android.navigation.v5.milestone;
 
-import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.VoiceInstruction;
 import com.mapbox.services.android.navigation.v5.instruction.Instruction;
 import com.mapbox.services.android.navigation.v5.navigation.VoiceInstructionLoader;
@@ -90,9 +89,7 @@ public class VoiceInstructionMilestone extends Milestone {
   }
 
   private void checkForNewRoute(RouteProgress previousRouteProgress, RouteProgress routeProgress) {
-    DirectionsRoute previousRoute = previousRouteProgress.directionsRoute();
-    DirectionsRoute currentRoute = routeProgress.directionsRoute();
-    if (!previousRoute.equals(currentRoute)) {
+    if (previousRouteProgress.routeFingerprint() != routeProgress.routeFingerprint()) {
       cacheInstructions(routeProgress, true);
     }
   }
@@ -0,0 +1,128 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import java.util.List;
+
+/**
+ * A {@link RouteProcessorCadence} which updates the route progress more often close to a maneuver
+ * and less often on long steps or while the user is stationary.
+ * <p>
+ * Within the maneuver zone the minimum interval is used. Otherwise, the delay is half the time it takes
+ * the user, at their current speed, to reach the next point of interest on the step: the distance at which
+ * a voice or banner instruction is announced, the maneuver zone or the end of the step. Turn prompts are
+ * therefore never delayed by more than half the time left until they're due.
+ * <p>
+ * Progress updates, and with them location updates on the map and off-route detection, can be up to
+ * {@link NavigationConstants#ROUTE_PROCESSOR_MAXIMUM_INTERVAL_IN_MILLISECONDS} apart, so this cadence
+ * isn't the default: set it with {@link MapboxNavigationOptions.Builder#routeProcessorCadence(RouteProcessorCadence)}.
+ *
+ * @since 0.21.0
+ */
+public class AdaptiveRouteProcessorCadence implements RouteProcessorCadence {
+
+  private static final double STATIONARY_SPEED_IN_METERS_PER_SECOND = 1d;
+  private static final double HALF = 0.5d;
+  private static final double ONE_SECOND_IN_MILLISECONDS = 1000d;
+
+  private final long minimumIntervalInMilliseconds;
+  private final long defaultIntervalInMilliseconds;
+  private final long maximumIntervalInMilliseconds;
+  private final double maneuverZoneRadius;
+
+  /**
+   * Creates a cadence with the default intervals found in {@link NavigationConstants}
+   * and a maneuver zone of {@link NavigationConstants#MANEUVER_ZONE_RADIUS} meters.
+   *
+   * @since 0.21.0
+   */
+  public AdaptiveRouteProcessorCadence() {
+    this(
+      NavigationConstants.ROUTE_PROCESSOR_MINIMUM_INTERVAL_IN_MILLISECONDS,
+      NavigationConstants.ROUTE_PROCESSOR_DEFAULT_INTERVAL_IN_MILLISECONDS,
+      NavigationConstants.ROUTE_PROCESSOR_MAXIMUM_INTERVAL_IN_MILLISECONDS,
+      NavigationConstants.MANEUVER_ZONE_RADIUS
+    );
+  }
+
+  /**
+   * Creates a cadence with custom intervals.
+   *
+   * @param minimumIntervalInMilliseconds used within the maneuver zone
+   * @param defaultIntervalInMilliseconds used when the speed of the user is unknown
+   * @param maximumIntervalInMilliseconds used on long steps and while the user is stationary
+   * @param maneuverZoneRadius            in meters, before the end of the step
+   * @since 0.21.0
+   */
+  public AdaptiveRouteProcessorCadence(long minimumIntervalInMilliseconds, long defaultIntervalInMilliseconds,
+                                       long maximumIntervalInMilliseconds, double maneuverZoneRadius) {
+    this.minimumIntervalInMilliseconds = minimumIntervalInMilliseconds;
+    this.defaultIntervalInMilliseconds = defaultIntervalInMilliseconds;
+    this.maximumIntervalInMilliseconds = maximumIntervalInMilliseconds;
+    this.maneuverZoneRadius = maneuverZoneRadius;
+  }
+
+  @Override
+  public long nextUpdateDelayInMilliseconds(@Nullable Location rawLocation, RouteProgress routeProgress) {
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    double stepDistanceRemaining = legProgress.currentStepProgress().distanceRemaining();
+    if (stepDistanceRemaining <= maneuverZoneRadius) {
+      return minimumIntervalInMilliseconds;
+    }
+    if (rawLocation == null || !rawLocation.hasSpeed()) {
+      return defaultIntervalInMilliseconds;
+    }
+    double speed = rawLocation.getSpeed();
+    if (speed < STATIONARY_SPEED_IN_METERS_PER_SECOND) {
+      return maximumIntervalInMilliseconds;
+    }
+    double distanceToNextEvent = stepDistanceRemaining
+      - findNextEventDistance(legProgress.currentStep(), stepDistanceRemaining);
+    long delay = (long) (distanceToNextEvent / speed * HALF * ONE_SECOND_IN_MILLISECONDS);
+    return Math.max(minimumIntervalInMilliseconds, Math.min(maximumIntervalInMilliseconds, delay));
+  }
+
+  /**
+   * Finds the closest distance before the end of the step, still ahead of the user,
+   * at which an instruction is due or the maneuver zone is entered.
+   */
+  private double findNextEventDistance(@Nullable LegStep currentStep, double stepDistanceRemaining) {
+    double nextEventDistance = maneuverZoneRadius;
+    if (currentStep == null) {
+      return nextEventDistance;
+    }
+    List<VoiceInstructions> voiceInstructions = currentStep.voiceInstructions();
+    if (voiceInstructions != null) {
+      for (int i = 0; i < voiceInstructions.size(); i++) {
+        Double distanceAlongGeometry = voiceInstructions.get(i).distanceAlongGeometry();
+        if (distanceAlongGeometry != null) {
+          nextEventDistance = closerEventDistance(nextEventDistance, distanceAlongGeometry, stepDistanceRemaining);
+        }
+      }
+    }
+    List<BannerInstructions> bannerInstructions = currentStep.bannerInstructions();
+    if (bannerInstructions != null) {
+      for (int i = 0; i < bannerInstructions.size(); i++) {
+        double distanceAlongGeometry = bannerInstructions.get(i).distanceAlongGeometry();
+        nextEventDistance = closerEventDistance(nextEventDistance, distanceAlongGeometry, stepDistanceRemaining);
+      }
+    }
+    return nextEventDistance;
+  }
+
+  private static double closerEventDistance(double nextEventDistance, double distanceAlongGeometry,
+                                            double stepDistanceRemaining) {
+    boolean isAhead = distanceAlongGeometry < stepDistanceRemaining;
+    if (isAhead && distanceAlongGeometry > nextEventDistance) {
+      return distanceAlongGeometry;
+    }
+    return nextEventDistance;
+  }
+}
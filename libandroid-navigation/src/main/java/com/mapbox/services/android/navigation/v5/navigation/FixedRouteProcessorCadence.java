@@ -0,0 +1,41 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * A {@link RouteProcessorCadence} which updates the route progress at a fixed interval.
+ *
+ * @since 0.21.0
+ */
+public class FixedRouteProcessorCadence implements RouteProcessorCadence {
+
+  private final long intervalInMilliseconds;
+
+  /**
+   * Creates a cadence updating the route progress every
+   * {@link NavigationConstants#ROUTE_PROCESSOR_DEFAULT_INTERVAL_IN_MILLISECONDS}.
+   *
+   * @since 0.21.0
+   */
+  public FixedRouteProcessorCadence() {
+    this(NavigationConstants.ROUTE_PROCESSOR_DEFAULT_INTERVAL_IN_MILLISECONDS);
+  }
+
+  /**
+   * Creates a cadence updating the route progress at the given interval.
+   *
+   * @param intervalInMilliseconds delay between two updates
+   * @since 0.21.0
+   */
+  public FixedRouteProcessorCadence(long intervalInMilliseconds) {
+    this.intervalInMilliseconds = intervalInMilliseconds;
+  }
+
+  @Override
+  public long nextUpdateDelayInMilliseconds(@Nullable Location rawLocation, RouteProgress routeProgress) {
+    return intervalInMilliseconds;
+  }
+}
@@ -0,0 +1,126 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.NonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fixed-capacity history of the latest locations, indexed by time so the locations before
+ * and after an event can be found with a binary search instead of copying and scanning
+ * the whole history.
+ * <p>
+ * Times are kept in a primitive array next to the locations, in the order they were added.
+ * Location providers deliver fixes in chronological order, but if an older fix is added,
+ * lookups fall back to a linear scan until that fix leaves the history.
+ */
+class LocationHistory {
+
+  private final long[] times;
+  private final Location[] locations;
+  private int head;
+  private int size;
+  private int unorderedAddsRemaining;
+
+  LocationHistory(int capacity) {
+    times = new long[capacity];
+    locations = new Location[capacity];
+  }
+
+  void add(@NonNull Location location) {
+    int capacity = locations.length;
+    if (capacity == 0) {
+      return;
+    }
+    long time = location.getTime();
+    if (size > 0 && time < times[index(size - 1)]) {
+      unorderedAddsRemaining = capacity;
+    } else if (unorderedAddsRemaining > 0) {
+      unorderedAddsRemaining--;
+    }
+    if (size < capacity) {
+      times[index(size)] = time;
+      locations[index(size)] = location;
+      size++;
+    } else {
+      times[head] = time;
+      locations[head] = location;
+      head = (head + 1) % capacity;
+    }
+  }
+
+  int size() {
+    return size;
+  }
+
+  /**
+   * @param time of the event, in milliseconds since epoch
+   * @return the locations strictly before the given time, oldest first
+   */
+  @NonNull
+  List<Location> locationsBefore(long time) {
+    if (unorderedAddsRemaining > 0) {
+      return filter(time, true);
+    }
+    return copy(0, firstIndexAfter(time, false));
+  }
+
+  /**
+   * @param time of the event, in milliseconds since epoch
+   * @return the locations strictly after the given time, oldest first
+   */
+  @NonNull
+  List<Location> locationsAfter(long time) {
+    if (unorderedAddsRemaining > 0) {
+      return filter(time, false);
+    }
+    return copy(firstIndexAfter(time, true), size);
+  }
+
+  /**
+   * Binary search over the positions of the history, oldest being 0.
+   *
+   * @param time      to compare with
+   * @param inclusive true to skip the locations at the given time, false to stop at them
+   * @return the first position whose time is after (or at, if not inclusive) the given time
+   */
+  private int firstIndexAfter(long time, boolean inclusive) {
+    int low = 0;
+    int high = size;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      long middleTime = times[index(middle)];
+      boolean isBefore = inclusive ? middleTime <= time : middleTime < time;
+      if (isBefore) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private List<Location> copy(int fromPosition, int toPosition) {
+    List<Location> copy = new ArrayList<>(Math.max(toPosition - fromPosition, 0));
+    for (int position = fromPosition; position < toPosition; position++) {
+      copy.add(locations[index(position)]);
+    }
+    return copy;
+  }
+
+  private List<Location> filter(long time, boolean isBefore) {
+    List<Location> filtered = new ArrayList<>();
+    for (int position = 0; position < size; position++) {
+      long locationTime = times[index(position)];
+      if (isBefore ? locationTime < time : locationTime > time) {
+        filtered.add(locations[index(position)]);
+      }
+    }
+    return filtered;
+  }
+
+  private int index(int position) {
+    return (head + position) % locations.length;
+  }
+}
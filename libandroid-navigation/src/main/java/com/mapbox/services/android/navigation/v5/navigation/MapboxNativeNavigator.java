@@ -0,0 +1,41 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.navigator.FixLocation;
+import com.mapbox.navigator.NavigationStatus;
+import com.mapbox.navigator.Navigator;
+
+import java.util.Date;
+
+class MapboxNativeNavigator implements NativeNavigator {
+
+  private final Navigator navigator;
+
+  MapboxNativeNavigator(Navigator navigator) {
+    this.navigator = navigator;
+  }
+
+  @Override
+  public void setRoute(String routeJson, int routeIndex, int legIndex) {
+    navigator.setRoute(routeJson, routeIndex, legIndex);
+  }
+
+  @Override
+  public void updateLocation(FixLocation fixLocation) {
+    navigator.updateLocation(fixLocation);
+  }
+
+  @Override
+  public NavigationStatus getStatus(Date date) {
+    return navigator.getStatus(date);
+  }
+
+  @Override
+  public String getHistory() {
+    return navigator.getHistory();
+  }
+
+  @Override
+  public void toggleHistory(boolean isEnabled) {
+    navigator.toggleHistory(isEnabled);
+  }
+}
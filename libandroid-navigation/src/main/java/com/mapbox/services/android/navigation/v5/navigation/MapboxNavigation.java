@@ -58,6 +58,7 @@ public class MapboxNavigation implements ServiceConnection {
   private NavigationService navigationService;
   private MapboxNavigator mapboxNavigator;
   private DirectionsRoute directionsRoute;
+  private RouteGeometryIndex routeGeometryIndex;
   private MapboxNavigationOptions options;
   private LocationEngine locationEngine = null;
   private Set<Milestone> milestones;
@@ -345,6 +346,8 @@ public class MapboxNavigation implements ServiceConnection {
    */
   public void stopNavigation() {
     Timber.d("MapboxNavigation stopNavigation called");
+    mapboxNavigator.clearQueuedLocations();
+    mapboxNavigator.reset();
     if (isServiceAvailable()) {
       applicationContext.unbindService(this);
       isBound = false;
@@ -742,6 +745,10 @@ public class MapboxNavigation implements ServiceConnection {
     return directionsRoute;
   }
 
+  RouteGeometryIndex retrieveRouteGeometryIndex() {
+    return routeGeometryIndex;
+  }
+
   List<Milestone> getMilestones() {
     return new ArrayList<>(milestones);
   }
@@ -850,7 +857,8 @@ public class MapboxNavigation implements ServiceConnection {
   private void startNavigationWith(@NonNull DirectionsRoute directionsRoute) {
     ValidationUtils.validDirectionsRoute(directionsRoute, options.defaultMilestonesEnabled());
     this.directionsRoute = directionsRoute;
-    mapboxNavigator.updateRoute(directionsRoute.toJson());
+    this.routeGeometryIndex = new RouteGeometryIndex(directionsRoute);
+    mapboxNavigator.updateRoute(directionsRoute);
     if (!isBound) {
       navigationTelemetry.startSession(directionsRoute);
       startNavigationService();
@@ -10,6 +10,7 @@ import android.content.Intent;
 import android.content.IntentFilter;
 import android.content.pm.PackageManager;
 import android.os.Build;
+import android.os.SystemClock;
 import android.support.v4.app.NotificationCompat;
 import android.text.SpannableString;
 import android.text.format.DateFormat;
@@ -36,6 +37,8 @@ import static com.mapbox.services.android.navigation.v5.utils.time.TimeFormatter
 class MapboxNavigationNotification implements NavigationNotification {
 
   private static final String END_NAVIGATION_ACTION = "com.mapbox.intent.action.END_NAVIGATION";
+  private static final long ONE_MINUTE_IN_MILLISECONDS = 60 * 1000;
+  private static final long ONE_SECOND_IN_MILLISECONDS = 1000;
   private NotificationCompat.Builder notificationBuilder;
   private NotificationManager notificationManager;
   private Notification notification;
@@ -44,8 +47,10 @@ class MapboxNavigationNotification implements NavigationNotification {
   private MapboxNavigation mapboxNavigation;
   private SpannableString currentDistanceText;
   private DistanceFormatter distanceFormatter;
+  private NotificationUpdateThrottle updateThrottle;
   private String instructionText;
   private int currentManeuverId;
+  private long currentArrivalMinute = -1;
   private boolean isTwentyFourHourFormat;
   private String etaFormat;
 
@@ -86,6 +91,8 @@ class MapboxNavigationNotification implements NavigationNotification {
     initializeDistanceFormatter(context, mapboxNavigation);
     notificationManager = (NotificationManager) context.getSystemService(Context.NOTIFICATION_SERVICE);
     isTwentyFourHourFormat = DateFormat.is24HourFormat(context);
+    int updateInterval = mapboxNavigation.options().notificationUpdateIntervalInMilliseconds();
+    updateThrottle = new NotificationUpdateThrottle(updateInterval);
     createNotificationChannel(context);
     buildNotification(context);
     registerReceiver(context);
@@ -152,20 +159,27 @@ class MapboxNavigationNotification implements NavigationNotification {
 
   /**
    * With each location update and new routeProgress, the notification is checked and updated if any
-   * information has changed.
+   * information has changed. Posting a notification is an IPC to the system server, so it's only done
+   * when something visible changed, and at most once per
+   * {@link MapboxNavigationOptions#notificationUpdateIntervalInMilliseconds()} for distance and
+   * arrival time changes.
    *
    * @param routeProgress the latest RouteProgress object
    */
   private void updateNotificationViews(RouteProgress routeProgress) {
-    updateInstructionText(routeProgress.currentLegProgress().currentStep());
-    updateDistanceText(routeProgress);
-    updateArrivalTime(routeProgress);
+    boolean hasNewInstruction = updateInstructionText(routeProgress.currentLegProgress().currentStep());
+    boolean hasNewDistance = updateDistanceText(routeProgress);
+    boolean hasNewArrivalTime = updateArrivalTime(routeProgress);
     LegStep step = routeProgress.currentLegProgress().upComingStep() != null
       ? routeProgress.currentLegProgress().upComingStep()
       : routeProgress.currentLegProgress().currentStep();
-    updateManeuverImage(step);
+    boolean hasNewManeuver = updateManeuverImage(step);
 
-    notificationManager.notify(NAVIGATION_NOTIFICATION_ID, notificationBuilder.build());
+    boolean hasNewProgress = hasNewDistance || hasNewArrivalTime;
+    long now = SystemClock.elapsedRealtime();
+    if (updateThrottle.shouldUpdate(hasNewInstruction || hasNewManeuver, hasNewProgress, now)) {
+      notificationManager.notify(NAVIGATION_NOTIFICATION_ID, notificationBuilder.build());
+    }
   }
 
   private void unregisterReceiver(Context context) {
@@ -177,12 +191,14 @@ class MapboxNavigationNotification implements NavigationNotification {
     }
   }
 
-  private void updateInstructionText(LegStep step) {
+  private boolean updateInstructionText(LegStep step) {
     if (hasInstructions(step) && (instructionText == null || newInstructionText(step))) {
       instructionText = step.bannerInstructions().get(0).primary().text();
       collapsedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
       expandedNotificationRemoteViews.setTextViewText(R.id.notificationInstructionText, instructionText);
+      return true;
     }
+    return false;
   }
 
   private boolean hasInstructions(LegStep step) {
@@ -193,43 +209,51 @@ class MapboxNavigationNotification implements NavigationNotification {
     return !instructionText.equals(step.bannerInstructions().get(0).primary().text());
   }
 
-  private void updateDistanceText(RouteProgress routeProgress) {
-    if (currentDistanceText == null || newDistanceText(routeProgress)) {
-      currentDistanceText = distanceFormatter.formatDistance(
-        routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
+  private boolean updateDistanceText(RouteProgress routeProgress) {
+    SpannableString distanceText = distanceFormatter.formatDistance(
+      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining());
+    if (currentDistanceText == null || !currentDistanceText.toString().equals(distanceText.toString())) {
+      currentDistanceText = distanceText;
       collapsedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
       expandedNotificationRemoteViews.setTextViewText(R.id.notificationDistanceText, currentDistanceText);
+      return true;
     }
+    return false;
   }
 
-  private boolean newDistanceText(RouteProgress routeProgress) {
-    return currentDistanceText != null
-      && !currentDistanceText.toString().equals(distanceFormatter.formatDistance(
-      routeProgress.currentLegProgress().currentStepProgress().distanceRemaining()).toString());
-  }
-
-  private void updateArrivalTime(RouteProgress routeProgress) {
+  /**
+   * The arrival time is shown to the minute, so it's only formatted again once the
+   * estimated arrival moves to another minute.
+   */
+  private boolean updateArrivalTime(RouteProgress routeProgress) {
+    double durationRemaining = routeProgress.durationRemaining();
+    long currentTime = System.currentTimeMillis();
+    long arrivalTimeInMilliseconds = currentTime + (int) durationRemaining * ONE_SECOND_IN_MILLISECONDS;
+    long arrivalMinute = arrivalTimeInMilliseconds / ONE_MINUTE_IN_MILLISECONDS;
+    if (arrivalMinute == currentArrivalMinute) {
+      return false;
+    }
+    currentArrivalMinute = arrivalMinute;
     MapboxNavigationOptions options = mapboxNavigation.options();
     Calendar time = Calendar.getInstance();
-    double durationRemaining = routeProgress.durationRemaining();
+    time.setTimeInMillis(currentTime);
     int timeFormatType = options.timeFormatType();
     String arrivalTime = formatTime(time, durationRemaining, timeFormatType, isTwentyFourHourFormat);
     String formattedArrivalTime = String.format(etaFormat, arrivalTime);
     collapsedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
     expandedNotificationRemoteViews.setTextViewText(R.id.notificationArrivalText, formattedArrivalTime);
+    return true;
   }
 
-  private void updateManeuverImage(LegStep step) {
-    if (newManeuverId(step)) {
-      int maneuverResource = ManeuverUtils.getManeuverResource(step);
+  private boolean updateManeuverImage(LegStep step) {
+    int maneuverResource = ManeuverUtils.getManeuverResource(step);
+    if (currentManeuverId != maneuverResource) {
       currentManeuverId = maneuverResource;
       collapsedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
       expandedNotificationRemoteViews.setImageViewResource(R.id.maneuverImage, maneuverResource);
+      return true;
     }
-  }
-
-  private boolean newManeuverId(LegStep step) {
-    return currentManeuverId != ManeuverUtils.getManeuverResource(step);
+    return false;
   }
 
   private PendingIntent createPendingCloseIntent(Context context) {
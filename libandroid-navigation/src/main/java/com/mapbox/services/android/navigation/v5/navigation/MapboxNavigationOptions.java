@@ -3,10 +3,13 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.support.annotation.Nullable;
 
 import com.google.auto.value.AutoValue;
+import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEventSink;
 import com.mapbox.services.android.navigation.v5.navigation.notification.NavigationNotification;
 
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
   .NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants
+  .NAVIGATION_NOTIFICATION_UPDATE_INTERVAL_IN_MILLISECONDS;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationConstants.ROUNDING_INCREMENT_FIFTY;
 
 /**
@@ -60,6 +63,33 @@ public abstract class MapboxNavigationOptions {
 
   public abstract int navigationLocationEngineIntervalLagInMilliseconds();
 
+  /**
+   * Defines how often the route progress is updated while navigating.
+   *
+   * @return the cadence of the route processor, a {@link FixedRouteProcessorCadence} updating it once
+   * every second by default
+   * @since 0.21.0
+   */
+  public abstract RouteProcessorCadence routeProcessorCadence();
+
+  /**
+   * Minimum delay between two updates of the navigation notification caused by the remaining
+   * distance or the arrival time. A new instruction or maneuver is always shown right away.
+   *
+   * @return the minimum delay in milliseconds
+   * @since 0.21.0
+   */
+  public abstract int notificationUpdateIntervalInMilliseconds();
+
+  /**
+   * Destination of the navigation telemetry events, Mapbox telemetry if null.
+   *
+   * @return the custom sink of the telemetry events, or null
+   * @since 0.21.0
+   */
+  @Nullable
+  public abstract TelemetryEventSink telemetryEventSink();
+
   public abstract Builder toBuilder();
 
   @AutoValue.Builder
@@ -107,6 +137,38 @@ public abstract class MapboxNavigationOptions {
 
     public abstract Builder navigationLocationEngineIntervalLagInMilliseconds(int lagInMilliseconds);
 
+    /**
+     * Sets how often the route progress is updated while navigating. By default, it is updated once
+     * every second. Use an {@link AdaptiveRouteProcessorCadence} to update it more often close to a
+     * maneuver and less often on long steps or while the user is stationary.
+     *
+     * @param cadence of the route processor
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder routeProcessorCadence(RouteProcessorCadence cadence);
+
+    /**
+     * Sets the minimum delay between two updates of the navigation notification caused by
+     * the remaining distance or the arrival time.
+     *
+     * @param intervalInMilliseconds minimum delay between two notification updates
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder notificationUpdateIntervalInMilliseconds(int intervalInMilliseconds);
+
+    /**
+     * Sends the navigation telemetry events to the given sink instead of Mapbox telemetry, for
+     * instance a {@link com.mapbox.services.android.navigation.v5.navigation.metrics.FileTelemetryEventSink}
+     * to record them locally.
+     *
+     * @param sink of the telemetry events
+     * @return this builder
+     * @since 0.21.0
+     */
+    public abstract Builder telemetryEventSink(TelemetryEventSink sink);
+
     public abstract MapboxNavigationOptions build();
   }
 
@@ -131,6 +193,8 @@ public abstract class MapboxNavigationOptions {
       .roundingIncrement(ROUNDING_INCREMENT_FIFTY)
       .timeFormatType(NavigationTimeFormat.NONE_SPECIFIED)
       .locationAcceptableAccuracyInMetersThreshold(NavigationConstants.ONE_HUNDRED_METER_ACCEPTABLE_ACCURACY_THRESHOLD)
-      .navigationLocationEngineIntervalLagInMilliseconds(NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG);
+      .navigationLocationEngineIntervalLagInMilliseconds(NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG)
+      .routeProcessorCadence(new FixedRouteProcessorCadence())
+      .notificationUpdateIntervalInMilliseconds(NAVIGATION_NOTIFICATION_UPDATE_INTERVAL_IN_MILLISECONDS);
   }
 }
@@ -2,41 +2,156 @@ package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.location.Location;
 
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.FixLocation;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.navigator.Navigator;
 
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 
+/**
+ * Single-writer access to the navigator.
+ * <p>
+ * Route updates and locations are queued from any thread and given to the navigator by the route
+ * processor thread, in {@link #submitQueuedCommands()}, right before it computes a status. Callers
+ * never wait for a status computation or for a large route to be parsed, and a tick is never
+ * interrupted by another thread: its latency only depends on the commands it applies. Only
+ * {@link #retrieveHistory()} and {@link #toggleHistory(boolean)}, which are cheap and rarely
+ * called, wait for the route processor thread to be done with the navigator.
+ */
 class MapboxNavigator {
 
-  private final Navigator navigator;
+  private static final int MAXIMUM_QUEUED_LOCATIONS = 64;
+  private static final int ROUTE_INDEX = 0;
+  private static final int FIRST_LEG_INDEX = 0;
+  private final NativeNavigator navigator;
+  private final Object queueLock = new Object();
+  private final Object navigatorLock = new Object();
+  private DirectionsRoute updatedRoute;
+  private String queuedRouteJson;
+  // Swapped on each submission so neither list is reallocated
+  private List<Location> queuedLocations = new ArrayList<>();
+  private List<Location> submittedLocations = new ArrayList<>();
+  private final List<FixLocation> fixLocations = new ArrayList<>();
 
   MapboxNavigator(Navigator navigator) {
+    this(new MapboxNativeNavigator(navigator));
+  }
+
+  MapboxNavigator(NativeNavigator navigator) {
     this.navigator = navigator;
   }
 
-  synchronized void updateRoute(String routeJson) {
-    // TODO route_index (Which route to follow) and leg_index (Which leg to follow) are hardcoded for now
-    navigator.setRoute(routeJson, 0, 0);
+  /**
+   * Queues a new route, set on the navigator with the next {@link #submitQueuedCommands()},
+   * starting on its first leg. If it is the route last updated since {@link #reset()}, it's ignored
+   * and the navigator keeps following it.
+   * <p>
+   * The route json is serialized here, on the calling thread, rather than on the route processor
+   * thread, where it would delay the next status.
+   *
+   * @param route to follow
+   */
+  void updateRoute(DirectionsRoute route) {
+    synchronized (queueLock) {
+      if (route == updatedRoute) {
+        return;
+      }
+    }
+    String routeJson = route.toJson();
+    synchronized (queueLock) {
+      updatedRoute = route;
+      queuedRouteJson = routeJson;
+    }
   }
 
-  synchronized NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
+  /**
+   * Should be called from the thread submitting the commands, after {@link #submitQueuedCommands()}.
+   */
+  NavigationStatus retrieveStatus(Date date, long lagInMilliseconds) {
     // We ask for a point slightly in the future to account for lag in location services
     if (lagInMilliseconds > 0) {
       date.setTime(date.getTime() + lagInMilliseconds);
     }
-    return navigator.getStatus(date);
+    synchronized (navigatorLock) {
+      return navigator.getStatus(date);
+    }
+  }
+
+  /**
+   * Queues a raw location, given to the navigator with the next {@link #submitQueuedCommands()}.
+   * <p>
+   * High-rate location engines deliver several fixes per route processor update. If locations
+   * aren't submitted, only the latest ones are kept.
+   *
+   * @param raw location from the location engine
+   */
+  void queueLocation(Location raw) {
+    synchronized (queueLock) {
+      if (queuedLocations.size() == MAXIMUM_QUEUED_LOCATIONS) {
+        queuedLocations.remove(0);
+      }
+      queuedLocations.add(raw);
+    }
+  }
+
+  /**
+   * Drops the locations not submitted yet, so they aren't given to the navigator once navigation
+   * starts again.
+   */
+  void clearQueuedLocations() {
+    synchronized (queueLock) {
+      queuedLocations.clear();
+    }
   }
 
-  void updateLocation(Location raw) {
-    FixLocation fixedLocation = buildFixLocationFromLocation(raw);
-    synchronized (this) {
-      navigator.updateLocation(fixedLocation);
+  /**
+   * Forgets the route last updated, so it's set again on the navigator, from its first leg, when
+   * navigation restarts with it. Also drops the queued route if it wasn't submitted yet.
+   */
+  void reset() {
+    synchronized (queueLock) {
+      updatedRoute = null;
+      queuedRouteJson = null;
     }
   }
 
+  /**
+   * Gives the queued route, then the queued locations, to the navigator in the order they were
+   * queued. Should be called from a single thread, the route processor thread, before retrieving
+   * a status.
+   */
+  void submitQueuedCommands() {
+    String routeJson;
+    List<Location> locations;
+    synchronized (queueLock) {
+      if (queuedRouteJson == null && queuedLocations.isEmpty()) {
+        return;
+      }
+      routeJson = queuedRouteJson;
+      queuedRouteJson = null;
+      locations = queuedLocations;
+      queuedLocations = submittedLocations;
+      submittedLocations = locations;
+    }
+    for (Location location : locations) {
+      fixLocations.add(buildFixLocationFromLocation(location));
+    }
+    locations.clear();
+    synchronized (navigatorLock) {
+      if (routeJson != null) {
+        navigator.setRoute(routeJson, ROUTE_INDEX, FIRST_LEG_INDEX);
+      }
+      for (FixLocation fixLocation : fixLocations) {
+        navigator.updateLocation(fixLocation);
+      }
+    }
+    fixLocations.clear();
+  }
+
   /**
    * Gets the history of state changing calls to the navigator this can be used to
    * replay a sequence of events for the purpose of bug fixing.
@@ -44,8 +159,10 @@ class MapboxNavigator {
    * @return a json representing the series of events that happened since the last time
    * history was toggled on
    */
-  synchronized String retrieveHistory() {
-    return navigator.getHistory();
+  String retrieveHistory() {
+    synchronized (navigatorLock) {
+      return navigator.getHistory();
+    }
   }
 
   /**
@@ -55,17 +172,23 @@ class MapboxNavigator {
    *                  toggling will reset all history call getHistory first before toggling
    *                  to retain a copy
    */
-  synchronized void toggleHistory(boolean isEnabled) {
-    navigator.toggleHistory(isEnabled);
+  void toggleHistory(boolean isEnabled) {
+    synchronized (navigatorLock) {
+      navigator.toggleHistory(isEnabled);
+    }
   }
 
+  /**
+   * Values the location doesn't have are left null, letting the navigator know they're unknown
+   * rather than zero, and sparing their boxing.
+   */
   FixLocation buildFixLocationFromLocation(Location location) {
     Point rawPoint = Point.fromLngLat(location.getLongitude(), location.getLatitude());
     Date time = new Date(location.getTime());
-    Float speed = location.getSpeed();
-    Float bearing = location.getBearing();
-    Float altitude = (float) location.getAltitude();
-    Float horizontalAccuracy = location.getAccuracy();
+    Float speed = location.hasSpeed() ? location.getSpeed() : null;
+    Float bearing = location.hasBearing() ? location.getBearing() : null;
+    Float altitude = location.hasAltitude() ? (float) location.getAltitude() : null;
+    Float horizontalAccuracy = location.hasAccuracy() ? location.getAccuracy() : null;
     String provider = location.getProvider();
 
     return new FixLocation(
@@ -0,0 +1,26 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.android.telemetry.Event;
+import com.mapbox.android.telemetry.MapboxTelemetry;
+import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEventSink;
+
+import java.util.List;
+
+/**
+ * Default {@link TelemetryEventSink}, pushing the events to Mapbox telemetry.
+ */
+class MapboxTelemetrySink implements TelemetryEventSink {
+
+  private final MapboxTelemetry mapboxTelemetry;
+
+  MapboxTelemetrySink(MapboxTelemetry mapboxTelemetry) {
+    this.mapboxTelemetry = mapboxTelemetry;
+  }
+
+  @Override
+  public void send(List<Event> events) {
+    for (Event event : events) {
+      mapboxTelemetry.push(event);
+    }
+  }
+}
@@ -0,0 +1,23 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.navigator.FixLocation;
+import com.mapbox.navigator.NavigationStatus;
+
+import java.util.Date;
+
+/**
+ * Calls made by {@link MapboxNavigator} to the navigator, so it can be replaced in the JVM
+ * tests and benchmarks, where the native library isn't available.
+ */
+interface NativeNavigator {
+
+  void setRoute(String routeJson, int routeIndex, int legIndex);
+
+  void updateLocation(FixLocation fixLocation);
+
+  NavigationStatus getStatus(Date date);
+
+  String getHistory();
+
+  void toggleHistory(boolean isEnabled);
+}
@@ -208,6 +208,40 @@ public final class NavigationConstants {
    */
   static final int NAVIGATION_LOCATION_ENGINE_INTERVAL_LAG = 1500;
 
+  /**
+   * Default delay in milliseconds between two route processor updates, used by
+   * {@link FixedRouteProcessorCadence} and by {@link AdaptiveRouteProcessorCadence} when
+   * the speed of the user is unknown.
+   *
+   * @since 0.21.0
+   */
+  public static final int ROUTE_PROCESSOR_DEFAULT_INTERVAL_IN_MILLISECONDS = 1000;
+
+  /**
+   * Shortest delay in milliseconds between two route processor updates used by
+   * {@link AdaptiveRouteProcessorCadence}, reached within the maneuver zone.
+   *
+   * @since 0.21.0
+   */
+  public static final int ROUTE_PROCESSOR_MINIMUM_INTERVAL_IN_MILLISECONDS = 500;
+
+  /**
+   * Longest delay in milliseconds between two route processor updates used by
+   * {@link AdaptiveRouteProcessorCadence}, reached on long steps or while the user is stationary.
+   *
+   * @since 0.21.0
+   */
+  public static final int ROUTE_PROCESSOR_MAXIMUM_INTERVAL_IN_MILLISECONDS = 3000;
+
+  /**
+   * Default minimum delay in milliseconds between two updates of the navigation notification
+   * caused by the remaining distance or the arrival time. A new instruction or maneuver is
+   * always shown right away.
+   *
+   * @since 0.21.0
+   */
+  public static final int NAVIGATION_NOTIFICATION_UPDATE_INTERVAL_IN_MILLISECONDS = 1000;
+
   /**
    * Defines the minimum zoom level of the displayed map.
    */
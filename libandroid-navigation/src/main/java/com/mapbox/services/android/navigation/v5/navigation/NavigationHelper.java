@@ -241,25 +241,47 @@ public class NavigationHelper {
   public static StepIntersection findCurrentIntersection(@NonNull List<StepIntersection> intersections,
                                                   @NonNull List<Pair<StepIntersection, Double>> measuredIntersections,
                                                   double stepDistanceTraveled) {
-    for (Pair<StepIntersection, Double> measuredIntersection : measuredIntersections) {
-      double intersectionDistance = measuredIntersection.second;
-      int intersectionIndex = measuredIntersections.indexOf(measuredIntersection);
-      int nextIntersectionIndex = intersectionIndex + ONE_INDEX;
-      int measuredIntersectionSize = measuredIntersections.size();
+    if (measuredIntersections.isEmpty()) {
+      return intersections.get(FIRST_INTERSECTION);
+    }
+    int intersectionIndex = findCurrentIntersectionIndex(measuredIntersections, stepDistanceTraveled,
+      FIRST_INTERSECTION);
+    return measuredIntersections.get(intersectionIndex).first;
+  }
+
+  /**
+   * Finds the index of the current intersection in the measured intersections, starting from the
+   * index found last: as the distance traveled grows, previous intersections can't be current again.
+   * If the distance traveled went back before the intersection found last, starts over from the first one.
+   *
+   * @param measuredIntersections measured intersections along the step
+   * @param stepDistanceTraveled  how far the user has traveled along the step
+   * @param lastIntersectionIndex index found with a previous distance traveled along the same step
+   * @return the index of the current intersection, the first one if there are no measured intersections
+   */
+  static int findCurrentIntersectionIndex(@NonNull List<Pair<StepIntersection, Double>> measuredIntersections,
+                                          double stepDistanceTraveled, int lastIntersectionIndex) {
+    int measuredIntersectionSize = measuredIntersections.size();
+    int startIndex = lastIntersectionIndex;
+    boolean isInvalidStartIndex = startIndex < FIRST_INTERSECTION || startIndex >= measuredIntersectionSize;
+    if (isInvalidStartIndex || stepDistanceTraveled <= measuredIntersections.get(startIndex).second) {
+      startIndex = FIRST_INTERSECTION;
+    }
+    for (int i = startIndex; i < measuredIntersectionSize; i++) {
+      double intersectionDistance = measuredIntersections.get(i).second;
+      int nextIntersectionIndex = i + ONE_INDEX;
       boolean hasValidNextIntersection = nextIntersectionIndex < measuredIntersectionSize;
 
       if (hasValidNextIntersection) {
         double nextIntersectionDistance = measuredIntersections.get(nextIntersectionIndex).second;
         if (stepDistanceTraveled > intersectionDistance && stepDistanceTraveled < nextIntersectionDistance) {
-          return measuredIntersection.first;
+          return i;
         }
-      } else if (stepDistanceTraveled > measuredIntersection.second) {
-        return measuredIntersection.first;
-      } else {
-        return measuredIntersections.get(FIRST_INTERSECTION).first;
+      } else if (stepDistanceTraveled > intersectionDistance) {
+        return i;
       }
     }
-    return intersections.get(FIRST_INTERSECTION);
+    return FIRST_INTERSECTION;
   }
 
   /**
@@ -292,6 +314,25 @@ public class NavigationHelper {
     return null;
   }
 
+  /**
+   * Same as {@link #findUpcomingIntersection(List, LegStep, StepIntersection)}, with the index of the
+   * current intersection already known, sparing its lookup in the list.
+   */
+  @Nullable
+  static StepIntersection findUpcomingIntersection(@NonNull List<StepIntersection> intersections,
+                                                   @Nullable LegStep upcomingStep, int currentIntersectionIndex) {
+    int nextIntersectionIndex = currentIntersectionIndex + ONE_INDEX;
+    if (nextIntersectionIndex < intersections.size()) {
+      return intersections.get(nextIntersectionIndex);
+    } else if (upcomingStep != null) {
+      List<StepIntersection> upcomingIntersections = upcomingStep.intersections();
+      if (upcomingIntersections != null && !upcomingIntersections.isEmpty()) {
+        return upcomingIntersections.get(FIRST_INTERSECTION);
+      }
+    }
+    return null;
+  }
+
   /**
    * Given a list of distance annotations, find the current annotation index.  This index retrieves the
    * current annotation from any provided annotation list in {@link LegAnnotation}.
@@ -354,18 +395,22 @@ public class NavigationHelper {
   private static int findAnnotationIndex(CurrentLegAnnotation currentLegAnnotation,
                                          CurrentLegAnnotation.Builder annotationBuilder, RouteLeg leg,
                                          double legDistanceRemaining, List<Double> distanceAnnotationList) {
-    List<Double> legDistances = new ArrayList<>(distanceAnnotationList);
     Double totalLegDistance = leg.distance();
     double distanceTraveled = totalLegDistance - legDistanceRemaining;
 
     int distanceIndex = 0;
     double annotationDistancesTraveled = 0;
-    if (currentLegAnnotation != null) {
+    // Resume from the current annotation, unless the distance traveled went back before it
+    boolean canResume = currentLegAnnotation != null
+      && currentLegAnnotation.index() < distanceAnnotationList.size()
+      && currentLegAnnotation.distanceToAnnotation() <= distanceTraveled;
+    if (canResume) {
       distanceIndex = currentLegAnnotation.index();
       annotationDistancesTraveled = currentLegAnnotation.distanceToAnnotation();
     }
-    for (int i = distanceIndex; i < legDistances.size(); i++) {
-      Double distance = legDistances.get(i);
+    int annotationSize = distanceAnnotationList.size();
+    for (int i = distanceIndex; i < annotationSize; i++) {
+      double distance = distanceAnnotationList.get(i);
       annotationDistancesTraveled += distance;
       if (annotationDistancesTraveled > distanceTraveled) {
         double distanceToAnnotation = annotationDistancesTraveled - distance;
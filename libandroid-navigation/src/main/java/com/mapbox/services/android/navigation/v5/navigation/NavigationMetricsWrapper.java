@@ -2,6 +2,7 @@ package com.mapbox.services.android.navigation.v5.navigation;
 
 import android.content.Context;
 import android.location.Location;
+import android.support.annotation.Nullable;
 
 import com.mapbox.android.telemetry.AppUserTurnstile;
 import com.mapbox.android.telemetry.Event;
@@ -19,34 +20,46 @@ import com.mapbox.android.telemetry.NavigationStepMetadata;
 import com.mapbox.services.android.navigation.BuildConfig;
 import com.mapbox.services.android.navigation.v5.navigation.metrics.RerouteEvent;
 import com.mapbox.services.android.navigation.v5.navigation.metrics.SessionState;
+import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEventSink;
 import com.mapbox.services.android.navigation.v5.routeprogress.MetricsRouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import com.mapbox.services.android.navigation.v5.utils.DistanceFormatter;
 
 import java.util.Date;
 import java.util.List;
+import java.util.concurrent.Executors;
 
+/**
+ * Builds the navigation telemetry events and hands them to a {@link TelemetryEventPipeline},
+ * so the metadata is built and the events are sent off the calling thread. The given
+ * {@link MetricsRouteProgress} is updated on every progress, so a snapshot of it is kept.
+ */
 final class NavigationMetricsWrapper {
 
+  // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
+  // library?
+  private static final int HARDCODED_EVENT_VERSION = 7;
   static String sdkIdentifier;
-  private static String upcomingInstruction;
-  private static String previousInstruction;
-  private static String upcomingModifier;
-  private static String previousModifier;
-  private static String upcomingType;
-  private static String upcomingName;
-  private static String previousType;
-  private static String previousName;
   // TODO Where are we going to create MapboxTelemetry instance? Which class is going to hold it?
   private static MapboxTelemetry mapboxTelemetry;
+  private static TelemetryEventPipeline pipeline;
+  // Only used on the executor of the pipeline
+  private static final NavigationEventFactory EVENT_FACTORY = new NavigationEventFactory();
 
   private NavigationMetricsWrapper() {
     // Empty private constructor for preventing initialization of this class.
   }
 
-  static void init(Context context, String accessToken, String userAgent) {
+  static void init(Context context, String accessToken, String userAgent, @Nullable TelemetryEventSink sink) {
     mapboxTelemetry = new MapboxTelemetry(context, accessToken, userAgent);
     mapboxTelemetry.enable();
+    TelemetryEventSink eventSink = sink != null ? sink : new MapboxTelemetrySink(mapboxTelemetry);
+    if (pipeline == null) {
+      pipeline = new TelemetryEventPipeline(Executors.newSingleThreadExecutor(), eventSink,
+        TelemetryEventPipeline.DEFAULT_QUEUE_CAPACITY, TelemetryEventPipeline.DEFAULT_BATCH_SIZE);
+    } else {
+      pipeline.updateSink(eventSink);
+    }
   }
 
   static void toggleLogging(boolean isDebugLoggingEnabled) {
@@ -54,238 +67,155 @@ final class NavigationMetricsWrapper {
   }
 
   static void disable() {
-    if (mapboxTelemetry != null) {
-      mapboxTelemetry.disable();
+    if (mapboxTelemetry == null) {
+      return;
     }
+    final MapboxTelemetry disabledTelemetry = mapboxTelemetry;
+    // Queued events are sent before telemetry is disabled
+    pipeline.runAfterQueuedEvents(new Runnable() {
+      @Override
+      public void run() {
+        disabledTelemetry.disable();
+      }
+    });
   }
 
   static void push(Event event) {
-    mapboxTelemetry.push(event);
+    pipeline.enqueue(event);
   }
 
-  static void arriveEvent(SessionState sessionState, RouteProgress routeProgress, Location location) {
-    Date startTimestamp = obtainStartTimestamp(sessionState);
-    // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
-    // library?
-    int hardcodedEventVersion = 7;
-    MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(routeProgress);
-    int absoluteDistanceToDestination = DistanceFormatter.calculateAbsoluteDistance(location, metricsRouteProgress);
-    NavigationMetadata metadata = new NavigationMetadata(
-      startTimestamp,
-      (int) (sessionState.eventRouteDistanceCompleted() + routeProgress.distanceTraveled()),
-      (int) routeProgress.distanceRemaining(),
-      (int) routeProgress.durationRemaining(),
-      sdkIdentifier,
-      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME,
-      hardcodedEventVersion,
-      sessionState.sessionIdentifier(),
-      location.getLatitude(),
-      location.getLongitude(),
-      sessionState.currentGeometry(),
-      routeProgress.directionsRoute().routeOptions().profile(),
-      sessionState.mockLocation(),
-      sessionState.locationEngineName(),
-      absoluteDistanceToDestination
-    );
-    metadata.setEstimatedDistance(routeProgress.directionsRoute().distance().intValue());
-    metadata.setEstimatedDuration(routeProgress.directionsRoute().duration().intValue());
-    metadata.setRerouteCount(sessionState.rerouteCount());
-    metadata.setOriginalRequestIdentifier(sessionState.originalRequestIdentifier());
-    metadata.setRequestIdentifier(sessionState.requestIdentifier());
-    metadata.setOriginalGeometry(sessionState.originalGeometry());
-    metadata.setOriginalEstimatedDistance(sessionState.originalDistance());
-    metadata.setOriginalEstimatedDuration(sessionState.originalDuration());
-    metadata.setStepCount(sessionState.currentStepCount());
-    metadata.setOriginalStepCount(sessionState.originalStepCount());
-    metadata.setPercentTimeInForeground(sessionState.percentInForeground());
-    metadata.setPercentTimeInPortrait(sessionState.percentInPortrait());
-    NavigationState state = new NavigationState(metadata);
-    NavigationEventFactory factory = new NavigationEventFactory();
-    Event arriveEvent = factory.createNavigationEvent(Event.Type.NAV_ARRIVE, state);
-    mapboxTelemetry.push(arriveEvent);
+  static void arriveEvent(final SessionState sessionState, final RouteProgress routeProgress,
+                          final Location location) {
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(routeProgress);
+        NavigationMetadata metadata = buildMetadata(sessionState, metricsRouteProgress, location,
+          (int) (sessionState.eventRouteDistanceCompleted() + routeProgress.distanceTraveled()),
+          (int) routeProgress.distanceRemaining(), (int) routeProgress.durationRemaining());
+        metadata.setEstimatedDistance(routeProgress.directionsRoute().distance().intValue());
+        metadata.setEstimatedDuration(routeProgress.directionsRoute().duration().intValue());
+        NavigationState state = new NavigationState(metadata);
+        return EVENT_FACTORY.createNavigationEvent(Event.Type.NAV_ARRIVE, state);
+      }
+    });
   }
 
-  static void cancelEvent(SessionState sessionState, MetricsRouteProgress metricProgress, Location location) {
-    Date startTimestamp = obtainStartTimestamp(sessionState);
-    // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
-    // library?
-    int hardcodedEventVersion = 7;
-    int absoluteDistanceToDestination = DistanceFormatter.calculateAbsoluteDistance(location, metricProgress);
-    NavigationMetadata metadata = new NavigationMetadata(
-      startTimestamp,
-      (int) (sessionState.eventRouteDistanceCompleted() + metricProgress.getDistanceTraveled()),
-      metricProgress.getDistanceRemaining(),
-      metricProgress.getDurationRemaining(),
-      sdkIdentifier,
-      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME,
-      hardcodedEventVersion,
-      sessionState.sessionIdentifier(),
-      location.getLatitude(),
-      location.getLongitude(),
-      sessionState.currentGeometry(),
-      metricProgress.getDirectionsRouteProfile(),
-      sessionState.mockLocation(),
-      sessionState.locationEngineName(),
-      absoluteDistanceToDestination
-    );
-    metadata.setEstimatedDistance(metricProgress.getDirectionsRouteDistance());
-    metadata.setEstimatedDuration(metricProgress.getDirectionsRouteDuration());
-    metadata.setRerouteCount(sessionState.rerouteCount());
-    metadata.setOriginalRequestIdentifier(sessionState.originalRequestIdentifier());
-    metadata.setRequestIdentifier(sessionState.requestIdentifier());
-    metadata.setOriginalGeometry(sessionState.originalGeometry());
-    metadata.setOriginalEstimatedDistance(sessionState.originalDistance());
-    metadata.setOriginalEstimatedDuration(sessionState.originalDuration());
-    metadata.setStepCount(sessionState.currentStepCount());
-    metadata.setOriginalStepCount(sessionState.originalStepCount());
-    metadata.setPercentTimeInForeground(sessionState.percentInForeground());
-    metadata.setPercentTimeInPortrait(sessionState.percentInPortrait());
-    NavigationState state = new NavigationState(metadata);
-    Date arrivalDate = sessionState.arrivalTimestamp();
-    NavigationCancelData data = new NavigationCancelData();
-    if (arrivalDate != null) {
-      data.setArrivalTimestamp(arrivalDate);
-    }
-    state.setNavigationCancelData(data);
-    NavigationEventFactory factory = new NavigationEventFactory();
-    Event cancelEvent = factory.createNavigationEvent(Event.Type.NAV_CANCEL, state);
-    mapboxTelemetry.push(cancelEvent);
+  static void cancelEvent(final SessionState sessionState, MetricsRouteProgress routeProgress,
+                          final Location location) {
+    final MetricsRouteProgress metricProgress = routeProgress.snapshot();
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        NavigationMetadata metadata = buildMetadata(sessionState, metricProgress, location,
+          (int) (sessionState.eventRouteDistanceCompleted() + metricProgress.getDistanceTraveled()),
+          metricProgress.getDistanceRemaining(), metricProgress.getDurationRemaining());
+        NavigationState state = new NavigationState(metadata);
+        Date arrivalDate = sessionState.arrivalTimestamp();
+        NavigationCancelData data = new NavigationCancelData();
+        if (arrivalDate != null) {
+          data.setArrivalTimestamp(arrivalDate);
+        }
+        state.setNavigationCancelData(data);
+        return EVENT_FACTORY.createNavigationEvent(Event.Type.NAV_CANCEL, state);
+      }
+    });
   }
 
-  static void departEvent(SessionState sessionState, MetricsRouteProgress metricProgress, Location location) {
-    Date startTimestamp = obtainStartTimestamp(sessionState);
-    // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
-    // library?
-    int hardcodedEventVersion = 7;
-    int absoluteDistanceToDestination = DistanceFormatter.calculateAbsoluteDistance(location, metricProgress);
-    NavigationMetadata metadata = new NavigationMetadata(
-      startTimestamp,
-      metricProgress.getDistanceTraveled(),
-      metricProgress.getDistanceRemaining(),
-      metricProgress.getDurationRemaining(),
-      sdkIdentifier,
-      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME,
-      hardcodedEventVersion,
-      sessionState.sessionIdentifier(),
-      location.getLatitude(),
-      location.getLongitude(),
-      sessionState.currentGeometry(),
-      metricProgress.getDirectionsRouteProfile(),
-      sessionState.mockLocation(),
-      sessionState.locationEngineName(),
-      absoluteDistanceToDestination
-    );
-    metadata.setEstimatedDistance(metricProgress.getDirectionsRouteDistance());
-    metadata.setEstimatedDuration(metricProgress.getDirectionsRouteDuration());
-    metadata.setRerouteCount(sessionState.rerouteCount());
-    metadata.setOriginalRequestIdentifier(sessionState.originalRequestIdentifier());
-    metadata.setRequestIdentifier(sessionState.requestIdentifier());
-    metadata.setOriginalGeometry(sessionState.originalGeometry());
-    metadata.setOriginalEstimatedDistance(sessionState.originalDistance());
-    metadata.setOriginalEstimatedDuration(sessionState.originalDuration());
-    metadata.setStepCount(sessionState.currentStepCount());
-    metadata.setOriginalStepCount(sessionState.originalStepCount());
-    metadata.setPercentTimeInForeground(sessionState.percentInForeground());
-    metadata.setPercentTimeInPortrait(sessionState.percentInPortrait());
-    NavigationState state = new NavigationState(metadata);
-    NavigationEventFactory factory = new NavigationEventFactory();
-    Event departEvent = factory.createNavigationEvent(Event.Type.NAV_DEPART, state);
-    mapboxTelemetry.push(departEvent);
+  static void departEvent(final SessionState sessionState, MetricsRouteProgress routeProgress,
+                          final Location location) {
+    final MetricsRouteProgress metricProgress = routeProgress.snapshot();
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        NavigationMetadata metadata = buildMetadata(sessionState, metricProgress, location,
+          metricProgress.getDistanceTraveled(), metricProgress.getDistanceRemaining(),
+          metricProgress.getDurationRemaining());
+        NavigationState state = new NavigationState(metadata);
+        return EVENT_FACTORY.createNavigationEvent(Event.Type.NAV_DEPART, state);
+      }
+    });
   }
 
-  static void rerouteEvent(RerouteEvent rerouteEvent, MetricsRouteProgress metricProgress,
-                           Location location) {
-    SessionState sessionState = rerouteEvent.getSessionState();
-    Date startTimestamp = obtainStartTimestamp(sessionState);
-    // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
-    // library?
-    int hardcodedEventVersion = 7;
-    int absoluteDistanceToDestination = DistanceFormatter.calculateAbsoluteDistance(location, metricProgress);
-    NavigationMetadata metadata = new NavigationMetadata(
-      startTimestamp,
-      (int) sessionState.eventRouteDistanceCompleted(),
-      sessionState.eventRouteProgress().getDistanceRemaining(),
-      sessionState.eventRouteProgress().getDurationRemaining(),
-      sdkIdentifier,
-      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME,
-      hardcodedEventVersion,
-      sessionState.sessionIdentifier(),
-      location.getLatitude(),
-      location.getLongitude(),
-      sessionState.currentGeometry(),
-      metricProgress.getDirectionsRouteProfile(),
-      sessionState.mockLocation(),
-      sessionState.locationEngineName(),
-      absoluteDistanceToDestination
-    );
-    metadata.setEstimatedDistance(metricProgress.getDirectionsRouteDistance());
-    metadata.setEstimatedDuration(metricProgress.getDirectionsRouteDuration());
-    metadata.setRerouteCount(sessionState.rerouteCount());
-    metadata.setOriginalRequestIdentifier(sessionState.originalRequestIdentifier());
-    metadata.setRequestIdentifier(sessionState.requestIdentifier());
-    metadata.setOriginalGeometry(sessionState.originalGeometry());
-    metadata.setOriginalEstimatedDistance(sessionState.originalDistance());
-    metadata.setOriginalEstimatedDuration(sessionState.originalDuration());
-    metadata.setStepCount(sessionState.currentStepCount());
-    metadata.setOriginalStepCount(sessionState.originalStepCount());
-    metadata.setPercentTimeInForeground(sessionState.percentInForeground());
-    metadata.setPercentTimeInPortrait(sessionState.percentInPortrait());
-    metadata.setCreated(new Date(location.getTime()));
-    NavigationState state = new NavigationState(metadata);
-    Location[] before = convertToArray(sessionState.beforeEventLocations());
-    Location[] after = convertToArray(sessionState.afterEventLocations());
-    NavigationLocationData locationData = new NavigationLocationData(before, after);
-    state.setNavigationLocationData(locationData);
-    int newDistanceRemaining = rerouteEvent.getNewDistanceRemaining();
-    int newDurationRemaining = rerouteEvent.getNewDurationRemaining();
-    String newGeometry = rerouteEvent.getNewRouteGeometry();
-    NavigationNewData navigationNewData = new NavigationNewData(newDistanceRemaining, newDurationRemaining,
-      newGeometry);
-    int secondsSinceLastReroute = sessionState.secondsSinceLastReroute();
-    NavigationRerouteData navigationRerouteData = new NavigationRerouteData(navigationNewData, secondsSinceLastReroute);
-    state.setNavigationRerouteData(navigationRerouteData);
-    FeedbackData feedbackData = new FeedbackData();
-    // TODO Do we want to set the screenshot here?
-    state.setFeedbackData(feedbackData);
-    updateRouteProgressSessionData(metricProgress);
-    NavigationStepMetadata navigationStepMetadata = new NavigationStepMetadata();
-    navigationStepMetadata.setUpcomingInstruction(upcomingInstruction);
-    navigationStepMetadata.setUpcomingType(upcomingType);
-    navigationStepMetadata.setUpcomingModifier(upcomingModifier);
-    navigationStepMetadata.setUpcomingName(upcomingName);
-    navigationStepMetadata.setPreviousInstruction(previousInstruction);
-    navigationStepMetadata.setPreviousType(previousType);
-    navigationStepMetadata.setPreviousModifier(previousModifier);
-    navigationStepMetadata.setPreviousName(previousName);
-    int distance = metricProgress.getCurrentStepDistance();
-    navigationStepMetadata.setDistance(distance);
-    int duration = metricProgress.getCurrentStepDuration();
-    navigationStepMetadata.setDuration(duration);
-    int stepDistanceRemaining = metricProgress.getCurrentStepDistanceRemaining();
-    navigationStepMetadata.setDistanceRemaining(stepDistanceRemaining);
-    int stepDurationRemaining = metricProgress.getCurrentStepDurationRemaining();
-    navigationStepMetadata.setDurationRemaining(stepDurationRemaining);
-    state.setNavigationStepMetadata(navigationStepMetadata);
-    NavigationEventFactory factory = new NavigationEventFactory();
-    Event navRerouteEvent = factory.createNavigationEvent(Event.Type.NAV_REROUTE, state);
-    mapboxTelemetry.push(navRerouteEvent);
+  static void rerouteEvent(final RerouteEvent rerouteEvent, MetricsRouteProgress routeProgress,
+                           final Location location) {
+    final MetricsRouteProgress metricProgress = routeProgress.snapshot();
+    final SessionState sessionState = rerouteEvent.getSessionState();
+    final int newDistanceRemaining = rerouteEvent.getNewDistanceRemaining();
+    final int newDurationRemaining = rerouteEvent.getNewDurationRemaining();
+    final String newGeometry = rerouteEvent.getNewRouteGeometry();
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        NavigationMetadata metadata = buildMetadata(sessionState, metricProgress, location,
+          (int) sessionState.eventRouteDistanceCompleted(), sessionState.eventRouteProgress().getDistanceRemaining(),
+          sessionState.eventRouteProgress().getDurationRemaining());
+        metadata.setCreated(new Date(location.getTime()));
+        NavigationState state = new NavigationState(metadata);
+        state.setNavigationLocationData(buildLocationData(sessionState));
+        NavigationNewData navigationNewData = new NavigationNewData(newDistanceRemaining, newDurationRemaining,
+          newGeometry);
+        int secondsSinceLastReroute = sessionState.secondsSinceLastReroute();
+        NavigationRerouteData navigationRerouteData = new NavigationRerouteData(navigationNewData,
+          secondsSinceLastReroute);
+        state.setNavigationRerouteData(navigationRerouteData);
+        FeedbackData feedbackData = new FeedbackData();
+        // TODO Do we want to set the screenshot here?
+        state.setFeedbackData(feedbackData);
+        state.setNavigationStepMetadata(buildStepMetadata(metricProgress));
+        return EVENT_FACTORY.createNavigationEvent(Event.Type.NAV_REROUTE, state);
+      }
+    });
+  }
+
+  static void feedbackEvent(final SessionState sessionState, MetricsRouteProgress routeProgress,
+                            final Location location, final String description, final String feedbackType,
+                            final String screenshot, final String feedbackSource) {
+    final MetricsRouteProgress metricProgress = routeProgress.snapshot();
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        NavigationMetadata metadata = buildMetadata(sessionState, metricProgress, location,
+          (int) sessionState.eventRouteDistanceCompleted(), sessionState.eventRouteProgress().getDistanceRemaining(),
+          sessionState.eventRouteProgress().getDurationRemaining());
+        metadata.setCreated(new Date(location.getTime()));
+        NavigationState state = new NavigationState(metadata);
+        state.setNavigationLocationData(buildLocationData(sessionState));
+        FeedbackData feedbackData = new FeedbackData();
+        feedbackData.setScreenshot(screenshot);
+        state.setFeedbackData(feedbackData);
+        state.setNavigationStepMetadata(buildStepMetadata(metricProgress));
+        FeedbackEventData feedbackEventData = new FeedbackEventData(feedbackType, feedbackSource);
+        feedbackEventData.setDescription(description);
+        state.setFeedbackEventData(feedbackEventData);
+        return EVENT_FACTORY.createNavigationEvent(Event.Type.NAV_FEEDBACK, state);
+      }
+    });
   }
 
-  static void feedbackEvent(SessionState sessionState, MetricsRouteProgress metricProgress, Location location,
-                            String description, String feedbackType, String screenshot, String feedbackSource) {
+  static Event turnstileEvent() {
+    Event navTurnstileEvent = new AppUserTurnstile(sdkIdentifier,
+      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME);
+    return navTurnstileEvent;
+  }
+
+  /**
+   * Metadata shared by every navigation event. The estimated distance and duration default to the
+   * ones of the current route.
+   */
+  private static NavigationMetadata buildMetadata(SessionState sessionState, MetricsRouteProgress metricProgress,
+                                                  Location location, int distanceCompleted, int distanceRemaining,
+                                                  int durationRemaining) {
     Date startTimestamp = obtainStartTimestamp(sessionState);
-    // TODO We should generate the Nav event spec version somehow. Should be managed and generated by the Events
-    // library?
-    int hardcodedEventVersion = 7;
     int absoluteDistanceToDestination = DistanceFormatter.calculateAbsoluteDistance(location, metricProgress);
     NavigationMetadata metadata = new NavigationMetadata(
       startTimestamp,
-      (int) sessionState.eventRouteDistanceCompleted(),
-      sessionState.eventRouteProgress().getDistanceRemaining(),
-      sessionState.eventRouteProgress().getDurationRemaining(),
+      distanceCompleted,
+      distanceRemaining,
+      durationRemaining,
       sdkIdentifier,
       BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME,
-      hardcodedEventVersion,
+      HARDCODED_EVENT_VERSION,
       sessionState.sessionIdentifier(),
       location.getLatitude(),
       location.getLongitude(),
@@ -307,46 +237,30 @@ final class NavigationMetricsWrapper {
     metadata.setOriginalStepCount(sessionState.originalStepCount());
     metadata.setPercentTimeInForeground(sessionState.percentInForeground());
     metadata.setPercentTimeInPortrait(sessionState.percentInPortrait());
-    metadata.setCreated(new Date(location.getTime()));
-    NavigationState state = new NavigationState(metadata);
+    return metadata;
+  }
+
+  private static NavigationLocationData buildLocationData(SessionState sessionState) {
     Location[] before = convertToArray(sessionState.beforeEventLocations());
     Location[] after = convertToArray(sessionState.afterEventLocations());
-    NavigationLocationData locationData = new NavigationLocationData(before, after);
-    state.setNavigationLocationData(locationData);
-    FeedbackData feedbackData = new FeedbackData();
-    feedbackData.setScreenshot(screenshot);
-    state.setFeedbackData(feedbackData);
-    updateRouteProgressSessionData(metricProgress);
-    NavigationStepMetadata navigationStepMetadata = new NavigationStepMetadata();
-    navigationStepMetadata.setUpcomingInstruction(upcomingInstruction);
-    navigationStepMetadata.setUpcomingType(upcomingType);
-    navigationStepMetadata.setUpcomingModifier(upcomingModifier);
-    navigationStepMetadata.setUpcomingName(upcomingName);
-    navigationStepMetadata.setPreviousInstruction(previousInstruction);
-    navigationStepMetadata.setPreviousType(previousType);
-    navigationStepMetadata.setPreviousModifier(previousModifier);
-    navigationStepMetadata.setPreviousName(previousName);
-    int distance = metricProgress.getCurrentStepDistance();
-    navigationStepMetadata.setDistance(distance);
-    int duration = metricProgress.getCurrentStepDuration();
-    navigationStepMetadata.setDuration(duration);
-    int stepDistanceRemaining = metricProgress.getCurrentStepDistanceRemaining();
-    navigationStepMetadata.setDistanceRemaining(stepDistanceRemaining);
-    int stepDurationRemaining = metricProgress.getCurrentStepDurationRemaining();
-    navigationStepMetadata.setDurationRemaining(stepDurationRemaining);
-    state.setNavigationStepMetadata(navigationStepMetadata);
-    FeedbackEventData feedbackEventData = new FeedbackEventData(feedbackType, feedbackSource);
-    feedbackEventData.setDescription(description);
-    state.setFeedbackEventData(feedbackEventData);
-    NavigationEventFactory factory = new NavigationEventFactory();
-    Event feedbackEvent = factory.createNavigationEvent(Event.Type.NAV_FEEDBACK, state);
-    mapboxTelemetry.push(feedbackEvent);
+    return new NavigationLocationData(before, after);
   }
 
-  static Event turnstileEvent() {
-    Event navTurnstileEvent = new AppUserTurnstile(sdkIdentifier,
-      BuildConfig.MAPBOX_NAVIGATION_VERSION_NAME);
-    return navTurnstileEvent;
+  private static NavigationStepMetadata buildStepMetadata(MetricsRouteProgress routeProgress) {
+    NavigationStepMetadata navigationStepMetadata = new NavigationStepMetadata();
+    navigationStepMetadata.setUpcomingInstruction(routeProgress.getUpcomingStepInstruction());
+    navigationStepMetadata.setUpcomingType(routeProgress.getUpcomingStepType());
+    navigationStepMetadata.setUpcomingModifier(routeProgress.getUpcomingStepModifier());
+    navigationStepMetadata.setUpcomingName(routeProgress.getUpcomingStepName());
+    navigationStepMetadata.setPreviousInstruction(routeProgress.getPreviousStepInstruction());
+    navigationStepMetadata.setPreviousType(routeProgress.getPreviousStepType());
+    navigationStepMetadata.setPreviousModifier(routeProgress.getPreviousStepModifier());
+    navigationStepMetadata.setPreviousName(routeProgress.getPreviousStepName());
+    navigationStepMetadata.setDistance(routeProgress.getCurrentStepDistance());
+    navigationStepMetadata.setDuration(routeProgress.getCurrentStepDuration());
+    navigationStepMetadata.setDistanceRemaining(routeProgress.getCurrentStepDistanceRemaining());
+    navigationStepMetadata.setDurationRemaining(routeProgress.getCurrentStepDurationRemaining());
+    return navigationStepMetadata;
   }
 
   private static Date obtainStartTimestamp(SessionState sessionState) {
@@ -356,17 +270,6 @@ final class NavigationMetricsWrapper {
     return sessionState.startTimestamp();
   }
 
-  private static void updateRouteProgressSessionData(MetricsRouteProgress routeProgress) {
-    upcomingName = routeProgress.getUpcomingStepName();
-    upcomingInstruction = routeProgress.getUpcomingStepInstruction();
-    upcomingType = routeProgress.getUpcomingStepType();
-    upcomingModifier = routeProgress.getUpcomingStepModifier();
-    previousInstruction = routeProgress.getPreviousStepInstruction();
-    previousType = routeProgress.getPreviousStepType();
-    previousModifier = routeProgress.getPreviousStepModifier();
-    previousName = routeProgress.getPreviousStepName();
-  }
-
   private static Location[] convertToArray(List<Location> locationList) {
     return locationList.toArray(new Location[locationList.size()]);
   }
@@ -16,17 +16,16 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 import java.util.List;
 
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createCurrentAnnotation;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.decodeStepPoints;
-import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersection;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findCurrentIntersectionIndex;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.findUpcomingIntersection;
 import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.routeDistanceRemaining;
 
 class NavigationRouteProcessor {
 
   private static final int ONE_INDEX = 1;
+  private static final int FIRST_INTERSECTION = 0;
   private RouteProgress previousRouteProgress;
+  private RouteGeometryIndex geometryIndex;
   private DirectionsRoute route;
   private RouteLeg currentLeg;
   private LegStep currentStep;
@@ -36,9 +35,11 @@ class NavigationRouteProcessor {
   private List<StepIntersection> currentIntersections;
   private List<Pair<StepIntersection, Double>> currentIntersectionDistances;
   private CurrentLegAnnotation currentLegAnnotation;
+  // Forward-only cursor along the current step intersections, reset when the step changes
+  private int currentIntersectionIndex;
 
-  RouteProgress buildNewRouteProgress(NavigationStatus status, DirectionsRoute route) {
-    updateRoute(route);
+  RouteProgress buildNewRouteProgress(NavigationStatus status, RouteGeometryIndex geometryIndex) {
+    updateRoute(geometryIndex);
     return buildRouteProgressFrom(status);
   }
 
@@ -51,9 +52,10 @@ class NavigationRouteProcessor {
     return previousRouteProgress;
   }
 
-  private void updateRoute(DirectionsRoute route) {
-    if (this.route == null || !this.route.equals(route)) {
-      this.route = route;
+  private void updateRoute(RouteGeometryIndex geometryIndex) {
+    if (this.geometryIndex != geometryIndex) {
+      this.geometryIndex = geometryIndex;
+      this.route = geometryIndex.route();
     }
   }
 
@@ -62,19 +64,20 @@ class NavigationRouteProcessor {
     int stepIndex = status.getStepIndex();
     int upcomingStepIndex = stepIndex + ONE_INDEX;
     updateSteps(route, legIndex, stepIndex, upcomingStepIndex);
-    updateStepPoints(route, legIndex, stepIndex, upcomingStepIndex);
-    updateIntersections();
+    updateStepPoints(legIndex, stepIndex, upcomingStepIndex);
+    updateIntersections(legIndex, stepIndex);
 
     double legDistanceRemaining = status.getRemainingLegDistance();
     double routeDistanceRemaining = routeDistanceRemaining(legDistanceRemaining, legIndex, route);
     double stepDistanceRemaining = status.getRemainingStepDistance();
     double stepDistanceTraveled = currentStep.distance() - stepDistanceRemaining;
     currentLegAnnotation = createCurrentAnnotation(currentLegAnnotation, currentLeg, legDistanceRemaining);
-    StepIntersection currentIntersection = findCurrentIntersection(
-      currentIntersections, currentIntersectionDistances, stepDistanceTraveled
+    currentIntersectionIndex = findCurrentIntersectionIndex(
+      currentIntersectionDistances, stepDistanceTraveled, currentIntersectionIndex
     );
+    StepIntersection currentIntersection = currentIntersections.get(currentIntersectionIndex);
     StepIntersection upcomingIntersection = findUpcomingIntersection(
-      currentIntersections, upcomingStep, currentIntersection
+      currentIntersections, upcomingStep, currentIntersectionIndex
     );
 
     RouteProgress.Builder progressBuilder = RouteProgress.builder()
@@ -82,6 +85,7 @@ class NavigationRouteProcessor {
       .legDistanceRemaining(legDistanceRemaining)
       .distanceRemaining(routeDistanceRemaining)
       .directionsRoute(route)
+      .routeFingerprint(geometryIndex.routeFingerprint())
       .currentStepPoints(currentStepPoints)
       .upcomingStepPoints(upcomingStepPoints)
       .stepIndex(stepIndex)
@@ -100,20 +104,32 @@ class NavigationRouteProcessor {
   }
 
   private void updateSteps(DirectionsRoute route, int legIndex, int stepIndex, int upcomingStepIndex) {
-    currentLeg = route.legs().get(legIndex);
+    RouteLeg leg = route.legs().get(legIndex);
+    if (leg != currentLeg) {
+      // The annotation found last is only a starting point along its own leg
+      currentLegAnnotation = null;
+      currentLeg = leg;
+    }
     List<LegStep> steps = currentLeg.steps();
     currentStep = steps.get(stepIndex);
     upcomingStep = upcomingStepIndex < steps.size() - ONE_INDEX ? steps.get(upcomingStepIndex) : null;
   }
 
-  private void updateStepPoints(DirectionsRoute route, int legIndex, int stepIndex, int upcomingStepIndex) {
-    currentStepPoints = decodeStepPoints(route, currentStepPoints, legIndex, stepIndex);
-    upcomingStepPoints = decodeStepPoints(route, null, legIndex, upcomingStepIndex);
+  private void updateStepPoints(int legIndex, int stepIndex, int upcomingStepIndex) {
+    List<Point> stepPoints = geometryIndex.stepPoints(legIndex, stepIndex);
+    if (stepPoints != null) {
+      currentStepPoints = stepPoints;
+    }
+    upcomingStepPoints = geometryIndex.stepPoints(legIndex, upcomingStepIndex);
   }
 
-  private void updateIntersections() {
-    currentIntersections = createIntersectionsList(currentStep, upcomingStep);
-    currentIntersectionDistances = createDistancesToIntersections(currentStepPoints, currentIntersections);
+  private void updateIntersections(int legIndex, int stepIndex) {
+    List<StepIntersection> intersections = geometryIndex.intersections(legIndex, stepIndex);
+    if (intersections != null && intersections != currentIntersections) {
+      currentIntersections = intersections;
+      currentIntersectionDistances = geometryIndex.intersectionDistances(legIndex, stepIndex);
+      currentIntersectionIndex = FIRST_INTERSECTION;
+    }
   }
 
   private void addUpcomingStepPoints(RouteProgress.Builder progressBuilder) {
@@ -24,12 +24,9 @@ import com.mapbox.services.android.navigation.v5.navigation.metrics.SessionState
 import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEvent;
 import com.mapbox.services.android.navigation.v5.routeprogress.MetricsRouteProgress;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
-import com.mapbox.services.android.navigation.v5.utils.RingBuffer;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Date;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
 import java.util.concurrent.TimeUnit;
@@ -44,6 +41,7 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
   private static final String MOCK_PROVIDER = "com.mapbox.services.android.navigation.v5.location.replay"
     + ".ReplayRouteLocationEngine";
   private static final int TWENTY_SECOND_INTERVAL = 20;
+  private static final int LOCATION_HISTORY_CAPACITY = 40;
 
   private List<RerouteEvent> queuedRerouteEvents = new ArrayList<>();
   private List<FeedbackEvent> queuedFeedbackEvents = new ArrayList<>();
@@ -55,14 +53,14 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
   private NavigationLifecycleMonitor lifecycleMonitor;
   private LocationEngine navigationLocationEngine;
   private SessionState navigationSessionState;
-  private RingBuffer<Location> locationBuffer;
+  private LocationHistory locationHistory;
   private Date lastRerouteDate;
 
   private boolean isOffRoute;
   private boolean isConfigurationChange;
 
   private NavigationTelemetry() {
-    locationBuffer = new RingBuffer<>(40);
+    locationHistory = new LocationHistory(LOCATION_HISTORY_CAPACITY);
     metricLocation = new MetricsLocation(null);
     metricProgress = new MetricsRouteProgress(null);
     navigationSessionState = SessionState.builder().build();
@@ -93,7 +91,7 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
 
   @Override
   public void onRouteProgressUpdate(RouteProgress routeProgress) {
-    this.metricProgress = new MetricsRouteProgress(routeProgress);
+    metricProgress.update(routeProgress);
 
     boolean isValidDeparture = navigationSessionState.startTimestamp() == null
       && routeProgress.currentLegProgress().distanceTraveled() > 0;
@@ -130,9 +128,10 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
       updateLocationEngine(locationEngine);
 
       validateAccessToken(accessToken);
-      NavigationMetricsWrapper.init(context, accessToken, BuildConfig.MAPBOX_NAVIGATION_EVENTS_USER_AGENT);
-
       MapboxNavigationOptions options = navigation.options();
+      NavigationMetricsWrapper.init(context, accessToken, BuildConfig.MAPBOX_NAVIGATION_EVENTS_USER_AGENT,
+        options.telemetryEventSink());
+
       String sdkIdentifier = obtainSdkIdentifier(options);
       NavigationMetricsWrapper.sdkIdentifier = sdkIdentifier;
       NavigationMetricsWrapper.toggleLogging(options.isDebugLoggingEnabled());
@@ -334,7 +333,7 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
 
   private void updateCurrentLocation(Location rawLocation) {
     metricLocation = new MetricsLocation(rawLocation);
-    locationBuffer.addLast(rawLocation);
+    locationHistory.add(rawLocation);
 
     // Check queued reroute events
     checkRerouteQueue();
@@ -342,64 +341,40 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
     checkFeedbackQueue();
   }
 
+  /**
+   * Events are queued in chronological order, so only the oldest events can be due.
+   */
   private void checkRerouteQueue() {
-    Iterator<RerouteEvent> iterator = queuedRerouteEvents.listIterator();
-    while (iterator.hasNext()) {
-      RerouteEvent rerouteEvent = iterator.next();
-      if (shouldSendEvent(rerouteEvent.getSessionState())) {
-        sendRerouteEvent(rerouteEvent);
-        iterator.remove();
-      }
+    long currentTime = System.currentTimeMillis();
+    while (isOldestEventDue(queuedRerouteEvents, currentTime)) {
+      sendRerouteEvent(queuedRerouteEvents.remove(0));
     }
   }
 
   private void checkFeedbackQueue() {
-    Iterator<FeedbackEvent> iterator = queuedFeedbackEvents.listIterator();
-    while (iterator.hasNext()) {
-      FeedbackEvent feedbackEvent = iterator.next();
-      if (shouldSendEvent(feedbackEvent.getSessionState())) {
-        sendFeedbackEvent(feedbackEvent);
-        iterator.remove();
-      }
+    long currentTime = System.currentTimeMillis();
+    while (isOldestEventDue(queuedFeedbackEvents, currentTime)) {
+      sendFeedbackEvent(queuedFeedbackEvents.remove(0));
     }
   }
 
-  private boolean shouldSendEvent(SessionState sessionState) {
-    return dateDiff(sessionState.eventDate(), new Date(), TimeUnit.SECONDS) > TWENTY_SECOND_INTERVAL;
+  private boolean isOldestEventDue(List<? extends TelemetryEvent> queuedEvents, long currentTime) {
+    return !queuedEvents.isEmpty() && shouldSendEvent(queuedEvents.get(0).getSessionState(), currentTime);
+  }
+
+  private boolean shouldSendEvent(SessionState sessionState, long currentTime) {
+    long diffInMillis = currentTime - sessionState.eventDate().getTime();
+    return TimeUnit.MILLISECONDS.toSeconds(diffInMillis) > TWENTY_SECOND_INTERVAL;
   }
 
   @NonNull
   private List<Location> createLocationListBeforeEvent(Date eventDate) {
-    Location[] locations = locationBuffer.toArray(new Location[locationBuffer.size()]);
-    // Create current list of dates
-    List<Location> currentLocationList = Arrays.asList(locations);
-    // Setup list for dates before the event
-    List<Location> locationsBeforeEvent = new ArrayList<>();
-    // Add any events before the event date
-    for (Location location : currentLocationList) {
-      Date locationDate = new Date(location.getTime());
-      if (locationDate.before(eventDate)) {
-        locationsBeforeEvent.add(location);
-      }
-    }
-    return locationsBeforeEvent;
+    return locationHistory.locationsBefore(eventDate.getTime());
   }
 
   @NonNull
   private List<Location> createLocationListAfterEvent(Date eventDate) {
-    Location[] locations = locationBuffer.toArray(new Location[locationBuffer.size()]);
-    // Create current list of dates
-    List<Location> currentLocationList = Arrays.asList(locations);
-    // Setup list for dates after the event
-    List<Location> locationsAfterEvent = new ArrayList<>();
-    // Add any events after the event date
-    for (Location location : currentLocationList) {
-      Date locationDate = new Date(location.getTime());
-      if (locationDate.after(eventDate)) {
-        locationsAfterEvent.add(location);
-      }
-    }
-    return locationsAfterEvent;
+    return locationHistory.locationsAfter(eventDate.getTime());
   }
 
   private void updateDistanceCompleted() {
@@ -416,7 +391,7 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
     Date eventDate = new Date();
     SessionState rerouteEventSessionState = navigationSessionState.toBuilder()
       .eventDate(eventDate)
-      .eventRouteProgress(metricProgress)
+      .eventRouteProgress(metricProgress.snapshot())
       .eventLocation(metricLocation.getLocation())
       .secondsSinceLastReroute(getSecondsSinceLastReroute(eventDate))
       .mockLocation(metricLocation.getLocation().getProvider().equals(MOCK_PROVIDER))
@@ -437,7 +412,7 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
     // Create a new session state given the current navigation session
     SessionState feedbackEventSessionState = navigationSessionState.toBuilder()
       .eventDate(new Date())
-      .eventRouteProgress(metricProgress)
+      .eventRouteProgress(metricProgress.snapshot())
       .eventRouteDistanceCompleted(distanceCompleted)
       .eventLocation(metricLocation.getLocation())
       .mockLocation(metricLocation.getLocation().getProvider().equals(MOCK_PROVIDER))
@@ -489,11 +464,6 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
       feedbackEvent.getFeedbackType(), feedbackEvent.getScreenshot(), feedbackEvent.getFeedbackSource());
   }
 
-  private long dateDiff(Date firstDate, Date secondDate, TimeUnit timeUnit) {
-    long diffInMillis = secondDate.getTime() - firstDate.getTime();
-    return timeUnit.convert(diffInMillis, TimeUnit.MILLISECONDS);
-  }
-
   private TelemetryEvent findQueuedTelemetryEvent(String eventId) {
     for (FeedbackEvent feedbackEvent : queuedFeedbackEvents) {
       if (feedbackEvent.getEventId().equals(eventId)) {
@@ -521,7 +491,6 @@ class NavigationTelemetry implements LocationEngineListener, NavigationMetricLis
     if (!queuedRerouteEvents.isEmpty()) {
       RerouteEvent rerouteEvent = queuedRerouteEvents.get(queuedRerouteEvents.size() - 1);
       List<Point> geometryPositions = PolylineUtils.decode(newDirectionsRoute.geometry(), Constants.PRECISION_6);
-      PolylineUtils.encode(geometryPositions, Constants.PRECISION_5);
       rerouteEvent.setNewRouteGeometry(PolylineUtils.encode(geometryPositions, Constants.PRECISION_5));
       int newDistanceRemaining = newDirectionsRoute.distance() == null ? 0 : newDirectionsRoute.distance().intValue();
       rerouteEvent.setNewDistanceRemaining(newDistanceRemaining);
@@ -0,0 +1,38 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+/**
+ * Decides when the navigation notification should be posted again, given what changed since it
+ * was last posted.
+ * <p>
+ * A new instruction or maneuver is posted right away. A new remaining distance or arrival time is
+ * posted at most once per interval, and kept pending until then so it's never lost.
+ */
+class NotificationUpdateThrottle {
+
+  private final long minimumIntervalInMilliseconds;
+  private long lastUpdateInMilliseconds;
+  private boolean hasPendingUpdate;
+  private boolean isFirstUpdate = true;
+
+  NotificationUpdateThrottle(long minimumIntervalInMilliseconds) {
+    this.minimumIntervalInMilliseconds = minimumIntervalInMilliseconds;
+  }
+
+  /**
+   * @param hasNewManeuver            true if the instruction or maneuver changed
+   * @param hasNewProgress            true if the remaining distance or arrival time changed
+   * @param currentTimeInMilliseconds monotonic clock, usually {@link android.os.SystemClock#elapsedRealtime()}
+   * @return true if the notification should be posted now
+   */
+  boolean shouldUpdate(boolean hasNewManeuver, boolean hasNewProgress, long currentTimeInMilliseconds) {
+    hasPendingUpdate |= hasNewProgress;
+    boolean isIntervalElapsed = currentTimeInMilliseconds - lastUpdateInMilliseconds >= minimumIntervalInMilliseconds;
+    if (isFirstUpdate || hasNewManeuver || (hasPendingUpdate && isIntervalElapsed)) {
+      isFirstUpdate = false;
+      hasPendingUpdate = false;
+      lastUpdateInMilliseconds = currentTimeInMilliseconds;
+      return true;
+    }
+    return false;
+  }
+}
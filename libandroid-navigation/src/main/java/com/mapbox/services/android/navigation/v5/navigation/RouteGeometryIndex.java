@@ -0,0 +1,163 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.RouteLeg;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.utils.RouteFingerprint;
+
+import java.util.Collections;
+import java.util.List;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createDistancesToIntersections;
+import static com.mapbox.services.android.navigation.v5.navigation.NavigationHelper.createIntersectionsList;
+
+/**
+ * Holds the decoded geometry of a single {@link DirectionsRoute}, keyed by leg and step index.
+ * <p>
+ * A new index is created for each route passed to {@link MapboxNavigation#startNavigation(DirectionsRoute)}.
+ * The points and intersection offsets of a step are computed the first time
+ * the step is requested and re-used by every following route processor tick, rather than decoding
+ * and slicing the step geometry once per second.
+ * <p>
+ * This class is not thread-safe and is meant to be read from the route processor thread.
+ */
+class RouteGeometryIndex {
+
+  private static final int ONE_INDEX = 1;
+
+  private final DirectionsRoute route;
+  private final long routeFingerprint;
+  private final StepGeometry[][] stepGeometries;
+
+  RouteGeometryIndex(@NonNull DirectionsRoute route) {
+    this.route = route;
+    this.routeFingerprint = RouteFingerprint.from(route);
+    this.stepGeometries = createLegArrays(route);
+  }
+
+  @NonNull
+  DirectionsRoute route() {
+    return route;
+  }
+
+  long routeFingerprint() {
+    return routeFingerprint;
+  }
+
+  /**
+   * Decoded points of the given step.
+   *
+   * @param legIndex  of the step
+   * @param stepIndex of the step
+   * @return unmodifiable list of step points, or null if the indices are invalid
+   */
+  @Nullable
+  List<Point> stepPoints(int legIndex, int stepIndex) {
+    StepGeometry stepGeometry = retrieveStepGeometry(legIndex, stepIndex);
+    return stepGeometry == null ? null : stepGeometry.points;
+  }
+
+  /**
+   * Intersections of the given step, including the first intersection of the upcoming step.
+   *
+   * @param legIndex  of the step
+   * @param stepIndex of the step
+   * @return unmodifiable list of intersections, or null if the indices are invalid
+   * @see NavigationHelper#createIntersectionsList(LegStep, LegStep)
+   */
+  @Nullable
+  List<StepIntersection> intersections(int legIndex, int stepIndex) {
+    StepGeometry stepGeometry = retrieveStepGeometry(legIndex, stepIndex);
+    return stepGeometry == null ? null : stepGeometry.intersections;
+  }
+
+  /**
+   * Distance along the step of each intersection returned by {@link #intersections(int, int)}.
+   *
+   * @param legIndex  of the step
+   * @param stepIndex of the step
+   * @return unmodifiable list of measured intersections, or null if the indices are invalid
+   * @see NavigationHelper#createDistancesToIntersections(List, List)
+   */
+  @Nullable
+  List<Pair<StepIntersection, Double>> intersectionDistances(int legIndex, int stepIndex) {
+    StepGeometry stepGeometry = retrieveStepGeometry(legIndex, stepIndex);
+    return stepGeometry == null ? null : stepGeometry.intersectionDistances;
+  }
+
+  @Nullable
+  private StepGeometry retrieveStepGeometry(int legIndex, int stepIndex) {
+    boolean invalidLegIndex = legIndex < 0 || legIndex >= stepGeometries.length;
+    if (invalidLegIndex) {
+      return null;
+    }
+    StepGeometry[] legStepGeometries = stepGeometries[legIndex];
+    boolean invalidStepIndex = stepIndex < 0 || stepIndex >= legStepGeometries.length;
+    if (invalidStepIndex) {
+      return null;
+    }
+    StepGeometry stepGeometry = legStepGeometries[stepIndex];
+    if (stepGeometry == null) {
+      stepGeometry = buildStepGeometry(legIndex, stepIndex);
+      legStepGeometries[stepIndex] = stepGeometry;
+    }
+    return stepGeometry;
+  }
+
+  @Nullable
+  private StepGeometry buildStepGeometry(int legIndex, int stepIndex) {
+    List<LegStep> steps = route.legs().get(legIndex).steps();
+    LegStep step = steps.get(stepIndex);
+    if (step == null || step.geometry() == null) {
+      return null;
+    }
+    List<Point> points = PolylineUtils.decode(step.geometry(), PRECISION_6);
+
+    int upcomingStepIndex = stepIndex + ONE_INDEX;
+    LegStep upcomingStep = upcomingStepIndex < steps.size() - ONE_INDEX ? steps.get(upcomingStepIndex) : null;
+    List<StepIntersection> intersections = createIntersectionsList(step, upcomingStep);
+    List<Pair<StepIntersection, Double>> intersectionDistances = createDistancesToIntersections(
+      points, intersections
+    );
+    return new StepGeometry(
+      Collections.unmodifiableList(points),
+      Collections.unmodifiableList(intersections),
+      Collections.unmodifiableList(intersectionDistances)
+    );
+  }
+
+  private static StepGeometry[][] createLegArrays(DirectionsRoute route) {
+    List<RouteLeg> legs = route.legs();
+    if (legs == null) {
+      return new StepGeometry[0][];
+    }
+    StepGeometry[][] legArrays = new StepGeometry[legs.size()][];
+    for (int i = 0; i < legs.size(); i++) {
+      List<LegStep> steps = legs.get(i).steps();
+      legArrays[i] = new StepGeometry[steps == null ? 0 : steps.size()];
+    }
+    return legArrays;
+  }
+
+  private static class StepGeometry {
+
+    private final List<Point> points;
+    private final List<StepIntersection> intersections;
+    private final List<Pair<StepIntersection, Double>> intersectionDistances;
+
+    StepGeometry(List<Point> points, List<StepIntersection> intersections,
+                 List<Pair<StepIntersection, Double>> intersectionDistances) {
+      this.points = points;
+      this.intersections = intersections;
+      this.intersectionDistances = intersectionDistances;
+    }
+  }
+}
@@ -57,7 +57,8 @@ class RouteProcessorBackgroundThread extends HandlerThread {
       start();
     }
     runnable.updateRawLocation(rawLocation);
-    navigation.retrieveMapboxNavigator().updateLocation(rawLocation);
+    // Given to the navigator on the route processor thread, right before it computes a status
+    navigation.retrieveMapboxNavigator().queueLocation(rawLocation);
   }
 
   /**
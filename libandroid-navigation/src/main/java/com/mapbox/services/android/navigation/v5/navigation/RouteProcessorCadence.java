@@ -0,0 +1,31 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+import android.support.annotation.Nullable;
+
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+/**
+ * Defines how often the route processor updates the {@link RouteProgress}, when
+ * given to {@link MapboxNavigationOptions.Builder#routeProcessorCadence(RouteProcessorCadence)}.
+ * <p>
+ * Each update retrieves the status from the navigator, builds a new {@link RouteProgress}, evaluates
+ * the milestones and updates the notification, so a longer delay between updates saves CPU and battery.
+ *
+ * @see AdaptiveRouteProcessorCadence
+ * @see FixedRouteProcessorCadence
+ * @since 0.21.0
+ */
+public interface RouteProcessorCadence {
+
+  /**
+   * Called on the route processor thread after each update, to determine
+   * how long to wait until the next one.
+   *
+   * @param rawLocation   most recent raw location, null if none has been received yet
+   * @param routeProgress built by the update that just finished
+   * @return delay until the next update in milliseconds
+   * @since 0.21.0
+   */
+  long nextUpdateDelayInMilliseconds(@Nullable Location rawLocation, RouteProgress routeProgress);
+}
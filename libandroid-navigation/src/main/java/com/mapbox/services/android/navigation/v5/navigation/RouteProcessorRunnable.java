@@ -3,7 +3,6 @@ package com.mapbox.services.android.navigation.v5.navigation;
 import android.location.Location;
 import android.os.Handler;
 
-import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.navigator.NavigationStatus;
 import com.mapbox.services.android.navigation.v5.milestone.Milestone;
 import com.mapbox.services.android.navigation.v5.offroute.OffRoute;
@@ -19,7 +18,6 @@ import java.util.List;
 
 class RouteProcessorRunnable implements Runnable {
 
-  private static final int ONE_SECOND_IN_MILLISECONDS = 1000;
   private final NavigationRouteProcessor routeProcessor;
   private final MapboxNavigation navigation;
   private final Handler workerHandler;
@@ -51,11 +49,12 @@ class RouteProcessorRunnable implements Runnable {
   private void process() {
     MapboxNavigator mapboxNavigator = navigation.retrieveMapboxNavigator();
     MapboxNavigationOptions options = navigation.options();
-    DirectionsRoute route = navigation.getRoute();
+    RouteGeometryIndex geometryIndex = navigation.retrieveRouteGeometryIndex();
 
+    mapboxNavigator.submitQueuedCommands();
     NavigationStatus status = mapboxNavigator.retrieveStatus(new Date(),
       options.navigationLocationEngineIntervalLagInMilliseconds());
-    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(status, route);
+    RouteProgress routeProgress = routeProcessor.buildNewRouteProgress(status, geometryIndex);
 
     NavigationEngineFactory engineFactory = navigation.retrieveEngineFactory();
     final boolean userOffRoute = isUserOffRoute(options, status, rawLocation, routeProgress, engineFactory);
@@ -66,7 +65,8 @@ class RouteProcessorRunnable implements Runnable {
 
     sendUpdateToResponseHandler(userOffRoute, milestones, snappedLocation, checkFasterRoute, routeProgress);
     routeProcessor.updatePreviousRouteProgress(routeProgress);
-    workerHandler.postDelayed(this, ONE_SECOND_IN_MILLISECONDS);
+    long nextUpdateDelay = options.routeProcessorCadence().nextUpdateDelayInMilliseconds(rawLocation, routeProgress);
+    workerHandler.postDelayed(this, nextUpdateDelay);
   }
 
   private boolean isUserOffRoute(MapboxNavigationOptions options, NavigationStatus status, Location rawLocation,
@@ -0,0 +1,144 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+
+import com.mapbox.android.telemetry.Event;
+import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEventSink;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import timber.log.Timber;
+
+/**
+ * Builds and sends the telemetry events off the calling thread.
+ * <p>
+ * Events are queued as {@link PendingEvent}s, so building their metadata happens on the executor
+ * as well. The queue is bounded: if events are produced faster than they are sent, for instance
+ * during a reroute storm, new events are dropped and counted rather than blocking navigation.
+ * Queued events are built and handed to the {@link TelemetryEventSink} in batches.
+ */
+class TelemetryEventPipeline {
+
+  static final int DEFAULT_QUEUE_CAPACITY = 128;
+  static final int DEFAULT_BATCH_SIZE = 16;
+
+  private final BlockingQueue<PendingEvent> queue;
+  private final Executor executor;
+  private final int batchSize;
+  private final AtomicBoolean isDrainScheduled = new AtomicBoolean();
+  private final AtomicLong droppedEventCount = new AtomicLong();
+  private volatile TelemetryEventSink sink;
+  private final Runnable drainRunnable = new Runnable() {
+    @Override
+    public void run() {
+      drain();
+    }
+  };
+
+  TelemetryEventPipeline(Executor executor, TelemetryEventSink sink, int queueCapacity, int batchSize) {
+    this.executor = executor;
+    this.sink = sink;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * Queues an event to be built and sent on the executor.
+   *
+   * @param pendingEvent building the event
+   * @return false if the queue is full and the event was dropped
+   */
+  boolean enqueue(@NonNull PendingEvent pendingEvent) {
+    if (!queue.offer(pendingEvent)) {
+      droppedEventCount.incrementAndGet();
+      return false;
+    }
+    scheduleDrain();
+    return true;
+  }
+
+  /**
+   * Queues an event which is already built.
+   *
+   * @param event to send
+   * @return false if the queue is full and the event was dropped
+   */
+  boolean enqueue(@NonNull final Event event) {
+    return enqueue(new PendingEvent() {
+      @Override
+      public Event build() {
+        return event;
+      }
+    });
+  }
+
+  /**
+   * Runs the given task on the executor, once the events queued so far have been sent.
+   *
+   * @param task to run
+   */
+  void runAfterQueuedEvents(final Runnable task) {
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        drain();
+        task.run();
+      }
+    });
+  }
+
+  void updateSink(@NonNull TelemetryEventSink sink) {
+    this.sink = sink;
+  }
+
+  long droppedEventCount() {
+    return droppedEventCount.get();
+  }
+
+  private void scheduleDrain() {
+    if (isDrainScheduled.compareAndSet(false, true)) {
+      executor.execute(drainRunnable);
+    }
+  }
+
+  private void drain() {
+    isDrainScheduled.set(false);
+    List<PendingEvent> pendingEvents = new ArrayList<>(batchSize);
+    while (queue.drainTo(pendingEvents, batchSize) > 0) {
+      List<Event> events = buildEvents(pendingEvents);
+      if (!events.isEmpty()) {
+        sink.send(events);
+      }
+      pendingEvents.clear();
+    }
+  }
+
+  private List<Event> buildEvents(List<PendingEvent> pendingEvents) {
+    List<Event> events = new ArrayList<>(pendingEvents.size());
+    for (PendingEvent pendingEvent : pendingEvents) {
+      try {
+        Event event = pendingEvent.build();
+        if (event != null) {
+          events.add(event);
+        }
+      } catch (RuntimeException exception) {
+        Timber.e(exception, "Unable to build a telemetry event.");
+      }
+    }
+    return events;
+  }
+
+  /**
+   * Builds an event on the executor of the pipeline.
+   */
+  interface PendingEvent {
+
+    Event build();
+  }
+}
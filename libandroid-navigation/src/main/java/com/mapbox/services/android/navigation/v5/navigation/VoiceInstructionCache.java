@@ -0,0 +1,290 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.annotation.NonNull;
+import android.support.annotation.Nullable;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Persistent, size-bounded cache of synthesized voice instructions.
+ * <p>
+ * Each clip is stored in its own file, named after a hash of the instruction text, text type, voice
+ * language and unit type, so identical instructions are only downloaded once, across navigation
+ * sessions. Once the cache grows over its maximum size, the least recently used clips are deleted.
+ * <p>
+ * Shared by {@link VoiceInstructionLoader}, which fills it ahead of time, and the speech player,
+ * which plays clips straight from it. This class is thread-safe. The clips stored by previous
+ * sessions are indexed, and the recency of played clips is saved, in the background, so looking up
+ * a clip from the main thread never touches the disk.
+ *
+ * @since 0.21.0
+ */
+public class VoiceInstructionCache {
+
+  private static final String MP3_EXTENSION = ".mp3";
+  private static final String TEMPORARY_EXTENSION = ".tmp";
+  private static final String KEY_ALGORITHM = "SHA-1";
+  private static final String KEY_SEPARATOR = "\n";
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final int BUFFER_SIZE = 16 * 1024;
+  private static final int END_OF_FILE = -1;
+  private static final int HALF_BYTE = 4;
+  private static final int HALF_BYTE_MASK = 0x0f;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+  private static final Map<String, VoiceInstructionCache> INSTANCES = new HashMap<>();
+
+  private final File directory;
+  private final long maximumSizeInBytes;
+  private final Executor executor;
+  private final Object initializationLock = new Object();
+  private final LinkedHashMap<String, File> entries = new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true);
+  private long sizeInBytes;
+  private volatile boolean isInitialized;
+
+  // Package private (no modifier) for testing purposes
+  VoiceInstructionCache(File directory, long maximumSizeInBytes, Executor executor) {
+    this.directory = directory;
+    this.maximumSizeInBytes = maximumSizeInBytes;
+    this.executor = executor;
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        initialize();
+      }
+    });
+  }
+
+  /**
+   * Returns the cache storing its clips in the given directory. A single cache manages each
+   * directory, so the speech players of every navigation session share it: the maximum size
+   * given when it is first created is kept.
+   *
+   * @param directory          where the clips are stored, created if needed
+   * @param maximumSizeInBytes above which the least recently used clips are deleted
+   * @return the cache of the directory
+   * @since 0.21.0
+   */
+  @NonNull
+  public static VoiceInstructionCache getInstance(@NonNull File directory, long maximumSizeInBytes) {
+    synchronized (INSTANCES) {
+      String path = directory.getAbsolutePath();
+      VoiceInstructionCache cache = INSTANCES.get(path);
+      if (cache == null) {
+        cache = new VoiceInstructionCache(directory, maximumSizeInBytes, Executors.newSingleThreadExecutor());
+        INSTANCES.put(path, cache);
+      }
+      return cache;
+    }
+  }
+
+  /**
+   * Creates the key of a clip.
+   *
+   * @param instruction text of the instruction
+   * @param textType    "ssml" or "text"
+   * @param language    of the voice
+   * @param unitType    of the distances in the instruction
+   * @return a key only depending on the given values
+   * @since 0.21.0
+   */
+  @NonNull
+  public static String createKey(@NonNull String instruction, @Nullable String textType,
+                                 @Nullable String language, @Nullable String unitType) {
+    String content = instruction + KEY_SEPARATOR + textType + KEY_SEPARATOR + language + KEY_SEPARATOR + unitType;
+    try {
+      byte[] digest = MessageDigest.getInstance(KEY_ALGORITHM).digest(content.getBytes(UTF_8));
+      char[] key = new char[digest.length * 2];
+      for (int i = 0; i < digest.length; i++) {
+        key[i * 2] = HEX_DIGITS[(digest[i] >> HALF_BYTE) & HALF_BYTE_MASK];
+        key[i * 2 + 1] = HEX_DIGITS[digest[i] & HALF_BYTE_MASK];
+      }
+      return new String(key);
+    } catch (NoSuchAlgorithmException exception) {
+      // Every Java platform is required to support SHA-1
+      throw new IllegalStateException(exception);
+    }
+  }
+
+  /**
+   * Returns the clip stored for the given key and marks it as recently used. Doesn't access the
+   * disk, it can be called from the main thread: until the clips stored by previous sessions are
+   * indexed, only the clips stored by this session are found.
+   *
+   * @param key created with {@link #createKey(String, String, String, String)}
+   * @return the clip, or null if it isn't cached
+   * @since 0.21.0
+   */
+  @Nullable
+  public File get(@NonNull String key) {
+    final File clip;
+    synchronized (this) {
+      clip = entries.get(key);
+    }
+    if (clip == null) {
+      return null;
+    }
+    final long lastUsed = System.currentTimeMillis();
+    executor.execute(new Runnable() {
+      @Override
+      public void run() {
+        clip.setLastModified(lastUsed);
+      }
+    });
+    return clip;
+  }
+
+  /**
+   * @param key created with {@link #createKey(String, String, String, String)}
+   * @return true if a clip is stored for the given key
+   * @since 0.21.0
+   */
+  public boolean contains(@NonNull String key) {
+    initialize();
+    File clip;
+    synchronized (this) {
+      clip = entries.get(key);
+    }
+    return clip != null && clip.exists();
+  }
+
+  /**
+   * Stores the clip read from the given stream. The stream is read on the calling thread,
+   * this method shouldn't be called from the main thread.
+   *
+   * @param key         created with {@link #createKey(String, String, String, String)}
+   * @param inputStream of the clip, not closed by this method
+   * @return the stored clip
+   * @throws IOException if the clip can't be read or written
+   * @since 0.21.0
+   */
+  @NonNull
+  public File put(@NonNull String key, @NonNull InputStream inputStream) throws IOException {
+    initialize();
+    File temporaryFile = new File(directory, key + "-" + Thread.currentThread().getId() + TEMPORARY_EXTENSION);
+    writeTo(temporaryFile, inputStream);
+    File clip = new File(directory, key + MP3_EXTENSION);
+    synchronized (this) {
+      remove(key);
+      if (!temporaryFile.renameTo(clip)) {
+        temporaryFile.delete();
+        throw new IOException("Unable to store the voice instruction " + clip.getPath());
+      }
+      entries.put(key, clip);
+      sizeInBytes += clip.length();
+      trimToSize();
+    }
+    return clip;
+  }
+
+  private void writeTo(File file, InputStream inputStream) throws IOException {
+    OutputStream outputStream = new FileOutputStream(file);
+    try {
+      byte[] buffer = new byte[BUFFER_SIZE];
+      int numOfBufferedBytes;
+      while ((numOfBufferedBytes = inputStream.read(buffer)) != END_OF_FILE) {
+        outputStream.write(buffer, 0, numOfBufferedBytes);
+      }
+      outputStream.flush();
+    } catch (IOException exception) {
+      outputStream.close();
+      file.delete();
+      throw exception;
+    }
+    outputStream.close();
+  }
+
+  /**
+   * Indexes the clips stored by a previous session, least recently used first. The disk is read
+   * without holding the lock of the cache, so {@link #get(String)} isn't blocked meanwhile.
+   */
+  private void initialize() {
+    if (isInitialized) {
+      return;
+    }
+    synchronized (initializationLock) {
+      if (isInitialized) {
+        return;
+      }
+      directory.mkdirs();
+      File[] files = directory.listFiles();
+      if (files == null) {
+        files = new File[0];
+      }
+      Arrays.sort(files, new Comparator<File>() {
+        @Override
+        public int compare(File file, File otherFile) {
+          long lastModified = file.lastModified();
+          long otherLastModified = otherFile.lastModified();
+          return lastModified < otherLastModified ? -1 : (lastModified == otherLastModified ? 0 : 1);
+        }
+      });
+      LinkedHashMap<String, File> storedEntries = new LinkedHashMap<>();
+      long storedSizeInBytes = 0;
+      for (File file : files) {
+        String name = file.getName();
+        if (name.endsWith(MP3_EXTENSION)) {
+          storedEntries.put(name.substring(0, name.length() - MP3_EXTENSION.length()), file);
+          storedSizeInBytes += file.length();
+        } else {
+          // Left over by an interrupted write or by previous versions of the speech player
+          file.delete();
+        }
+      }
+      synchronized (this) {
+        // Clips looked up or stored meanwhile stay the most recently used ones
+        LinkedHashMap<String, File> sessionEntries = new LinkedHashMap<>(entries);
+        entries.clear();
+        for (Map.Entry<String, File> storedEntry : storedEntries.entrySet()) {
+          if (sessionEntries.containsKey(storedEntry.getKey())) {
+            storedSizeInBytes -= storedEntry.getValue().length();
+          } else {
+            entries.put(storedEntry.getKey(), storedEntry.getValue());
+          }
+        }
+        entries.putAll(sessionEntries);
+        sizeInBytes += storedSizeInBytes;
+        trimToSize();
+        isInitialized = true;
+      }
+    }
+  }
+
+  private void remove(String key) {
+    File clip = entries.remove(key);
+    if (clip != null) {
+      sizeInBytes -= clip.length();
+      clip.delete();
+    }
+  }
+
+  /**
+   * Deletes the least recently used clips until the cache fits its maximum size,
+   * always keeping the most recently used one.
+   */
+  private void trimToSize() {
+    Iterator<Map.Entry<String, File>> iterator = entries.entrySet().iterator();
+    while (sizeInBytes > maximumSizeInBytes && entries.size() > 1 && iterator.hasNext()) {
+      File clip = iterator.next().getValue();
+      iterator.remove();
+      sizeInBytes -= clip.length();
+      clip.delete();
+    }
+  }
+}
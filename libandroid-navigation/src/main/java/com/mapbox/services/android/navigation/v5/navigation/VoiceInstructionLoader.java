@@ -1,5 +1,6 @@
 package com.mapbox.services.android.navigation.v5.navigation;
 
+import android.os.AsyncTask;
 import android.support.annotation.NonNull;
 import android.support.annotation.Nullable;
 
@@ -9,6 +10,9 @@ import com.mapbox.api.directions.v5.models.VoiceInstructions;
 import com.mapbox.api.speech.v1.MapboxSpeech;
 import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -17,11 +21,13 @@ import okhttp3.ResponseBody;
 import retrofit2.Call;
 import retrofit2.Callback;
 import retrofit2.Response;
+import timber.log.Timber;
 
 @AutoValue
 public abstract class VoiceInstructionLoader {
   private static final int NUMBER_TO_CACHE = 3;
   private static final int CACHE_INDEX = NUMBER_TO_CACHE - 1;
+  private static final String SSML_TEXT_TYPE = "ssml";
   private static VoiceInstructionLoader instance = null;
 
   /**
@@ -50,8 +56,49 @@ public abstract class VoiceInstructionLoader {
   }
 
   /**
-   * Makes call to MapboxSpeech with empty callbacks. This is so that the result is cached in the
-   * cache specified in the builder.
+   * Returns the sound file of the given instruction if it's in the {@link VoiceInstructionCache}
+   * specified in the builder.
+   *
+   * @param instruction text to dictate
+   * @param textType    "ssml" or "text"
+   * @return the cached sound file, or null if it isn't cached
+   * @since 0.21.0
+   */
+  @Nullable
+  public File retrieveCachedInstruction(String instruction, String textType) {
+    VoiceInstructionCache voiceInstructionCache = voiceInstructionCache();
+    if (voiceInstructionCache == null) {
+      return null;
+    }
+    return voiceInstructionCache.get(createCacheKey(instruction, textType));
+  }
+
+  /**
+   * Saves the sound file of the given instruction in the {@link VoiceInstructionCache} specified in
+   * the builder. The stream is read on the calling thread, this method shouldn't be called from the
+   * main thread.
+   *
+   * @param instruction text which was dictated
+   * @param textType    "ssml" or "text"
+   * @param inputStream of the sound file, not closed by this method
+   * @return the cached sound file
+   * @throws IOException if the sound file can't be saved, or no cache was specified in the builder
+   * @since 0.21.0
+   */
+  @NonNull
+  public File saveInstruction(String instruction, String textType, InputStream inputStream) throws IOException {
+    VoiceInstructionCache voiceInstructionCache = voiceInstructionCache();
+    if (voiceInstructionCache == null) {
+      throw new IOException("No voice instruction cache was specified.");
+    }
+    return voiceInstructionCache.put(createCacheKey(instruction, textType), inputStream);
+  }
+
+  /**
+   * Downloads the next instructions into the {@link VoiceInstructionCache} specified in the builder,
+   * so they can be played without waiting for the network. Instructions which are already cached
+   * aren't requested again. Without a {@link VoiceInstructionCache}, the instructions are only
+   * requested so that the result is cached in the OkHttp cache specified in the builder.
    *
    * @param routeProgress to get instructions from
    * @param isFirst whether this is the first call. This way, if we're caching three ahead, on the
@@ -79,11 +126,16 @@ public abstract class VoiceInstructionLoader {
     }
   }
 
-  private void cacheInstruction(String instruction) {
-    getMapboxBuilder().instruction(instruction).build().enqueueCall(new Callback<ResponseBody>() {
+  private void cacheInstruction(final String instruction) {
+    if (instruction == null || isCached(instruction)) {
+      return;
+    }
+    getInstruction(instruction, SSML_TEXT_TYPE, new Callback<ResponseBody>() {
       @Override
       public void onResponse(Call<ResponseBody> call, Response<ResponseBody> response) {
-        // Intentionally empty
+        if (response.isSuccessful() && voiceInstructionCache() != null) {
+          saveInstructionInBackground(instruction, response.body());
+        }
       }
 
       @Override
@@ -93,6 +145,31 @@ public abstract class VoiceInstructionLoader {
     });
   }
 
+  private boolean isCached(String instruction) {
+    VoiceInstructionCache voiceInstructionCache = voiceInstructionCache();
+    return voiceInstructionCache != null
+      && voiceInstructionCache.contains(createCacheKey(instruction, SSML_TEXT_TYPE));
+  }
+
+  private void saveInstructionInBackground(final String instruction, final ResponseBody responseBody) {
+    AsyncTask.THREAD_POOL_EXECUTOR.execute(new Runnable() {
+      @Override
+      public void run() {
+        try {
+          saveInstruction(instruction, SSML_TEXT_TYPE, responseBody.byteStream());
+        } catch (IOException exception) {
+          Timber.e(exception, "Unable to cache the voice instruction.");
+        } finally {
+          responseBody.close();
+        }
+      }
+    });
+  }
+
+  private String createCacheKey(String instruction, String textType) {
+    return VoiceInstructionCache.createKey(instruction, textType, language(), unitType());
+  }
+
   @Nullable
   abstract String language();
 
@@ -105,6 +182,12 @@ public abstract class VoiceInstructionLoader {
   @Nullable
   abstract Cache cache();
 
+  @Nullable
+  abstract VoiceInstructionCache voiceInstructionCache();
+
+  @Nullable
+  abstract String unitType();
+
   @NonNull
   abstract String accessToken();
 
@@ -188,6 +271,26 @@ public abstract class VoiceInstructionLoader {
      */
     public abstract Builder cache(Cache cache);
 
+    /**
+     * Adds an optional persistent cache, shared with the speech player, where downloaded
+     * instructions are saved and played from.
+     *
+     * @param voiceInstructionCache where to save the downloaded instructions
+     * @return this builder for chaining options together
+     * @since 0.21.0
+     */
+    public abstract Builder voiceInstructionCache(VoiceInstructionCache voiceInstructionCache);
+
+    /**
+     * Unit type of the distances in the instructions, part of the key of the cached
+     * instructions so that a change of units never plays a stale instruction.
+     *
+     * @param unitType either imperial or metric
+     * @return this builder for chaining options together
+     * @since 0.21.0
+     */
+    public abstract Builder unitType(String unitType);
+
     abstract VoiceInstructionLoader autoBuild();
 
     public VoiceInstructionLoader build() {
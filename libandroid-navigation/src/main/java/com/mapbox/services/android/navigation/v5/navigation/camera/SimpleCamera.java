@@ -4,6 +4,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.core.constants.Constants;
 import com.mapbox.geojson.LineString;
 import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.utils.RouteFingerprint;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,6 +22,7 @@ public class SimpleCamera extends Camera {
 
   private List<Point> routeCoordinates = new ArrayList<>();
   private DirectionsRoute initialRoute;
+  private long initialRouteFingerprint;
 
   @Override
   public double tilt(RouteInformation routeInformation) {
@@ -50,10 +52,12 @@ public class SimpleCamera extends Camera {
   }
 
   private void setupLineStringAndBearing(DirectionsRoute route) {
-    if (route.equals(initialRoute)) {
+    long routeFingerprint = RouteFingerprint.from(route);
+    if (initialRoute != null && routeFingerprint == initialRouteFingerprint) {
       return; //no need to recalculate these values
     }
     initialRoute = route;
+    initialRouteFingerprint = routeFingerprint;
     routeCoordinates = generateRouteCoordinates(route);
   }
 
@@ -0,0 +1,79 @@
+package com.mapbox.services.android.navigation.v5.navigation.metrics;
+
+import android.support.annotation.NonNull;
+
+import com.google.gson.Gson;
+import com.mapbox.android.telemetry.Event;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.List;
+
+import timber.log.Timber;
+
+/**
+ * {@link TelemetryEventSink} appending each event as one line of JSON to a local file,
+ * to inspect or measure the telemetry of a navigation session without network access.
+ *
+ * @since 0.21.0
+ */
+public class FileTelemetryEventSink implements TelemetryEventSink {
+
+  private static final Charset UTF_8 = Charset.forName("UTF-8");
+  private static final boolean APPEND = true;
+  private final File file;
+  private final Gson gson = new Gson();
+  private long sentEventCount;
+
+  /**
+   * @param file to append the events to, created if needed
+   * @since 0.21.0
+   */
+  public FileTelemetryEventSink(@NonNull File file) {
+    this.file = file;
+  }
+
+  @Override
+  public void send(List<Event> events) {
+    Writer writer = null;
+    try {
+      writer = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file, APPEND), UTF_8));
+      for (Event event : events) {
+        gson.toJson(event, writer);
+        writer.write('\n');
+      }
+      writer.flush();
+      synchronized (this) {
+        sentEventCount += events.size();
+      }
+    } catch (IOException exception) {
+      Timber.e(exception, "Unable to write the telemetry events to %s", file.getPath());
+    } finally {
+      close(writer);
+    }
+  }
+
+  /**
+   * @return number of events written to the file so far
+   * @since 0.21.0
+   */
+  public synchronized long getSentEventCount() {
+    return sentEventCount;
+  }
+
+  private void close(Writer writer) {
+    if (writer == null) {
+      return;
+    }
+    try {
+      writer.close();
+    } catch (IOException exception) {
+      Timber.e(exception);
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.mapbox.services.android.navigation.v5.navigation.metrics;
+
+import com.mapbox.android.telemetry.Event;
+
+import java.util.List;
+
+/**
+ * Destination of the navigation telemetry events. By default, events are pushed to Mapbox telemetry;
+ * a custom sink can be set in the
+ * {@link com.mapbox.services.android.navigation.v5.navigation.MapboxNavigationOptions}, for instance
+ * a {@link FileTelemetryEventSink} to record events locally.
+ *
+ * @since 0.21.0
+ */
+public interface TelemetryEventSink {
+
+  /**
+   * Called on a background thread with a batch of events, in the order they were created.
+   *
+   * @param events to send, never empty
+   * @since 0.21.0
+   */
+  void send(List<Event> events);
+}
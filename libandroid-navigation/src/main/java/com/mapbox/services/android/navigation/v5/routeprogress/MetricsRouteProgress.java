@@ -9,8 +9,19 @@ import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.StepManeuver;
 import com.mapbox.geojson.Point;
 
+/**
+ * Route progress data sent with the navigation telemetry events.
+ * <p>
+ * A single instance can be refreshed with {@link #update(RouteProgress)} on every route progress:
+ * route data is only read again when the route changes, and step data when the step changes.
+ * Use {@link #snapshot()} to keep the values at a given time.
+ */
 public class MetricsRouteProgress {
 
+  private static final int NO_INDEX = -1;
+  private DirectionsRoute route;
+  private int legIndex = NO_INDEX;
+  private int stepIndex = NO_INDEX;
   private int directionsRouteDistance;
   private int directionsRouteDuration;
   private String directionsRouteProfile;
@@ -35,16 +46,75 @@ public class MetricsRouteProgress {
   private String previousStepName;
 
   public MetricsRouteProgress(@Nullable RouteProgress routeProgress) {
+    initDefaultValues();
     if (routeProgress != null) {
-      obtainRouteData(routeProgress.directionsRoute());
-      obtainLegData(routeProgress.currentLegProgress());
+      update(routeProgress);
+    }
+  }
+
+  private MetricsRouteProgress() {
+  }
+
+  /**
+   * Refreshes the values with the given progress, only reading the route and step data again when
+   * the route or the step changed since the previous update.
+   *
+   * @param routeProgress the latest progress
+   * @since 0.21.0
+   */
+  public void update(RouteProgress routeProgress) {
+    DirectionsRoute directionsRoute = routeProgress.directionsRoute();
+    RouteLegProgress legProgress = routeProgress.currentLegProgress();
+    boolean isNewRoute = directionsRoute != route;
+    if (isNewRoute) {
+      route = directionsRoute;
+      obtainRouteData(directionsRoute);
+    }
+    if (isNewRoute || routeProgress.legIndex() != legIndex || legProgress.stepIndex() != stepIndex) {
+      legIndex = routeProgress.legIndex();
+      stepIndex = legProgress.stepIndex();
+      obtainLegData(legProgress);
       obtainStepData(routeProgress);
-      this.distanceRemaining = (int) routeProgress.distanceRemaining();
-      this.durationRemaining = (int) routeProgress.durationRemaining();
-      this.distanceTraveled = (int) routeProgress.distanceTraveled();
-    } else {
-      initDefaultValues();
     }
+    currentStepDistanceRemaining = (int) legProgress.currentStepProgress().distanceRemaining();
+    currentStepDurationRemaining = (int) legProgress.currentStepProgress().durationRemaining();
+    this.distanceRemaining = (int) routeProgress.distanceRemaining();
+    this.durationRemaining = (int) routeProgress.durationRemaining();
+    this.distanceTraveled = (int) routeProgress.distanceTraveled();
+  }
+
+  /**
+   * Copies the current values, which won't change with later updates of this instance.
+   *
+   * @return a copy of this progress
+   * @since 0.21.0
+   */
+  public MetricsRouteProgress snapshot() {
+    MetricsRouteProgress snapshot = new MetricsRouteProgress();
+    snapshot.route = route;
+    snapshot.legIndex = legIndex;
+    snapshot.stepIndex = stepIndex;
+    snapshot.directionsRouteDistance = directionsRouteDistance;
+    snapshot.directionsRouteDuration = directionsRouteDuration;
+    snapshot.directionsRouteProfile = directionsRouteProfile;
+    snapshot.directionsRouteDestination = directionsRouteDestination;
+    snapshot.distanceRemaining = distanceRemaining;
+    snapshot.durationRemaining = durationRemaining;
+    snapshot.distanceTraveled = distanceTraveled;
+    snapshot.currentStepDistance = currentStepDistance;
+    snapshot.currentStepDuration = currentStepDuration;
+    snapshot.currentStepDistanceRemaining = currentStepDistanceRemaining;
+    snapshot.currentStepDurationRemaining = currentStepDurationRemaining;
+    snapshot.currentStepName = currentStepName;
+    snapshot.upcomingStepInstruction = upcomingStepInstruction;
+    snapshot.upcomingStepModifier = upcomingStepModifier;
+    snapshot.upcomingStepType = upcomingStepType;
+    snapshot.upcomingStepName = upcomingStepName;
+    snapshot.previousStepInstruction = previousStepInstruction;
+    snapshot.previousStepModifier = previousStepModifier;
+    snapshot.previousStepType = previousStepType;
+    snapshot.previousStepName = previousStepName;
+    return snapshot;
   }
 
   private void initDefaultValues() {
@@ -71,28 +141,21 @@ public class MetricsRouteProgress {
   private void obtainLegData(RouteLegProgress legProgress) {
     currentStepDistance = (int) legProgress.currentStep().distance();
     currentStepDuration = (int) legProgress.currentStep().duration();
-    currentStepDistanceRemaining = (int) legProgress.currentStepProgress().distanceRemaining();
-    currentStepDurationRemaining = (int) legProgress.currentStepProgress().durationRemaining();
     currentStepName = hasStepName(legProgress) ? legProgress.currentStep().name() : "";
   }
 
   private void obtainStepData(RouteProgress routeProgress) {
     RouteLegProgress legProgress = routeProgress.currentLegProgress();
-    if (legProgress.upComingStep() != null) {
-      upcomingStepName = legProgress.upComingStep().name();
-      StepManeuver upcomingManeuver = legProgress.upComingStep().maneuver();
-      if (upcomingManeuver != null) {
-        upcomingStepInstruction = upcomingManeuver.instruction();
-        upcomingStepType = upcomingManeuver.type();
-        upcomingStepModifier = upcomingManeuver.modifier();
-      }
-    }
+    LegStep upcomingStep = legProgress.upComingStep();
+    StepManeuver upcomingManeuver = upcomingStep != null ? upcomingStep.maneuver() : null;
+    upcomingStepName = upcomingStep != null ? upcomingStep.name() : "";
+    upcomingStepInstruction = upcomingManeuver != null ? upcomingManeuver.instruction() : "";
+    upcomingStepType = upcomingManeuver != null ? upcomingManeuver.type() : "";
+    upcomingStepModifier = upcomingManeuver != null ? upcomingManeuver.modifier() : "";
     StepManeuver currentManeuver = legProgress.currentStep().maneuver();
-    if (currentManeuver != null) {
-      previousStepInstruction = currentManeuver.instruction();
-      previousStepType = currentManeuver.type();
-      previousStepModifier = currentManeuver.modifier();
-    }
+    previousStepInstruction = currentManeuver != null ? currentManeuver.instruction() : "";
+    previousStepType = currentManeuver != null ? currentManeuver.type() : "";
+    previousStepModifier = currentManeuver != null ? currentManeuver.modifier() : "";
     previousStepName = currentStepName;
   }
 
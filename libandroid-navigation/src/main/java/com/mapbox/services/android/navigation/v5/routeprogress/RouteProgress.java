@@ -10,6 +10,7 @@ import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.api.directions.v5.models.StepIntersection;
 import com.mapbox.geojson.Point;
 import com.mapbox.navigator.VoiceInstruction;
+import com.mapbox.services.android.navigation.v5.utils.RouteFingerprint;
 
 import java.util.List;
 
@@ -168,7 +169,33 @@ public abstract class RouteProgress {
   @Nullable
   public abstract VoiceInstruction voiceInstruction();
 
-  public abstract RouteProgress.Builder toBuilder();
+  /**
+   * Stable fingerprint of {@link #directionsRoute()}, based on its geometry, leg count and request UUID.
+   * <p>
+   * Comparing the fingerprints of two route progress objects is a cheap way to determine whether
+   * they belong to the same route, without deep-comparing both {@link DirectionsRoute}s.
+   *
+   * @return 64-bit fingerprint of the current route
+   * @since 0.21.0
+   */
+  public long routeFingerprint() {
+    return fingerprint();
+  }
+
+  /**
+   * Returns a builder with the values of this route progress. As the route may be replaced,
+   * its fingerprint is calculated again when building, unless it's set on the builder.
+   *
+   * @return builder with the values of this route progress
+   */
+  public RouteProgress.Builder toBuilder() {
+    return autoToBuilder().fingerprint(null);
+  }
+
+  abstract RouteProgress.Builder autoToBuilder();
+
+  @Nullable
+  abstract Long fingerprint();
 
   abstract int stepIndex();
 
@@ -249,6 +276,23 @@ public abstract class RouteProgress {
 
     public abstract Builder voiceInstruction(@Nullable VoiceInstruction voiceInstruction);
 
+    /**
+     * Fingerprint of the route, as returned by {@link RouteFingerprint#from(DirectionsRoute)}.
+     * If it isn't set, it's calculated from the route when building.
+     *
+     * @param routeFingerprint of the route
+     * @return this builder
+     * @since 0.21.0
+     */
+    public Builder routeFingerprint(long routeFingerprint) {
+      return fingerprint(routeFingerprint);
+    }
+
+    abstract Builder fingerprint(@Nullable Long fingerprint);
+
+    @Nullable
+    abstract Long fingerprint();
+
     abstract RouteProgress autoBuild(); // not public
 
     public RouteProgress build() {
@@ -267,6 +311,9 @@ public abstract class RouteProgress {
         .currentLegAnnotation(currentLegAnnotation())
         .build();
       currentLegProgress(legProgress);
+      if (fingerprint() == null) {
+        fingerprint(RouteFingerprint.from(directionsRoute()));
+      }
 
       return autoBuild();
     }
@@ -20,6 +20,7 @@ import com.mapbox.turf.TurfMeasurement;
 
 import java.text.NumberFormat;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -32,10 +33,25 @@ public class DistanceFormatter {
 
   private static final int LARGE_UNIT_THRESHOLD = 10;
   private static final int SMALL_UNIT_THRESHOLD = 401;
+  private static final int WHOLE_LARGE_UNIT_FORMAT = 0;
+  private static final int DECIMAL_LARGE_UNIT_FORMAT = 1;
+  private static final int SMALL_UNIT_FORMAT = 2;
+  private static final int FORMAT_COUNT = 3;
+  private static final int TENTHS = 10;
+  private static final int MAXIMUM_CACHED_DISTANCES = 128;
   @NavigationConstants.RoundingIncrement
   private final int roundingIncrement;
   private final Map<String, String> unitStrings = new HashMap<>();
-  private final NumberFormat numberFormat;
+  private final NumberFormat wholeNumberFormat;
+  private final NumberFormat decimalNumberFormat;
+  // Guarded by itself, along with the number formats which aren't thread safe
+  private final Map<Long, SpannableString> distanceStrings = new LinkedHashMap<Long, SpannableString>(
+    MAXIMUM_CACHED_DISTANCES, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<Long, SpannableString> eldest) {
+      return size() > MAXIMUM_CACHED_DISTANCES;
+    }
+  };
   private final String largeUnit;
   private final String smallUnit;
   private final LocaleUtils localeUtils;
@@ -71,7 +87,10 @@ public class DistanceFormatter {
       locale = new Locale(language);
     }
     this.language = locale.getLanguage();
-    numberFormat = NumberFormat.getNumberInstance(locale);
+    wholeNumberFormat = NumberFormat.getNumberInstance(locale);
+    wholeNumberFormat.setMaximumFractionDigits(0);
+    decimalNumberFormat = NumberFormat.getNumberInstance(locale);
+    decimalNumberFormat.setMaximumFractionDigits(1);
 
     if (!DirectionsCriteria.IMPERIAL.equals(unitType) && !DirectionsCriteria.METRIC.equals(unitType)) {
       unitType = localeUtils.getUnitTypeForDeviceLocale(context);
@@ -84,6 +103,9 @@ public class DistanceFormatter {
 
   /**
    * Returns a formatted SpannableString with bold and size formatting. I.e., "10 mi", "350 m"
+   * <p>
+   * Distances showing the same rounded value return the same SpannableString, which shouldn't be
+   * modified. This method can be called from any thread.
    *
    * @param distance in meters
    * @return SpannableString representation which has a bolded number and units which have a
@@ -95,13 +117,13 @@ public class DistanceFormatter {
 
     // If the distance is greater than 10 miles/kilometers, then round to nearest mile/kilometer
     if (distanceLargeUnit > LARGE_UNIT_THRESHOLD) {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 0), largeUnit);
+      return retrieveDistanceString((long) Math.rint(distanceLargeUnit), WHOLE_LARGE_UNIT_FORMAT);
       // If the distance is less than 401 feet/meters, round by fifty feet/meters
     } else if (distanceSmallUnit < SMALL_UNIT_THRESHOLD) {
-      return getDistanceString(roundToClosestIncrement(distanceSmallUnit), smallUnit);
+      return retrieveDistanceString(roundToClosestIncrement(distanceSmallUnit), SMALL_UNIT_FORMAT);
       // If the distance is between 401 feet/meters and 10 miles/kilometers, then round to one decimal place
     } else {
-      return getDistanceString(roundToDecimalPlace(distanceLargeUnit, 1), largeUnit);
+      return retrieveDistanceString((long) Math.rint(distanceLargeUnit * TENTHS), DECIMAL_LARGE_UNIT_FORMAT);
     }
   }
 
@@ -125,23 +147,40 @@ public class DistanceFormatter {
    * @param distance to round to closest specified rounding increment
    * @return number rounded to closest rounding increment, or rounding increment if distance is less
    */
-  private String roundToClosestIncrement(double distance) {
+  private int roundToClosestIncrement(double distance) {
     int roundedNumber = ((int) Math.round(distance)) / roundingIncrement * roundingIncrement;
 
-    return String.valueOf(roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber);
+    return roundedNumber < roundingIncrement ? roundingIncrement : roundedNumber;
   }
 
   /**
-   * Rounds given number to the given decimal place
+   * Distances are cached by their rounded value, so the string is only built once per value shown.
    *
-   * @param distance     to round
-   * @param decimalPlace number of decimal places to round
-   * @return distance rounded to given decimal places
+   * @param roundedDistance distance rounded for the given format: in tenths for the decimal format
+   * @param format          small unit, whole large unit or decimal large unit
+   * @return formatted distance
    */
-  private String roundToDecimalPlace(double distance, int decimalPlace) {
-    numberFormat.setMaximumFractionDigits(decimalPlace);
+  private SpannableString retrieveDistanceString(long roundedDistance, int format) {
+    Long key = roundedDistance * FORMAT_COUNT + format;
+    synchronized (distanceStrings) {
+      SpannableString distanceString = distanceStrings.get(key);
+      if (distanceString == null) {
+        distanceString = buildDistanceString(roundedDistance, format);
+        distanceStrings.put(key, distanceString);
+      }
+      return distanceString;
+    }
+  }
 
-    return numberFormat.format(distance);
+  private SpannableString buildDistanceString(long roundedDistance, int format) {
+    switch (format) {
+      case WHOLE_LARGE_UNIT_FORMAT:
+        return getDistanceString(wholeNumberFormat.format(roundedDistance), largeUnit);
+      case DECIMAL_LARGE_UNIT_FORMAT:
+        return getDistanceString(decimalNumberFormat.format(roundedDistance / (double) TENTHS), largeUnit);
+      default:
+        return getDistanceString(String.valueOf(roundedDistance), smallUnit);
+    }
   }
 
   /**
@@ -153,7 +192,7 @@ public class DistanceFormatter {
    * @return String with bolded distance and shrunken units
    */
   private SpannableString getDistanceString(String distance, String unit) {
-    SpannableString spannableString = new SpannableString(String.format("%s %s", distance, unitStrings.get(unit)));
+    SpannableString spannableString = new SpannableString(distance + " " + unitStrings.get(unit));
 
     spannableString.setSpan(new StyleSpan(Typeface.BOLD), 0, distance.length(), Spanned.SPAN_EXCLUSIVE_EXCLUSIVE);
     spannableString.setSpan(new RelativeSizeSpan(0.65f), distance.length() + 1,
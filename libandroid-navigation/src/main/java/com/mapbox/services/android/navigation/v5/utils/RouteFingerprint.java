@@ -0,0 +1,65 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import android.support.annotation.Nullable;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.RouteOptions;
+
+/**
+ * Provides a stable 64-bit fingerprint for a {@link DirectionsRoute}, based on its geometry, leg count
+ * and request UUID.
+ * <p>
+ * Comparing fingerprints is a cheap replacement for {@link DirectionsRoute#equals(Object)}, which
+ * walks every leg, step and annotation of the route. The fingerprint of the route being navigated
+ * is calculated once per route and carried by each
+ * {@link com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress}.
+ *
+ * @since 0.21.0
+ */
+public final class RouteFingerprint {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private RouteFingerprint() {
+    // Empty private constructor to prevent users creating an instance of this class.
+  }
+
+  /**
+   * Calculates the fingerprint of the given route.
+   *
+   * @param route to fingerprint
+   * @return 64-bit fingerprint of the route
+   * @since 0.21.0
+   */
+  public static long from(@Nullable DirectionsRoute route) {
+    long hash = FNV_OFFSET_BASIS;
+    if (route == null) {
+      return hash;
+    }
+    hash = hash(hash, route.geometry());
+    hash = hash(hash, route.legs() == null ? 0 : route.legs().size());
+    RouteOptions routeOptions = route.routeOptions();
+    hash = hash(hash, routeOptions == null ? null : routeOptions.requestUuid());
+    return hash;
+  }
+
+  private static long hash(long hash, @Nullable String value) {
+    if (value == null) {
+      return hash(hash, -1);
+    }
+    for (int i = 0; i < value.length(); i++) {
+      hash ^= value.charAt(i);
+      hash *= FNV_PRIME;
+    }
+    return hash(hash, value.length());
+  }
+
+  private static long hash(long hash, int value) {
+    for (int shift = 0; shift < Integer.SIZE; shift += Byte.SIZE) {
+      hash ^= (value >>> shift) & 0xff;
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+}
@@ -20,8 +20,6 @@ import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
-import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -32,7 +30,6 @@ public class RouteUtils {
 
   private static final String FORCED_LOCATION = "Forced Location";
   private static final int FIRST_COORDINATE = 0;
-  private static final int FIRST_INSTRUCTION = 0;
   private static final int ORIGIN_WAYPOINT_NAME_THRESHOLD = 1;
   private static final int ORIGIN_WAYPOINT_NAME = 0;
   private static final int FIRST_POSITION = 0;
@@ -46,34 +43,51 @@ public class RouteUtils {
       add(DirectionsCriteria.PROFILE_WALKING);
     }
   };
+  private final StepInstructionIndex<BannerInstructions> bannerInstructionIndex =
+    new StepInstructionIndex<BannerInstructions>() {
+      @Override
+      double distanceAlongGeometry(BannerInstructions instructions) {
+        return instructions.distanceAlongGeometry();
+      }
+    };
+  private final StepInstructionIndex<VoiceInstructions> voiceInstructionIndex =
+    new StepInstructionIndex<VoiceInstructions>() {
+      @Override
+      double distanceAlongGeometry(VoiceInstructions instructions) {
+        return instructions.distanceAlongGeometry();
+      }
+    };
 
   /**
-   * Compares a new routeProgress geometry to a previousRouteProgress geometry to determine if the
-   * user is traversing along a new route. If the route geometries do not match, this returns true.
+   * Compares a new routeProgress route to a previousRouteProgress route to determine if the
+   * user is traversing along a new route. If the route fingerprints (geometry, leg count and request
+   * UUID) do not match, this returns true.
    *
    * @param previousRouteProgress the past route progress with the directions route included
    * @param routeProgress         the route progress with the directions route included
-   * @return true if the direction route geometries do not match up, otherwise, false
+   * @return true if the direction route fingerprints do not match up, otherwise, false
    * @since 0.7.0
    */
   public boolean isNewRoute(@Nullable RouteProgress previousRouteProgress,
                             @NonNull RouteProgress routeProgress) {
-    return isNewRoute(previousRouteProgress, routeProgress.directionsRoute());
+    return previousRouteProgress == null
+      || previousRouteProgress.routeFingerprint() != routeProgress.routeFingerprint();
   }
 
   /**
-   * Compares a new routeProgress geometry to a previousRouteProgress geometry to determine if the
-   * user is traversing along a new route. If the route geometries do not match, this returns true.
+   * Compares a new directions route to a previousRouteProgress route to determine if the
+   * user is traversing along a new route. If the route fingerprints (geometry, leg count and request
+   * UUID) do not match, this returns true.
    *
    * @param previousRouteProgress the past route progress with the directions route included
    * @param directionsRoute       the current directions route
-   * @return true if the direction route geometries do not match up, otherwise, false
+   * @return true if the direction route fingerprints do not match up, otherwise, false
    * @since 0.7.0
    */
   public boolean isNewRoute(@Nullable RouteProgress previousRouteProgress,
                             @NonNull DirectionsRoute directionsRoute) {
-    return previousRouteProgress == null || !previousRouteProgress.directionsRoute().geometry()
-      .equals(directionsRoute.geometry());
+    return previousRouteProgress == null
+      || previousRouteProgress.routeFingerprint() != RouteFingerprint.from(directionsRoute);
   }
 
   /**
@@ -216,14 +230,7 @@ public class RouteUtils {
   @Nullable
   public BannerInstructions findCurrentBannerInstructions(LegStep currentStep, double stepDistanceRemaining) {
     if (isValidBannerInstructions(currentStep)) {
-      List<BannerInstructions> instructions = sortBannerInstructions(currentStep.bannerInstructions());
-      for (BannerInstructions instruction : instructions) {
-        double distanceAlongGeometry = instruction.distanceAlongGeometry();
-        if (distanceAlongGeometry >= stepDistanceRemaining) {
-          return instruction;
-        }
-      }
-      return instructions.get(FIRST_INSTRUCTION);
+      return bannerInstructionIndex.findCurrentInstruction(currentStep.bannerInstructions(), stepDistanceRemaining);
     }
     return null;
   }
@@ -232,17 +239,6 @@ public class RouteUtils {
     return isValidStep(currentStep) && hasInstructions(currentStep.bannerInstructions());
   }
 
-  private List<BannerInstructions> sortBannerInstructions(List<BannerInstructions> instructions) {
-    List<BannerInstructions> sortedInstructions = new ArrayList<>(instructions);
-    Collections.sort(sortedInstructions, new Comparator<BannerInstructions>() {
-      @Override
-      public int compare(BannerInstructions instructions, BannerInstructions nextInstructions) {
-        return Double.compare(instructions.distanceAlongGeometry(), nextInstructions.distanceAlongGeometry());
-      }
-    });
-    return sortedInstructions;
-  }
-
   /**
    * This method returns the current {@link BannerText} based on the currentStep distance
    * remaining.
@@ -277,14 +273,7 @@ public class RouteUtils {
   @Nullable
   public VoiceInstructions findCurrentVoiceInstructions(LegStep currentStep, double stepDistanceRemaining) {
     if (isValidVoiceInstructions(currentStep)) {
-      List<VoiceInstructions> instructions = sortVoiceInstructions(currentStep.voiceInstructions());
-      for (VoiceInstructions instruction : instructions) {
-        double distanceAlongGeometry = instruction.distanceAlongGeometry();
-        if (distanceAlongGeometry >= stepDistanceRemaining) {
-          return instruction;
-        }
-      }
-      return instructions.get(FIRST_INSTRUCTION);
+      return voiceInstructionIndex.findCurrentInstruction(currentStep.voiceInstructions(), stepDistanceRemaining);
     }
     return null;
   }
@@ -293,17 +282,6 @@ public class RouteUtils {
     return isValidStep(currentStep) && hasInstructions(currentStep.voiceInstructions());
   }
 
-  private List<VoiceInstructions> sortVoiceInstructions(List<VoiceInstructions> instructions) {
-    List<VoiceInstructions> sortedInstructions = new ArrayList<>(instructions);
-    Collections.sort(sortedInstructions, new Comparator<VoiceInstructions>() {
-      @Override
-      public int compare(VoiceInstructions instructions, VoiceInstructions nextInstructions) {
-        return Double.compare(instructions.distanceAlongGeometry(), nextInstructions.distanceAlongGeometry());
-      }
-    });
-    return sortedInstructions;
-  }
-
   private boolean upcomingStepIsArrivalManeuverType(@NonNull RouteProgress routeProgress) {
     return routeProgress.currentLegProgress().upComingStep() != null
       && routeProgress.currentLegProgress().upComingStep().maneuver().type().contains(STEP_MANEUVER_TYPE_ARRIVE);
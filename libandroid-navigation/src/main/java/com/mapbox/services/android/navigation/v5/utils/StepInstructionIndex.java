@@ -0,0 +1,123 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Finds the current instruction of a step, given the distance remaining along it.
+ * <p>
+ * The instructions of a step are sorted once by distance along the geometry, then looked up with
+ * a binary search. As the distance remaining only decreases along a step, the index found last is
+ * checked first, so lookups on each update are usually constant time. The last few steps looked up
+ * stay indexed, so alternating between the current and upcoming steps doesn't sort them again.
+ *
+ * @param <T> banner or voice instructions
+ */
+abstract class StepInstructionIndex<T> {
+
+  private static final int MAXIMUM_INDEXED_STEPS = 4;
+  // Least recently used first
+  private final List<IndexedStep<T>> indexedSteps = new ArrayList<>(MAXIMUM_INDEXED_STEPS);
+
+  /**
+   * Returns the first instruction, by distance along the geometry, at or beyond the distance
+   * remaining, or the closest to the end of the step if the distance remaining is beyond all of them.
+   *
+   * @param stepInstructions      of the current step, not empty
+   * @param stepDistanceRemaining to determine progress along the step
+   * @return the current instruction
+   */
+  synchronized T findCurrentInstruction(List<T> stepInstructions, double stepDistanceRemaining) {
+    return retrieveIndexedStep(stepInstructions).findCurrentInstruction(stepDistanceRemaining);
+  }
+
+  abstract double distanceAlongGeometry(T instruction);
+
+  private IndexedStep<T> retrieveIndexedStep(List<T> stepInstructions) {
+    for (int i = indexedSteps.size() - 1; i >= 0; i--) {
+      IndexedStep<T> indexedStep = indexedSteps.get(i);
+      if (indexedStep.instructions == stepInstructions) {
+        if (i != indexedSteps.size() - 1) {
+          indexedSteps.remove(i);
+          indexedSteps.add(indexedStep);
+        }
+        return indexedStep;
+      }
+    }
+    if (indexedSteps.size() == MAXIMUM_INDEXED_STEPS) {
+      indexedSteps.remove(0);
+    }
+    IndexedStep<T> indexedStep = index(stepInstructions);
+    indexedSteps.add(indexedStep);
+    return indexedStep;
+  }
+
+  private IndexedStep<T> index(List<T> stepInstructions) {
+    List<T> sorted = new ArrayList<>(stepInstructions);
+    Collections.sort(sorted, new Comparator<T>() {
+      @Override
+      public int compare(T instruction, T nextInstruction) {
+        return Double.compare(distanceAlongGeometry(instruction), distanceAlongGeometry(nextInstruction));
+      }
+    });
+    double[] distances = new double[sorted.size()];
+    for (int i = 0; i < distances.length; i++) {
+      distances[i] = distanceAlongGeometry(sorted.get(i));
+    }
+    return new IndexedStep<>(stepInstructions, sorted, distances);
+  }
+
+  private static class IndexedStep<T> {
+
+    private static final int FIRST_INSTRUCTION = 0;
+    private static final int NO_INSTRUCTION = -1;
+    private final List<T> instructions;
+    private final List<T> sortedInstructions;
+    private final double[] distances;
+    private int currentIndex = NO_INSTRUCTION;
+
+    IndexedStep(List<T> instructions, List<T> sortedInstructions, double[] distances) {
+      this.instructions = instructions;
+      this.sortedInstructions = sortedInstructions;
+      this.distances = distances;
+    }
+
+    T findCurrentInstruction(double stepDistanceRemaining) {
+      if (!isCurrentIndex(stepDistanceRemaining)) {
+        currentIndex = search(stepDistanceRemaining);
+      }
+      return sortedInstructions.get(currentIndex);
+    }
+
+    private boolean isCurrentIndex(double stepDistanceRemaining) {
+      if (currentIndex == NO_INSTRUCTION) {
+        return false;
+      }
+      boolean isPreviousBefore = currentIndex == FIRST_INSTRUCTION
+        || distances[currentIndex - 1] < stepDistanceRemaining;
+      boolean isAtOrBeyond = distances[currentIndex] >= stepDistanceRemaining;
+      boolean isBeyondAll = currentIndex == FIRST_INSTRUCTION
+        && distances[distances.length - 1] < stepDistanceRemaining;
+      return (isPreviousBefore && isAtOrBeyond) || isBeyondAll;
+    }
+
+    /**
+     * Binary search of the first distance at or beyond the distance remaining.
+     */
+    private int search(double stepDistanceRemaining) {
+      int low = 0;
+      int high = distances.length;
+      while (low < high) {
+        int middle = (low + high) >>> 1;
+        if (distances[middle] < stepDistanceRemaining) {
+          low = middle + 1;
+        } else {
+          high = middle;
+        }
+      }
+      return low == distances.length ? FIRST_INSTRUCTION : low;
+    }
+  }
+}
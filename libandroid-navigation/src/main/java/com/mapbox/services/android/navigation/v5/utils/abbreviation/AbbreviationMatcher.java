@@ -0,0 +1,75 @@
+package com.mapbox.services.android.navigation.v5.utils.abbreviation;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles an {@link AbbreviationArray} once into a single case-insensitive pattern matching any of
+ * its words, so a name is abbreviated in one pass instead of one regular expression per word.
+ * <p>
+ * The latest results are cached, as the same names are abbreviated again each time a banner
+ * or instruction list row is bound.
+ */
+final class AbbreviationMatcher {
+
+  private static final String WORD_BOUNDARY = "\\b";
+  private static final String ALTERNATION = "|";
+  private static final int MAXIMUM_CACHED_RESULTS = 100;
+  private static final int INITIAL_CAPACITY = 16;
+  private static final float LOAD_FACTOR = 0.75f;
+
+  private final Pattern pattern;
+  private final Map<String, String> abbreviations = new HashMap<>();
+  private final Map<String, String> results = new LinkedHashMap<String, String>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+      return size() > MAXIMUM_CACHED_RESULTS;
+    }
+  };
+
+  AbbreviationMatcher(AbbreviationArray abbreviationArray) {
+    StringBuilder words = new StringBuilder();
+    for (int i = 0; i < abbreviationArray.size(); i++) {
+      AbbreviationArray.Abbreviation abbreviation = abbreviationArray.valueAt(i);
+      String word = abbreviation.string.toLowerCase(Locale.US);
+      if (abbreviations.containsKey(word)) {
+        continue;
+      }
+      abbreviations.put(word, abbreviation.abbreviatedString);
+      if (words.length() > 0) {
+        words.append(ALTERNATION);
+      }
+      words.append(Pattern.quote(word));
+    }
+    pattern = Pattern.compile(WORD_BOUNDARY + "(?:" + words + ")" + WORD_BOUNDARY, Pattern.CASE_INSENSITIVE);
+  }
+
+  synchronized String abbreviate(String name) {
+    String result = results.get(name);
+    if (result == null) {
+      result = replaceWords(name);
+      results.put(name, result);
+    }
+    return result;
+  }
+
+  private String replaceWords(String name) {
+    Matcher matcher = pattern.matcher(name);
+    if (!matcher.find()) {
+      return name;
+    }
+    StringBuilder result = new StringBuilder(name.length());
+    int lastEnd = 0;
+    do {
+      result.append(name, lastEnd, matcher.start());
+      result.append(abbreviations.get(matcher.group().toLowerCase(Locale.US)));
+      lastEnd = matcher.end();
+    } while (matcher.find());
+    result.append(name, lastEnd, name.length());
+    return result.toString();
+  }
+}
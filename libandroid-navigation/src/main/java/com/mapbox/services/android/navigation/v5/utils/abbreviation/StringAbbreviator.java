@@ -2,33 +2,36 @@ package com.mapbox.services.android.navigation.v5.utils.abbreviation;
 
 import android.text.TextUtils;
 
+import java.util.regex.Pattern;
+
 public class StringAbbreviator {
 
-  private static final String REGEX_IGNORE_CASE_START = "(?i)\\b";
-  private static final String REGEX_IGNORE_CASE_END = "\\b";
-  private static final String REGEX_COLON_SEMICOLON_COMMA = "[:;,]";
+  private static final Pattern COLON_SEMICOLON_COMMA = Pattern.compile("[:;,]");
+  private static final int MINIMUM_ABBREVIATION_LENGTH = 25;
+  private static AbbreviationMatcher abbreviationMatcher;
 
   public static String abbreviate(String inputStr) {
     if (!TextUtils.isEmpty(inputStr)) {
-      if (inputStr.length() < 25) {
+      if (inputStr.length() < MINIMUM_ABBREVIATION_LENGTH) {
         return inputStr;
       }
-
-      AbbreviationArray abbreviations = new AbbreviationArray();
-      for (int i = 0; i < abbreviations.size(); i++) {
-        AbbreviationArray.Abbreviation abbv = abbreviations.get(i);
-        inputStr = inputStr.replaceAll(REGEX_IGNORE_CASE_START + abbv.string + REGEX_IGNORE_CASE_END,
-          abbv.abbreviatedString);
-      }
+      return obtainAbbreviationMatcher().abbreviate(inputStr);
     }
     return inputStr;
   }
 
   public static String deliminator(String inputStr) {
-    return inputStr.replaceAll(REGEX_COLON_SEMICOLON_COMMA, "/");
+    return COLON_SEMICOLON_COMMA.matcher(inputStr).replaceAll("/");
   }
 
   public static String[] splitter(String inputStr) {
-    return inputStr.split(REGEX_COLON_SEMICOLON_COMMA);
+    return COLON_SEMICOLON_COMMA.split(inputStr);
+  }
+
+  private static synchronized AbbreviationMatcher obtainAbbreviationMatcher() {
+    if (abbreviationMatcher == null) {
+      abbreviationMatcher = new AbbreviationMatcher(new AbbreviationArray());
+    }
+    return abbreviationMatcher;
   }
 }
\ No newline at end of file
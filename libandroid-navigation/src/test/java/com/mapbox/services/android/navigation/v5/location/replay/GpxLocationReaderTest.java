@@ -0,0 +1,99 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.text.ParseException;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class GpxLocationReaderTest {
+
+  private static final String TEST_GPX = "test.gpx";
+  private static final String TEST_INVALID_GPX = "test_invalid.gpx";
+  private static final long SECOND_TEST_GPS_TIME = 1255804651000L;
+  private static final long THIRD_TEST_GPS_TIME = 1255804654000L;
+
+  @Test
+  public void nextLocation_readsTrackPointsInOrder() throws IOException, ParseException {
+    GpxLocationReader reader = new GpxLocationReader(buildTestGpxInputStream(TEST_GPX));
+
+    reader.nextLocation();
+    Location secondLocation = reader.nextLocation();
+
+    assertEquals(47.644001, secondLocation.getLatitude());
+    assertEquals(-122.326001, secondLocation.getLongitude());
+    assertEquals(SECOND_TEST_GPS_TIME, secondLocation.getTime());
+  }
+
+  @Test
+  public void nextLocation_returnsNullAtEndOfTrace() throws IOException, ParseException {
+    GpxLocationReader reader = new GpxLocationReader(buildTestGpxInputStream(TEST_GPX));
+
+    reader.nextLocations(3);
+    Location location = reader.nextLocation();
+
+    assertNull(location);
+  }
+
+  @Test
+  public void nextLocations_readsUpToMaximum() throws IOException, ParseException {
+    GpxLocationReader reader = new GpxLocationReader(buildTestGpxInputStream(TEST_GPX));
+
+    List<Location> firstBatch = reader.nextLocations(2);
+    List<Location> secondBatch = reader.nextLocations(2);
+
+    assertEquals(2, firstBatch.size());
+    assertEquals(1, secondBatch.size());
+    assertEquals(THIRD_TEST_GPS_TIME, secondBatch.get(0).getTime());
+  }
+
+  @Test
+  public void nextLocations_invalidGpxTagsReturnsEmptyList() throws IOException, ParseException {
+    GpxLocationReader reader = new GpxLocationReader(buildTestGpxInputStream(TEST_INVALID_GPX));
+
+    List<Location> locations = reader.nextLocations(10);
+
+    assertTrue(locations.isEmpty());
+  }
+
+  @Test
+  public void parseTime_withFractionalSeconds() throws ParseException {
+    long time = GpxLocationReader.parseTime("2009-10-17T18:37:26.250Z");
+
+    assertEquals(1255804646250L, time);
+  }
+
+  @Test
+  public void parseTime_withOffset() throws ParseException {
+    long time = GpxLocationReader.parseTime("2009-10-17T20:37:26+02:00");
+
+    assertEquals(1255804646000L, time);
+  }
+
+  @Test
+  public void parseTime_beforeMarch() throws ParseException {
+    long time = GpxLocationReader.parseTime("2016-02-29T00:00:00Z");
+
+    assertEquals(1456704000000L, time);
+  }
+
+  @Test(expected = ParseException.class)
+  public void parseTime_invalidDateThrows() throws ParseException {
+    GpxLocationReader.parseTime("2009-10-17 18:37:26");
+  }
+
+  private InputStream buildTestGpxInputStream(String gpxFileName) {
+    ClassLoader classLoader = getClass().getClassLoader();
+    return classLoader.getResourceAsStream(gpxFileName);
+  }
+}
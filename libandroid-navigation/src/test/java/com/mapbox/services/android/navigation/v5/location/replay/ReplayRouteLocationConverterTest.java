@@ -0,0 +1,116 @@
+package com.mapbox.services.android.navigation.v5.location.replay;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.core.constants.Constants;
+import com.mapbox.geojson.LineString;
+import com.mapbox.geojson.Point;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.turf.TurfConstants;
+import com.mapbox.turf.TurfMeasurement;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@RunWith(RobolectricTestRunner.class)
+public class ReplayRouteLocationConverterTest extends BaseTest {
+
+  private static final int SPEED_IN_KM_PER_HOUR = 45;
+  private static final int DELAY_IN_SECONDS = 1;
+  private static final double METERS_PER_SAMPLE = 12.5;
+
+  @Test
+  public void sliceRoute_matchesTurfAlong() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    LineString lineString = LineString.fromPolyline(route.geometry(), Constants.PRECISION_6);
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS);
+
+    List<Point> points = converter.sliceRoute(lineString);
+
+    double length = TurfMeasurement.length(lineString, TurfConstants.UNIT_METERS);
+    assertEquals((int) Math.ceil(length / METERS_PER_SAMPLE), points.size());
+    for (int i = 0; i < points.size(); i++) {
+      Point expected = TurfMeasurement.along(lineString, i * METERS_PER_SAMPLE, TurfConstants.UNIT_METERS);
+      assertEquals(expected.longitude(), points.get(i).longitude(), DELTA);
+      assertEquals(expected.latitude(), points.get(i).latitude(), DELTA);
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void constructor_zeroSpeedIsRejected() throws IOException {
+    new ReplayRouteLocationConverter(buildTestDirectionsRoute(), 0, DELAY_IN_SECONDS);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void updateSpeed_zeroSpeedIsRejected() throws IOException {
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(buildTestDirectionsRoute(),
+      SPEED_IN_KM_PER_HOUR, DELAY_IN_SECONDS);
+
+    converter.updateSpeed(0);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void updateDelay_zeroDelayIsRejected() throws IOException {
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(buildTestDirectionsRoute(),
+      SPEED_IN_KM_PER_HOUR, DELAY_IN_SECONDS);
+
+    converter.updateDelay(0);
+  }
+
+  @Test
+  public void sliceRoute_emptyLineReturnsNoPoints() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> coordinates = new ArrayList<>();
+    coordinates.add(Point.fromLngLat(-77.0, 38.0));
+    coordinates.add(Point.fromLngLat(-77.0, 38.0));
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS);
+
+    List<Point> points = converter.sliceRoute(LineString.fromLngLats(coordinates));
+
+    assertTrue(points.isEmpty());
+  }
+
+  @Test
+  public void calculateMockLocations_bearingPointsToNextSample() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(-77.0, 38.0));
+    points.add(Point.fromLngLat(-77.0, 38.001));
+    points.add(Point.fromLngLat(-76.999, 38.001));
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS);
+
+    List<Location> locations = converter.calculateMockLocations(points);
+
+    float secondBearing = (float) TurfMeasurement.bearing(points.get(1), points.get(2));
+    assertEquals(0f, locations.get(0).getBearing(), LARGE_DELTA);
+    assertEquals(secondBearing, locations.get(1).getBearing(), LARGE_DELTA);
+    assertEquals(secondBearing, locations.get(2).getBearing(), LARGE_DELTA);
+  }
+
+  @Test
+  public void calculateMockLocations_timeIncreasesByDelay() throws IOException {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    List<Point> points = new ArrayList<>();
+    points.add(Point.fromLngLat(-77.0, 38.0));
+    points.add(Point.fromLngLat(-77.0, 38.001));
+    ReplayRouteLocationConverter converter = new ReplayRouteLocationConverter(route, SPEED_IN_KM_PER_HOUR,
+      DELAY_IN_SECONDS);
+    converter.initializeTime();
+
+    List<Location> locations = converter.calculateMockLocations(points);
+
+    assertEquals(DELAY_IN_SECONDS * 1000, locations.get(1).getTime() - locations.get(0).getTime());
+  }
+}
@@ -0,0 +1,129 @@
+package com.mapbox.services.android.navigation.v5.milestone;
+
+import android.util.SparseArray;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.BuildConfig;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+import org.robolectric.annotation.Config;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+
+@RunWith(RobolectricTestRunner.class)
+@Config(constants = BuildConfig.class)
+public class CompiledTriggerTest extends BaseTest {
+
+  private static final String ROUTE_FIXTURE = "directions_v5_precision_6.json";
+
+  @Test
+  public void compile_matchesSparseArrayForAllProperties() throws Exception {
+    RouteProgress previousRouteProgress = buildTriggerRouteProgress(0);
+    RouteProgress routeProgress = buildTriggerRouteProgress(1);
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(previousRouteProgress, routeProgress);
+    TriggerSnapshot snapshot = new TriggerSnapshot();
+    snapshot.update(previousRouteProgress, routeProgress);
+    int[] properties = {
+      TriggerProperty.STEP_DURATION_REMAINING_SECONDS, TriggerProperty.STEP_DISTANCE_REMAINING_METERS,
+      TriggerProperty.STEP_DISTANCE_TOTAL_METERS, TriggerProperty.STEP_DURATION_TOTAL_SECONDS,
+      TriggerProperty.STEP_INDEX, TriggerProperty.NEW_STEP, TriggerProperty.LAST_STEP, TriggerProperty.FIRST_STEP,
+      TriggerProperty.NEXT_STEP_DISTANCE_METERS, TriggerProperty.NEXT_STEP_DURATION_SECONDS,
+      TriggerProperty.FIRST_LEG, TriggerProperty.LAST_LEG
+    };
+    Object[] values = {TriggerProperty.TRUE, TriggerProperty.FALSE, 0, 1, 100d, 1d, 0d};
+
+    for (int property : properties) {
+      for (Object value : values) {
+        Trigger.Statement[] statements = {
+          Trigger.eq(property, value), Trigger.neq(property, value), Trigger.gt(property, value),
+          Trigger.gte(property, value), Trigger.lt(property, value), Trigger.lte(property, value)
+        };
+        for (Trigger.Statement statement : statements) {
+          CompiledTrigger compiledTrigger = CompiledTrigger.compile(statement);
+
+          assertNotNull(compiledTrigger);
+          assertEquals(statement.isOccurring(statementObjects), compiledTrigger.isOccurring(snapshot));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void compile_compoundStatementsMatchSparseArray() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress(1);
+    SparseArray<Number[]> statementObjects = TriggerProperty.getSparseArray(routeProgress, routeProgress);
+    TriggerSnapshot snapshot = new TriggerSnapshot();
+    snapshot.update(routeProgress, routeProgress);
+    Trigger.Statement[] statements = {
+      Trigger.all(),
+      Trigger.any(),
+      Trigger.none(),
+      Trigger.all(
+        Trigger.gt(TriggerProperty.STEP_DISTANCE_TOTAL_METERS, 100d),
+        Trigger.eq(TriggerProperty.STEP_INDEX, 1)
+      ),
+      Trigger.any(
+        Trigger.eq(TriggerProperty.NEW_STEP, TriggerProperty.TRUE),
+        Trigger.lt(TriggerProperty.STEP_DISTANCE_REMAINING_METERS, 100d)
+      ),
+      Trigger.none(
+        Trigger.eq(TriggerProperty.FIRST_STEP, TriggerProperty.TRUE),
+        Trigger.all(Trigger.eq(TriggerProperty.LAST_LEG, TriggerProperty.TRUE))
+      )
+    };
+
+    for (Trigger.Statement statement : statements) {
+      CompiledTrigger compiledTrigger = CompiledTrigger.compile(statement);
+
+      assertNotNull(compiledTrigger);
+      assertEquals(statement.isOccurring(statementObjects), compiledTrigger.isOccurring(snapshot));
+    }
+  }
+
+  @Test
+  public void compile_customStatementReturnsNull() {
+    Trigger.Statement customStatement = new Trigger.Statement() {
+      @Override
+      public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+        return true;
+      }
+    };
+
+    CompiledTrigger compiledTrigger = CompiledTrigger.compile(Trigger.all(customStatement));
+
+    assertNull(compiledTrigger);
+  }
+
+  @Test
+  public void isOccurring_customStatementFallsBackToSparseArray() throws Exception {
+    RouteProgress routeProgress = buildTriggerRouteProgress(1);
+    Trigger.Statement customStatement = new Trigger.Statement() {
+      @Override
+      public boolean isOccurring(SparseArray<Number[]> statementObjects) {
+        return statementObjects.get(TriggerProperty.STEP_INDEX)[0].intValue() == 1;
+      }
+    };
+    Milestone milestone = new StepMilestone.Builder()
+      .setTrigger(Trigger.all(customStatement))
+      .build();
+
+    boolean result = milestone.isOccurring(routeProgress, routeProgress);
+
+    assertEquals(true, result);
+  }
+
+  private RouteProgress buildTriggerRouteProgress(int stepIndex) throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(ROUTE_FIXTURE);
+    double distanceRemaining = route.distance();
+    double legDistanceRemaining = route.legs().get(0).distance();
+    double stepDistanceRemaining = route.legs().get(0).steps().get(stepIndex).distance();
+    return buildTestRouteProgress(route, stepDistanceRemaining,
+      legDistanceRemaining, distanceRemaining, stepIndex, 0);
+  }
+}
@@ -0,0 +1,157 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.BannerInstructions;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.VoiceInstructions;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteLegProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteProgress;
+import com.mapbox.services.android.navigation.v5.routeprogress.RouteStepProgress;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class AdaptiveRouteProcessorCadenceTest {
+
+  private static final long MINIMUM_INTERVAL = 500;
+  private static final long DEFAULT_INTERVAL = 1000;
+  private static final long MAXIMUM_INTERVAL = 3000;
+  private static final double MANEUVER_ZONE_RADIUS = 40d;
+
+  @Test
+  public void nextUpdateDelay_withinManeuverZoneReturnsMinimum() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    RouteProgress routeProgress = buildRouteProgress(30d, new ArrayList<Double>());
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(0f), routeProgress);
+
+    assertEquals(MINIMUM_INTERVAL, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_withoutLocationReturnsDefault() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    RouteProgress routeProgress = buildRouteProgress(1000d, new ArrayList<Double>());
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(null, routeProgress);
+
+    assertEquals(DEFAULT_INTERVAL, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_whenStationaryReturnsMaximum() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    RouteProgress routeProgress = buildRouteProgress(1000d, new ArrayList<Double>());
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(0.2f), routeProgress);
+
+    assertEquals(MAXIMUM_INTERVAL, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_onLongStepReturnsMaximum() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    RouteProgress routeProgress = buildRouteProgress(5000d, new ArrayList<Double>());
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(30f), routeProgress);
+
+    assertEquals(MAXIMUM_INTERVAL, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_isHalfTheTimeToNextInstruction() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    List<Double> instructionDistances = new ArrayList<>();
+    instructionDistances.add(2000d);
+    instructionDistances.add(400d);
+    RouteProgress routeProgress = buildRouteProgress(440d, instructionDistances);
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(20f), routeProgress);
+
+    assertEquals(1000, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_neverBelowMinimum() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    List<Double> instructionDistances = new ArrayList<>();
+    instructionDistances.add(400d);
+    RouteProgress routeProgress = buildRouteProgress(405d, instructionDistances);
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(20f), routeProgress);
+
+    assertEquals(MINIMUM_INTERVAL, delay);
+  }
+
+  @Test
+  public void nextUpdateDelay_passedInstructionsAreIgnored() {
+    AdaptiveRouteProcessorCadence cadence = buildCadence();
+    List<Double> instructionDistances = new ArrayList<>();
+    instructionDistances.add(400d);
+    RouteProgress routeProgress = buildRouteProgress(80d, instructionDistances);
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(10f), routeProgress);
+
+    assertEquals(2000, delay);
+  }
+
+  @Test
+  public void fixedCadence_alwaysReturnsInterval() {
+    FixedRouteProcessorCadence cadence = new FixedRouteProcessorCadence();
+    RouteProgress routeProgress = buildRouteProgress(30d, new ArrayList<Double>());
+
+    long delay = cadence.nextUpdateDelayInMilliseconds(buildLocation(30f), routeProgress);
+
+    assertEquals(NavigationConstants.ROUTE_PROCESSOR_DEFAULT_INTERVAL_IN_MILLISECONDS, delay);
+  }
+
+  @Test
+  public void defaultOptions_useFixedCadence() {
+    MapboxNavigationOptions options = MapboxNavigationOptions.builder().build();
+
+    assertEquals(FixedRouteProcessorCadence.class, options.routeProcessorCadence().getClass());
+  }
+
+  private AdaptiveRouteProcessorCadence buildCadence() {
+    return new AdaptiveRouteProcessorCadence(MINIMUM_INTERVAL, DEFAULT_INTERVAL, MAXIMUM_INTERVAL,
+      MANEUVER_ZONE_RADIUS);
+  }
+
+  private Location buildLocation(float speed) {
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(speed);
+    return location;
+  }
+
+  private RouteProgress buildRouteProgress(double stepDistanceRemaining, List<Double> instructionDistances) {
+    List<VoiceInstructions> voiceInstructions = new ArrayList<>();
+    List<BannerInstructions> bannerInstructions = new ArrayList<>();
+    for (Double distance : instructionDistances) {
+      VoiceInstructions voiceInstruction = mock(VoiceInstructions.class);
+      when(voiceInstruction.distanceAlongGeometry()).thenReturn(distance);
+      voiceInstructions.add(voiceInstruction);
+      BannerInstructions bannerInstruction = mock(BannerInstructions.class);
+      when(bannerInstruction.distanceAlongGeometry()).thenReturn(distance);
+      bannerInstructions.add(bannerInstruction);
+    }
+    LegStep currentStep = mock(LegStep.class);
+    when(currentStep.voiceInstructions()).thenReturn(voiceInstructions);
+    when(currentStep.bannerInstructions()).thenReturn(bannerInstructions);
+    RouteStepProgress stepProgress = mock(RouteStepProgress.class);
+    when(stepProgress.distanceRemaining()).thenReturn(stepDistanceRemaining);
+    RouteLegProgress legProgress = mock(RouteLegProgress.class);
+    when(legProgress.currentStepProgress()).thenReturn(stepProgress);
+    when(legProgress.currentStep()).thenReturn(currentStep);
+    RouteProgress routeProgress = mock(RouteProgress.class);
+    when(routeProgress.currentLegProgress()).thenReturn(legProgress);
+    return routeProgress;
+  }
+}
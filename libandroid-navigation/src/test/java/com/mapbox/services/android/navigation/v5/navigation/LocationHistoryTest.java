@@ -0,0 +1,88 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class LocationHistoryTest {
+
+  @Test
+  public void locationsBefore_excludesLocationsAtEventTime() {
+    LocationHistory history = buildHistory(10, 1000, 2000, 3000, 4000);
+
+    List<Location> locations = history.locationsBefore(3000);
+
+    assertEquals(2, locations.size());
+    assertEquals(1000, locations.get(0).getTime());
+    assertEquals(2000, locations.get(1).getTime());
+  }
+
+  @Test
+  public void locationsAfter_excludesLocationsAtEventTime() {
+    LocationHistory history = buildHistory(10, 1000, 2000, 3000, 4000);
+
+    List<Location> locations = history.locationsAfter(3000);
+
+    assertEquals(1, locations.size());
+    assertEquals(4000, locations.get(0).getTime());
+  }
+
+  @Test
+  public void add_fullHistoryDropsOldestLocation() {
+    LocationHistory history = buildHistory(3, 1000, 2000, 3000, 4000);
+
+    List<Location> locations = history.locationsBefore(Long.MAX_VALUE);
+
+    assertEquals(3, history.size());
+    assertEquals(2000, locations.get(0).getTime());
+    assertEquals(4000, locations.get(2).getTime());
+  }
+
+  @Test
+  public void locationsAfter_eventBeforeHistoryReturnsAllLocations() {
+    LocationHistory history = buildHistory(3, 1000, 2000, 3000, 4000);
+
+    List<Location> locations = history.locationsAfter(0);
+
+    assertEquals(3, locations.size());
+  }
+
+  @Test
+  public void locationsBefore_emptyHistoryReturnsEmptyList() {
+    LocationHistory history = new LocationHistory(3);
+
+    assertTrue(history.locationsBefore(1000).isEmpty());
+  }
+
+  @Test
+  public void locationsBefore_unorderedLocationsAreFiltered() {
+    LocationHistory history = buildHistory(10, 1000, 4000, 2000, 3000);
+
+    List<Location> before = history.locationsBefore(3000);
+    List<Location> after = history.locationsAfter(2000);
+
+    assertEquals(2, before.size());
+    assertEquals(1000, before.get(0).getTime());
+    assertEquals(2000, before.get(1).getTime());
+    assertEquals(2, after.size());
+    assertEquals(4000, after.get(0).getTime());
+    assertEquals(3000, after.get(1).getTime());
+  }
+
+  private LocationHistory buildHistory(int capacity, long... times) {
+    LocationHistory history = new LocationHistory(capacity);
+    for (long time : times) {
+      Location location = mock(Location.class);
+      when(location.getTime()).thenReturn(time);
+      history.add(location);
+    }
+    return history;
+  }
+}
@@ -0,0 +1,230 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.location.Location;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.navigator.FixLocation;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+import static org.mockito.Mockito.when;
+
+public class MapboxNavigatorTest {
+
+  private static final int MAXIMUM_QUEUED_LOCATIONS = 64;
+
+  @Test
+  public void updateRoute_routeIsNotSetUntilSubmitted() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+
+    mapboxNavigator.updateRoute(buildRoute("{}"));
+
+    verifyZeroInteractions(navigator);
+  }
+
+  @Test
+  public void submitQueuedCommands_commandsAreRunOnce() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildRoute("{}"));
+
+    mapboxNavigator.submitQueuedCommands();
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator).setRoute("{}", 0, 0);
+  }
+
+  @Test
+  public void updateRoute_queuedRouteIsReplaced() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildRoute("{\"first\":true}"));
+    mapboxNavigator.updateRoute(buildRoute("{}"));
+
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator).setRoute("{}", 0, 0);
+    verify(navigator, never()).setRoute("{\"first\":true}", 0, 0);
+  }
+
+  @Test
+  public void updateRoute_sameRouteIsNotSetAgain() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    DirectionsRoute route = buildRoute("{}");
+    mapboxNavigator.updateRoute(route);
+    mapboxNavigator.submitQueuedCommands();
+
+    mapboxNavigator.updateRoute(route);
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator, times(1)).setRoute(anyString(), anyInt(), anyInt());
+    verify(route, times(1)).toJson();
+  }
+
+  @Test
+  public void updateRoute_sameRouteIsSetAgainAfterReset() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    DirectionsRoute route = buildRoute("{}");
+    mapboxNavigator.updateRoute(route);
+    mapboxNavigator.submitQueuedCommands();
+
+    mapboxNavigator.reset();
+    mapboxNavigator.updateRoute(route);
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator, times(2)).setRoute("{}", 0, 0);
+  }
+
+  @Test
+  public void reset_queuedRouteIsNotSubmitted() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.updateRoute(buildRoute("{}"));
+
+    mapboxNavigator.reset();
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator, never()).setRoute(anyString(), anyInt(), anyInt());
+  }
+
+  @Test
+  public void updateRoute_routeIsSerializedOnCallingThread() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    DirectionsRoute route = buildRoute("{}");
+
+    mapboxNavigator.updateRoute(route);
+
+    verify(route).toJson();
+  }
+
+  @Test
+  public void retrieveHistory_historyIsReadRightAway() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    when(navigator.getHistory()).thenReturn("history");
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+
+    String history = mapboxNavigator.retrieveHistory();
+
+    assertEquals("history", history);
+  }
+
+  @Test
+  public void toggleHistory_historyIsToggledRightAway() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+
+    mapboxNavigator.toggleHistory(true);
+
+    verify(navigator).toggleHistory(true);
+  }
+
+  @Test
+  public void buildFixLocationFromLocation_missingValuesAreNull() {
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(mock(NativeNavigator.class));
+    Location location = mock(Location.class);
+
+    FixLocation fixLocation = mapboxNavigator.buildFixLocationFromLocation(location);
+
+    assertNull(fixLocation.getSpeed());
+    assertNull(fixLocation.getBearing());
+    assertNull(fixLocation.getAltitude());
+    assertNull(fixLocation.getAccuracyHorizontal());
+  }
+
+  @Test
+  public void buildFixLocationFromLocation_presentValuesAreKept() {
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(mock(NativeNavigator.class));
+    Location location = mock(Location.class);
+    when(location.hasSpeed()).thenReturn(true);
+    when(location.getSpeed()).thenReturn(10f);
+    when(location.hasBearing()).thenReturn(true);
+    when(location.getBearing()).thenReturn(90f);
+    when(location.hasAltitude()).thenReturn(true);
+    when(location.getAltitude()).thenReturn(100d);
+    when(location.hasAccuracy()).thenReturn(true);
+    when(location.getAccuracy()).thenReturn(5f);
+
+    FixLocation fixLocation = mapboxNavigator.buildFixLocationFromLocation(location);
+
+    assertEquals(10f, fixLocation.getSpeed());
+    assertEquals(90f, fixLocation.getBearing());
+    assertEquals(100f, fixLocation.getAltitude());
+    assertEquals(5f, fixLocation.getAccuracyHorizontal());
+  }
+
+  @Test
+  public void submitQueuedCommands_locationsAreGivenInOrder() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.queueLocation(buildLocation(1000L));
+    mapboxNavigator.queueLocation(buildLocation(2000L));
+
+    mapboxNavigator.submitQueuedCommands();
+
+    List<FixLocation> fixLocations = captureUpdatedLocations(navigator, 2);
+    assertEquals(1000L, fixLocations.get(0).getTime().getTime());
+    assertEquals(2000L, fixLocations.get(1).getTime().getTime());
+  }
+
+  @Test
+  public void queueLocation_onlyLatestLocationsAreKept() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    for (long time = 0; time <= MAXIMUM_QUEUED_LOCATIONS; time++) {
+      mapboxNavigator.queueLocation(buildLocation(time));
+    }
+
+    mapboxNavigator.submitQueuedCommands();
+
+    List<FixLocation> fixLocations = captureUpdatedLocations(navigator, MAXIMUM_QUEUED_LOCATIONS);
+    assertEquals(1L, fixLocations.get(0).getTime().getTime());
+    assertEquals(MAXIMUM_QUEUED_LOCATIONS, fixLocations.get(MAXIMUM_QUEUED_LOCATIONS - 1).getTime().getTime());
+  }
+
+  @Test
+  public void clearQueuedLocations_locationsAreNotSubmitted() {
+    NativeNavigator navigator = mock(NativeNavigator.class);
+    MapboxNavigator mapboxNavigator = new MapboxNavigator(navigator);
+    mapboxNavigator.queueLocation(buildLocation(1000L));
+
+    mapboxNavigator.clearQueuedLocations();
+    mapboxNavigator.submitQueuedCommands();
+
+    verify(navigator, never()).updateLocation(any(FixLocation.class));
+  }
+
+  private Location buildLocation(long time) {
+    Location location = mock(Location.class);
+    when(location.getTime()).thenReturn(time);
+    return location;
+  }
+
+  private List<FixLocation> captureUpdatedLocations(NativeNavigator navigator, int count) {
+    ArgumentCaptor<FixLocation> fixLocationCaptor = ArgumentCaptor.forClass(FixLocation.class);
+    verify(navigator, times(count)).updateLocation(fixLocationCaptor.capture());
+    return fixLocationCaptor.getAllValues();
+  }
+
+  private DirectionsRoute buildRoute(String json) {
+    DirectionsRoute route = mock(DirectionsRoute.class);
+    when(route.toJson()).thenReturn(json);
+    return route;
+  }
+}
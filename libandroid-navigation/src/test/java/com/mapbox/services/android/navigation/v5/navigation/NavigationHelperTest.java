@@ -261,6 +261,30 @@ public class NavigationHelperTest extends BaseTest {
     assertTrue(currentIntersection.equals(intersections.get(1)));
   }
 
+  @Test
+  public void findCurrentIntersectionIndex_lastIndexGivesSameIntersectionAsFullSearch() throws Exception {
+    RouteProgress routeProgress = buildMultiLegRouteProgress(100, 0, 0, 2, 0);
+    List<Pair<StepIntersection, Double>> intersectionDistances = routeProgress.currentLegProgress()
+      .currentStepProgress().intersectionDistancesAlongStep();
+    int lastIndex = NavigationHelper.findCurrentIntersectionIndex(intersectionDistances, 130, 0);
+
+    int currentIndex = NavigationHelper.findCurrentIntersectionIndex(intersectionDistances, 140, lastIndex);
+
+    assertEquals(NavigationHelper.findCurrentIntersectionIndex(intersectionDistances, 140, 0), currentIndex);
+  }
+
+  @Test
+  public void findCurrentIntersectionIndex_distanceTraveledGoingBackStartsOver() throws Exception {
+    RouteProgress routeProgress = buildMultiLegRouteProgress(100, 0, 0, 2, 0);
+    List<Pair<StepIntersection, Double>> intersectionDistances = routeProgress.currentLegProgress()
+      .currentStepProgress().intersectionDistancesAlongStep();
+    int lastIndex = intersectionDistances.size() - 1;
+
+    int currentIndex = NavigationHelper.findCurrentIntersectionIndex(intersectionDistances, 130, lastIndex);
+
+    assertEquals(1, currentIndex);
+  }
+
   @Test
   public void findUpcomingIntersection_beginningOfStepReturnsSecondIntersection() throws Exception {
     RouteProgress routeProgress = buildMultiLegRouteProgress();
@@ -376,6 +400,27 @@ public class NavigationHelperTest extends BaseTest {
     assertEquals(11, newLegAnnotation.index());
   }
 
+  @Test
+  public void createCurrentAnnotation_distanceTraveledBeforeCurrentLegAnnotationStartsOver() throws Exception {
+    RouteProgress routeProgress = buildDistanceCongestionAnnotationRouteProgress(0, 0, 0, 0, 0);
+    Double legDistance = routeProgress.currentLeg().distance();
+    Double legDistanceRemaining = legDistance / 2;
+    CurrentLegAnnotation currentLegAnnotation = CurrentLegAnnotation.builder()
+      .distance(100d)
+      .distanceToAnnotation(legDistance * 3 / 4)
+      .index(20)
+      .build();
+
+    CurrentLegAnnotation newLegAnnotation = NavigationHelper.createCurrentAnnotation(
+      currentLegAnnotation, routeProgress.currentLeg(), legDistanceRemaining
+    );
+
+    CurrentLegAnnotation expectedLegAnnotation = NavigationHelper.createCurrentAnnotation(
+      null, routeProgress.currentLeg(), legDistanceRemaining
+    );
+    assertEquals(expectedLegAnnotation.index(), newLegAnnotation.index());
+  }
+
   private RouteProgress buildMultiLegRouteProgress(double stepDistanceRemaining, double legDistanceRemaining,
                                                    double distanceRemaining, int stepIndex, int legIndex) throws Exception {
     DirectionsRoute multiLegRoute = buildMultiLegRoute();
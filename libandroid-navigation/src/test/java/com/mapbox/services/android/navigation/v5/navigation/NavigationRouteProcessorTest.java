@@ -20,7 +20,8 @@ public class NavigationRouteProcessorTest extends BaseTest {
     NavigationRouteProcessor processor = new NavigationRouteProcessor();
 
     // TODO mock final status
-    RouteProgress progress = processor.buildNewRouteProgress(mock(NavigationStatus.class), buildTestDirectionsRoute());
+    RouteGeometryIndex geometryIndex = new RouteGeometryIndex(buildTestDirectionsRoute());
+    RouteProgress progress = processor.buildNewRouteProgress(mock(NavigationStatus.class), geometryIndex);
 
     assertNotNull(progress);
   }
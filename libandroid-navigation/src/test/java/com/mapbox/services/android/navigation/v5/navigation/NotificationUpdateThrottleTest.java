@@ -0,0 +1,53 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class NotificationUpdateThrottleTest {
+
+  private static final long INTERVAL = 1000;
+
+  @Test
+  public void shouldUpdate_firstUpdateIsPosted() {
+    NotificationUpdateThrottle throttle = new NotificationUpdateThrottle(INTERVAL);
+
+    assertTrue(throttle.shouldUpdate(false, false, 0));
+  }
+
+  @Test
+  public void shouldUpdate_unchangedContentIsNotPosted() {
+    NotificationUpdateThrottle throttle = new NotificationUpdateThrottle(INTERVAL);
+    throttle.shouldUpdate(true, true, 0);
+
+    assertFalse(throttle.shouldUpdate(false, false, 5 * INTERVAL));
+  }
+
+  @Test
+  public void shouldUpdate_newManeuverIsPostedRightAway() {
+    NotificationUpdateThrottle throttle = new NotificationUpdateThrottle(INTERVAL);
+    throttle.shouldUpdate(true, true, 0);
+
+    assertTrue(throttle.shouldUpdate(true, false, 1));
+  }
+
+  @Test
+  public void shouldUpdate_newProgressWaitsForInterval() {
+    NotificationUpdateThrottle throttle = new NotificationUpdateThrottle(INTERVAL);
+    throttle.shouldUpdate(true, true, 0);
+
+    assertFalse(throttle.shouldUpdate(false, true, INTERVAL - 1));
+    assertTrue(throttle.shouldUpdate(false, true, INTERVAL));
+  }
+
+  @Test
+  public void shouldUpdate_pendingProgressIsPostedOnceIntervalElapsed() {
+    NotificationUpdateThrottle throttle = new NotificationUpdateThrottle(INTERVAL);
+    throttle.shouldUpdate(true, true, 0);
+    throttle.shouldUpdate(false, true, INTERVAL / 2);
+
+    assertTrue(throttle.shouldUpdate(false, false, INTERVAL));
+    assertFalse(throttle.shouldUpdate(false, false, 2 * INTERVAL));
+  }
+}
@@ -0,0 +1,72 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import android.support.v4.util.Pair;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.api.directions.v5.models.LegStep;
+import com.mapbox.api.directions.v5.models.StepIntersection;
+import com.mapbox.geojson.Point;
+import com.mapbox.geojson.utils.PolylineUtils;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import java.util.List;
+
+import static com.mapbox.core.constants.Constants.PRECISION_6;
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+
+public class RouteGeometryIndexTest extends BaseTest {
+
+  private static final String MULTI_LEG_ROUTE_FIXTURE = "directions_two_leg_route.json";
+
+  @Test
+  public void stepPoints_matchDecodedStepGeometry() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteGeometryIndex geometryIndex = new RouteGeometryIndex(route);
+    LegStep step = route.legs().get(1).steps().get(2);
+
+    List<Point> stepPoints = geometryIndex.stepPoints(1, 2);
+
+    assertEquals(PolylineUtils.decode(step.geometry(), PRECISION_6), stepPoints);
+  }
+
+  @Test
+  public void stepPoints_sameInstanceReturnedForEachCall() throws Exception {
+    RouteGeometryIndex geometryIndex = new RouteGeometryIndex(buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE));
+
+    List<Point> firstPoints = geometryIndex.stepPoints(0, 1);
+    List<Point> secondPoints = geometryIndex.stepPoints(0, 1);
+
+    assertSame(firstPoints, secondPoints);
+  }
+
+  @Test
+  public void stepPoints_invalidIndicesReturnNull() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteGeometryIndex geometryIndex = new RouteGeometryIndex(route);
+    int stepSize = route.legs().get(0).steps().size();
+
+    assertNull(geometryIndex.stepPoints(0, stepSize));
+    assertNull(geometryIndex.stepPoints(route.legs().size(), 0));
+    assertNull(geometryIndex.stepPoints(-1, 0));
+  }
+
+  @Test
+  public void intersectionDistances_matchNavigationHelper() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute(MULTI_LEG_ROUTE_FIXTURE);
+    RouteGeometryIndex geometryIndex = new RouteGeometryIndex(route);
+    List<LegStep> steps = route.legs().get(0).steps();
+    List<StepIntersection> intersections = NavigationHelper.createIntersectionsList(steps.get(1), steps.get(2));
+    List<Pair<StepIntersection, Double>> expectedDistances = NavigationHelper.createDistancesToIntersections(
+      geometryIndex.stepPoints(0, 1), intersections
+    );
+
+    List<Pair<StepIntersection, Double>> intersectionDistances = geometryIndex.intersectionDistances(0, 1);
+
+    assertEquals(intersections, geometryIndex.intersections(0, 1));
+    assertEquals(expectedDistances, intersectionDistances);
+  }
+}
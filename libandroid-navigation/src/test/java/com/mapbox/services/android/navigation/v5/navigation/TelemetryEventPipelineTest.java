@@ -0,0 +1,146 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import com.mapbox.android.telemetry.Event;
+import com.mapbox.services.android.navigation.v5.navigation.metrics.TelemetryEventSink;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+
+public class TelemetryEventPipelineTest {
+
+  @Test
+  public void enqueue_eventIsSentToSink() {
+    RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 10, 5);
+    Event event = mock(Event.class);
+
+    pipeline.enqueue(event);
+    executor.runAll();
+
+    assertEquals(1, sink.batches.size());
+    assertSame(event, sink.batches.get(0).get(0));
+  }
+
+  @Test
+  public void enqueue_eventsAreSentInBatches() {
+    RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 10, 3);
+
+    for (int i = 0; i < 7; i++) {
+      pipeline.enqueue(mock(Event.class));
+    }
+    executor.runAll();
+
+    assertEquals(3, sink.batches.size());
+    assertEquals(3, sink.batches.get(0).size());
+    assertEquals(1, sink.batches.get(2).size());
+  }
+
+  @Test
+  public void enqueue_fullQueueDropsEvent() {
+    RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 2, 5);
+    pipeline.enqueue(mock(Event.class));
+    pipeline.enqueue(mock(Event.class));
+
+    boolean isQueued = pipeline.enqueue(mock(Event.class));
+
+    assertFalse(isQueued);
+    assertEquals(1, pipeline.droppedEventCount());
+  }
+
+  @Test
+  public void enqueue_eventsAreBuiltOnExecutor() {
+    RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 10, 5);
+    final List<Boolean> isBuilt = new ArrayList<>();
+
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        isBuilt.add(true);
+        return mock(Event.class);
+      }
+    });
+
+    assertTrue(isBuilt.isEmpty());
+    executor.runAll();
+    assertEquals(1, isBuilt.size());
+  }
+
+  @Test
+  public void enqueue_failingEventIsSkipped() {
+    RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 10, 5);
+
+    pipeline.enqueue(new TelemetryEventPipeline.PendingEvent() {
+      @Override
+      public Event build() {
+        throw new IllegalStateException();
+      }
+    });
+    pipeline.enqueue(mock(Event.class));
+    executor.runAll();
+
+    assertEquals(1, sink.batches.get(0).size());
+  }
+
+  @Test
+  public void runAfterQueuedEvents_runsOnceEventsAreSent() {
+    final RecordingSink sink = new RecordingSink();
+    QueuedExecutor executor = new QueuedExecutor();
+    TelemetryEventPipeline pipeline = new TelemetryEventPipeline(executor, sink, 10, 5);
+    final List<Integer> sentBatchesWhenRun = new ArrayList<>();
+    pipeline.enqueue(mock(Event.class));
+
+    pipeline.runAfterQueuedEvents(new Runnable() {
+      @Override
+      public void run() {
+        sentBatchesWhenRun.add(sink.batches.size());
+      }
+    });
+    executor.runAll();
+
+    assertEquals(1, sentBatchesWhenRun.get(0).intValue());
+  }
+
+  private static class RecordingSink implements TelemetryEventSink {
+
+    private final List<List<Event>> batches = new ArrayList<>();
+
+    @Override
+    public void send(List<Event> events) {
+      batches.add(new ArrayList<>(events));
+    }
+  }
+
+  private static class QueuedExecutor implements Executor {
+
+    private final List<Runnable> runnables = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable runnable) {
+      runnables.add(runnable);
+    }
+
+    void runAll() {
+      while (!runnables.isEmpty()) {
+        runnables.remove(0).run();
+      }
+    }
+  }
+}
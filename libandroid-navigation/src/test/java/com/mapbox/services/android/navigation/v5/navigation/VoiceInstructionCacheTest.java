@@ -0,0 +1,169 @@
+package com.mapbox.services.android.navigation.v5.navigation;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertNotNull;
+import static junit.framework.Assert.assertNull;
+import static junit.framework.Assert.assertSame;
+import static junit.framework.Assert.assertTrue;
+import static org.junit.Assert.assertNotEquals;
+
+public class VoiceInstructionCacheTest {
+
+  private static final int CLIP_SIZE_IN_BYTES = 100;
+  private static final String INSTRUCTION = "<speak>Turn right onto Main Street</speak>";
+  private static final String SSML = "ssml";
+  private static final String LANGUAGE = "en-US";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Test
+  public void createKey_isStableForSameInstruction() {
+    String key = VoiceInstructionCache.createKey(INSTRUCTION, SSML, LANGUAGE, "imperial");
+    String otherKey = VoiceInstructionCache.createKey(INSTRUCTION, SSML, LANGUAGE, "imperial");
+
+    assertEquals(key, otherKey);
+  }
+
+  @Test
+  public void createKey_differsForOtherUnitType() {
+    String key = VoiceInstructionCache.createKey(INSTRUCTION, SSML, LANGUAGE, "imperial");
+    String otherKey = VoiceInstructionCache.createKey(INSTRUCTION, SSML, LANGUAGE, "metric");
+
+    assertNotEquals(key, otherKey);
+  }
+
+  @Test
+  public void get_returnsStoredClip() throws IOException {
+    VoiceInstructionCache cache = buildCache(temporaryFolder.getRoot(), 10 * CLIP_SIZE_IN_BYTES);
+    cache.put("clip", buildClip());
+
+    File clip = cache.get("clip");
+
+    assertNotNull(clip);
+    assertEquals(CLIP_SIZE_IN_BYTES, clip.length());
+  }
+
+  @Test
+  public void get_unknownKeyReturnsNull() {
+    VoiceInstructionCache cache = buildCache(temporaryFolder.getRoot(), 10 * CLIP_SIZE_IN_BYTES);
+
+    assertNull(cache.get("clip"));
+    assertFalse(cache.contains("clip"));
+  }
+
+  @Test
+  public void put_evictsLeastRecentlyUsedClip() throws IOException {
+    VoiceInstructionCache cache = buildCache(temporaryFolder.getRoot(), 2 * CLIP_SIZE_IN_BYTES);
+    cache.put("first", buildClip());
+    File secondClip = cache.put("second", buildClip());
+    cache.get("first");
+
+    cache.put("third", buildClip());
+
+    assertTrue(cache.contains("first"));
+    assertFalse(cache.contains("second"));
+    assertFalse(secondClip.exists());
+    assertTrue(cache.contains("third"));
+  }
+
+  @Test
+  public void put_keepsClipLargerThanMaximumSize() throws IOException {
+    VoiceInstructionCache cache = buildCache(temporaryFolder.getRoot(), CLIP_SIZE_IN_BYTES / 2);
+
+    File clip = cache.put("clip", buildClip());
+
+    assertTrue(clip.exists());
+  }
+
+  @Test
+  public void get_returnsClipStoredByPreviousSession() throws IOException {
+    File directory = temporaryFolder.getRoot();
+    buildCache(directory, 10 * CLIP_SIZE_IN_BYTES).put("clip", buildClip());
+
+    VoiceInstructionCache cache = buildCache(directory, 10 * CLIP_SIZE_IN_BYTES);
+
+    assertNotNull(cache.get("clip"));
+  }
+
+  @Test
+  public void get_clipStoredByPreviousSessionIsIndexedInBackground() throws IOException {
+    File directory = temporaryFolder.getRoot();
+    buildCache(directory, 10 * CLIP_SIZE_IN_BYTES).put("clip", buildClip());
+    QueuedExecutor executor = new QueuedExecutor();
+    VoiceInstructionCache cache = new VoiceInstructionCache(directory, 10 * CLIP_SIZE_IN_BYTES, executor);
+
+    assertNull(cache.get("clip"));
+    executor.runQueuedCommands();
+
+    assertNotNull(cache.get("clip"));
+  }
+
+  @Test
+  public void get_clipIsMarkedRecentlyUsedInBackground() throws IOException {
+    QueuedExecutor executor = new QueuedExecutor();
+    VoiceInstructionCache cache = new VoiceInstructionCache(temporaryFolder.getRoot(), 10 * CLIP_SIZE_IN_BYTES,
+      executor);
+    File clip = cache.put("clip", buildClip());
+    clip.setLastModified(0);
+
+    cache.get("clip");
+    long lastModified = clip.lastModified();
+    executor.runQueuedCommands();
+
+    assertEquals(0, lastModified);
+    assertTrue(clip.lastModified() > 0);
+  }
+
+  @Test
+  public void getInstance_sameDirectoryReturnsSameCache() {
+    File directory = temporaryFolder.getRoot();
+
+    VoiceInstructionCache cache = VoiceInstructionCache.getInstance(directory, 10 * CLIP_SIZE_IN_BYTES);
+
+    assertSame(cache, VoiceInstructionCache.getInstance(new File(directory.getPath()), CLIP_SIZE_IN_BYTES));
+  }
+
+  private VoiceInstructionCache buildCache(File directory, long maximumSizeInBytes) {
+    return new VoiceInstructionCache(directory, maximumSizeInBytes, new Executor() {
+      @Override
+      public void execute(Runnable command) {
+        command.run();
+      }
+    });
+  }
+
+  private InputStream buildClip() {
+    return new ByteArrayInputStream(new byte[CLIP_SIZE_IN_BYTES]);
+  }
+
+  private static class QueuedExecutor implements Executor {
+
+    private final List<Runnable> commands = new ArrayList<>();
+
+    @Override
+    public void execute(Runnable command) {
+      commands.add(command);
+    }
+
+    void runQueuedCommands() {
+      for (Runnable command : commands) {
+        command.run();
+      }
+      commands.clear();
+    }
+  }
+}
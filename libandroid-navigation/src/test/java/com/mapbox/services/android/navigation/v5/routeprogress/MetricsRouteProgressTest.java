@@ -0,0 +1,84 @@
+package com.mapbox.services.android.navigation.v5.routeprogress;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+
+public class MetricsRouteProgressTest extends BaseTest {
+
+  @Test
+  public void update_matchesNewProgress() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress firstProgress = buildTestRouteProgress(route, 100, 1000, 1000, 0, 0);
+    RouteProgress secondProgress = buildTestRouteProgress(route, 50, 500, 500, 1, 0);
+    MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(firstProgress);
+
+    metricsRouteProgress.update(secondProgress);
+
+    assertSameValues(new MetricsRouteProgress(secondProgress), metricsRouteProgress);
+  }
+
+  @Test
+  public void update_sameStepOnlyUpdatesDistances() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress firstProgress = buildTestRouteProgress(route, 100, 1000, 1000, 1, 0);
+    RouteProgress secondProgress = buildTestRouteProgress(route, 40, 940, 940, 1, 0);
+    MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(firstProgress);
+
+    metricsRouteProgress.update(secondProgress);
+
+    assertEquals(940, metricsRouteProgress.getDistanceRemaining());
+    assertEquals(40, metricsRouteProgress.getCurrentStepDistanceRemaining());
+    assertSameValues(new MetricsRouteProgress(secondProgress), metricsRouteProgress);
+  }
+
+  @Test
+  public void snapshot_isNotChangedByLaterUpdates() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress firstProgress = buildTestRouteProgress(route, 100, 1000, 1000, 0, 0);
+    RouteProgress secondProgress = buildTestRouteProgress(route, 50, 500, 500, 1, 0);
+    MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(firstProgress);
+
+    MetricsRouteProgress snapshot = metricsRouteProgress.snapshot();
+    metricsRouteProgress.update(secondProgress);
+
+    assertSameValues(new MetricsRouteProgress(firstProgress), snapshot);
+  }
+
+  @Test
+  public void update_fromDefaultValuesReadsRoute() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress routeProgress = buildTestRouteProgress(route, 100, 1000, 1000, 0, 0);
+    MetricsRouteProgress metricsRouteProgress = new MetricsRouteProgress(null);
+
+    metricsRouteProgress.update(routeProgress);
+
+    assertEquals(route.distance().intValue(), metricsRouteProgress.getDirectionsRouteDistance());
+    assertSameValues(new MetricsRouteProgress(routeProgress), metricsRouteProgress);
+  }
+
+  private void assertSameValues(MetricsRouteProgress expected, MetricsRouteProgress actual) {
+    assertEquals(expected.getDirectionsRouteDistance(), actual.getDirectionsRouteDistance());
+    assertEquals(expected.getDirectionsRouteDuration(), actual.getDirectionsRouteDuration());
+    assertEquals(expected.getDirectionsRouteProfile(), actual.getDirectionsRouteProfile());
+    assertEquals(expected.getDirectionsRouteDestination(), actual.getDirectionsRouteDestination());
+    assertEquals(expected.getDistanceRemaining(), actual.getDistanceRemaining());
+    assertEquals(expected.getDurationRemaining(), actual.getDurationRemaining());
+    assertEquals(expected.getDistanceTraveled(), actual.getDistanceTraveled());
+    assertEquals(expected.getCurrentStepDistance(), actual.getCurrentStepDistance());
+    assertEquals(expected.getCurrentStepDuration(), actual.getCurrentStepDuration());
+    assertEquals(expected.getCurrentStepDistanceRemaining(), actual.getCurrentStepDistanceRemaining());
+    assertEquals(expected.getCurrentStepDurationRemaining(), actual.getCurrentStepDurationRemaining());
+    assertEquals(expected.getUpcomingStepInstruction(), actual.getUpcomingStepInstruction());
+    assertEquals(expected.getUpcomingStepModifier(), actual.getUpcomingStepModifier());
+    assertEquals(expected.getUpcomingStepType(), actual.getUpcomingStepType());
+    assertEquals(expected.getUpcomingStepName(), actual.getUpcomingStepName());
+    assertEquals(expected.getPreviousStepInstruction(), actual.getPreviousStepInstruction());
+    assertEquals(expected.getPreviousStepModifier(), actual.getPreviousStepModifier());
+    assertEquals(expected.getPreviousStepType(), actual.getPreviousStepType());
+    assertEquals(expected.getPreviousStepName(), actual.getPreviousStepName());
+  }
+}
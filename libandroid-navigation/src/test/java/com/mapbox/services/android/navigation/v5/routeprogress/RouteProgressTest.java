@@ -8,6 +8,7 @@ import com.mapbox.api.directions.v5.models.DirectionsRoute;
 import com.mapbox.api.directions.v5.models.LegStep;
 import com.mapbox.api.directions.v5.models.RouteLeg;
 import com.mapbox.services.android.navigation.v5.BaseTest;
+import com.mapbox.services.android.navigation.v5.utils.RouteFingerprint;
 
 import org.junit.Test;
 
@@ -240,6 +241,33 @@ public class RouteProgressTest extends BaseTest {
     assertEquals(1, routeProgress.legIndex());
   }
 
+  @Test
+  public void routeFingerprint_calculatedFromRouteWhenNotSet() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    RouteProgress routeProgress = buildBeginningOfLegRouteProgress(route);
+
+    assertEquals(RouteFingerprint.from(route), routeProgress.routeFingerprint());
+  }
+
+  @Test
+  public void routeFingerprint_setFingerprintIsReturned() throws Exception {
+    RouteProgress routeProgress = buildBeginningOfLegRouteProgress(buildTestDirectionsRoute());
+
+    routeProgress = routeProgress.toBuilder().routeFingerprint(42L).build();
+
+    assertEquals(42L, routeProgress.routeFingerprint());
+  }
+
+  @Test
+  public void routeFingerprint_newRouteOnBuilderIsFingerprintedAgain() throws Exception {
+    RouteProgress routeProgress = buildBeginningOfLegRouteProgress(buildTestDirectionsRoute());
+    DirectionsRoute multiLegRoute = buildMultipleLegRoute();
+
+    routeProgress = routeProgress.toBuilder().directionsRoute(multiLegRoute).build();
+
+    assertEquals(RouteFingerprint.from(multiLegRoute), routeProgress.routeFingerprint());
+  }
+
   @Test
   public void remainingWaypoints_firstLegReturnsTwoWaypoints() throws Exception {
     DirectionsRoute multiLegRoute = buildMultipleLegRoute();
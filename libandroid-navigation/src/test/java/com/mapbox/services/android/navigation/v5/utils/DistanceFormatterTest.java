@@ -4,6 +4,7 @@ import android.content.Context;
 import android.content.res.Configuration;
 import android.content.res.Resources;
 import android.os.LocaleList;
+import android.text.SpannableString;
 
 import com.mapbox.api.directions.v5.DirectionsCriteria;
 import com.mapbox.services.android.navigation.R;
@@ -125,6 +126,28 @@ public class DistanceFormatterTest {
     assertOutput(LARGE_SMALL_UNIT, Locale.FRANCE, DirectionsCriteria.METRIC, ROUNDING_INCREMENT_FIFTY,"100 m");
   }
 
+  @Test
+  public void formatDistance_sameRoundedDistanceReturnsSameString() {
+    DistanceFormatter formatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.IMPERIAL, ROUNDING_INCREMENT_FIFTY);
+
+    SpannableString firstDistance = formatter.formatDistance(MEDIUM_LARGE_UNIT);
+    SpannableString secondDistance = formatter.formatDistance(MEDIUM_LARGE_UNIT + 20);
+
+    Assert.assertSame(firstDistance, secondDistance);
+  }
+
+  @Test
+  public void formatDistance_cachedDistancesKeepTheirUnit() {
+    DistanceFormatter formatter = new DistanceFormatter(context, Locale.US.getLanguage(),
+      DirectionsCriteria.IMPERIAL, ROUNDING_INCREMENT_FIFTY);
+    formatter.formatDistance(LARGE_SMALL_UNIT);
+    formatter.formatDistance(MEDIUM_LARGE_UNIT);
+
+    Assert.assertEquals("350 ft", formatter.formatDistance(LARGE_SMALL_UNIT).toString());
+    Assert.assertEquals("6.1 mi", formatter.formatDistance(MEDIUM_LARGE_UNIT).toString());
+  }
+
   private void assertOutput(double distance, Locale locale, String unitType, int roundIncrement, String output) {
     Assert.assertEquals(output,
       new DistanceFormatter(context, locale.getLanguage(), unitType, roundIncrement).formatDistance(distance).toString());
@@ -0,0 +1,49 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import com.mapbox.api.directions.v5.models.DirectionsRoute;
+import com.mapbox.services.android.navigation.v5.BaseTest;
+
+import org.junit.Test;
+
+import static junit.framework.Assert.assertEquals;
+import static junit.framework.Assert.assertFalse;
+import static junit.framework.Assert.assertTrue;
+
+public class RouteFingerprintTest extends BaseTest {
+
+  @Test
+  public void from_equalRoutesHaveEqualFingerprints() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute sameRoute = buildTestDirectionsRoute();
+
+    assertEquals(RouteFingerprint.from(route), RouteFingerprint.from(sameRoute));
+  }
+
+  @Test
+  public void from_differentGeometryChangesFingerprint() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute otherRoute = route.toBuilder().geometry("vfejnqiv").build();
+
+    assertTrue(RouteFingerprint.from(route) != RouteFingerprint.from(otherRoute));
+  }
+
+  @Test
+  public void from_differentRequestUuidChangesFingerprint() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute();
+    DirectionsRoute otherRoute = route.toBuilder()
+      .routeOptions(route.routeOptions().toBuilder().requestUuid("other_uuid").build())
+      .build();
+
+    assertFalse(RouteFingerprint.from(route) == RouteFingerprint.from(otherRoute));
+  }
+
+  @Test
+  public void from_differentLegCountChangesFingerprint() throws Exception {
+    DirectionsRoute route = buildTestDirectionsRoute("directions_two_leg_route.json");
+    DirectionsRoute otherRoute = route.toBuilder()
+      .legs(route.legs().subList(0, 1))
+      .build();
+
+    assertFalse(RouteFingerprint.from(route) == RouteFingerprint.from(otherRoute));
+  }
+}
@@ -0,0 +1,87 @@
+package com.mapbox.services.android.navigation.v5.utils;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static junit.framework.Assert.assertEquals;
+
+public class StepInstructionIndexTest {
+
+  @Test
+  public void findCurrentInstruction_returnsFirstInstructionAtOrBeyondDistance() {
+    StepInstructionIndex<Double> index = new DistanceIndex();
+    List<Double> instructions = Arrays.asList(300d, 100d, 200d);
+
+    double instruction = index.findCurrentInstruction(instructions, 150d);
+
+    assertEquals(200d, instruction);
+  }
+
+  @Test
+  public void findCurrentInstruction_exactDistanceIsIncluded() {
+    StepInstructionIndex<Double> index = new DistanceIndex();
+    List<Double> instructions = Arrays.asList(300d, 100d, 200d);
+
+    double instruction = index.findCurrentInstruction(instructions, 100d);
+
+    assertEquals(100d, instruction);
+  }
+
+  @Test
+  public void findCurrentInstruction_distanceBeyondAllReturnsFirstSortedInstruction() {
+    StepInstructionIndex<Double> index = new DistanceIndex();
+    List<Double> instructions = Arrays.asList(300d, 100d, 200d);
+
+    double instruction = index.findCurrentInstruction(instructions, 500d);
+
+    assertEquals(100d, instruction);
+  }
+
+  @Test
+  public void findCurrentInstruction_decreasingDistancesFollowInstructions() {
+    StepInstructionIndex<Double> index = new DistanceIndex();
+    List<Double> instructions = Arrays.asList(300d, 100d, 200d);
+
+    assertEquals(300d, index.findCurrentInstruction(instructions, 280d));
+    assertEquals(300d, index.findCurrentInstruction(instructions, 250d));
+    assertEquals(200d, index.findCurrentInstruction(instructions, 180d));
+    assertEquals(100d, index.findCurrentInstruction(instructions, 20d));
+  }
+
+  @Test
+  public void findCurrentInstruction_newStepInstructionsAreIndexed() {
+    StepInstructionIndex<Double> index = new DistanceIndex();
+    index.findCurrentInstruction(Arrays.asList(300d, 100d, 200d), 150d);
+
+    double instruction = index.findCurrentInstruction(Arrays.asList(50d, 80d), 60d);
+
+    assertEquals(80d, instruction);
+  }
+
+  @Test
+  public void findCurrentInstruction_alternatingStepsAreIndexedOnce() {
+    DistanceIndex index = new DistanceIndex();
+    List<Double> currentStepInstructions = Arrays.asList(300d, 100d, 200d);
+    List<Double> upcomingStepInstructions = Arrays.asList(50d, 80d);
+    index.findCurrentInstruction(currentStepInstructions, 150d);
+    index.findCurrentInstruction(upcomingStepInstructions, 60d);
+    int indexedDistances = index.distancesRead;
+
+    assertEquals(200d, index.findCurrentInstruction(currentStepInstructions, 150d));
+    assertEquals(80d, index.findCurrentInstruction(upcomingStepInstructions, 60d));
+    assertEquals(indexedDistances, index.distancesRead);
+  }
+
+  private static class DistanceIndex extends StepInstructionIndex<Double> {
+
+    private int distancesRead;
+
+    @Override
+    double distanceAlongGeometry(Double instruction) {
+      distancesRead++;
+      return instruction;
+    }
+  }
+}
@@ -0,0 +1,61 @@
+package com.mapbox.services.android.navigation.v5.utils.abbreviation;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.robolectric.RobolectricTestRunner;
+
+import static junit.framework.Assert.assertEquals;
+
+@RunWith(RobolectricTestRunner.class)
+public class StringAbbreviatorTest {
+
+  @Test
+  public void abbreviate_shortNameIsUnchanged() {
+    String abbreviation = StringAbbreviator.abbreviate("North Main Street");
+
+    assertEquals("North Main Street", abbreviation);
+  }
+
+  @Test
+  public void abbreviate_replacesEveryWholeWord() {
+    String abbreviation = StringAbbreviator.abbreviate("North Saint Charles Avenue Northwest");
+
+    assertEquals("N St Charles Ave NW", abbreviation);
+  }
+
+  @Test
+  public void abbreviate_ignoresCase() {
+    String abbreviation = StringAbbreviator.abbreviate("SOUTH BOULEVARD of the national park");
+
+    assertEquals("S Blvd of the Nat’l Pk", abbreviation);
+  }
+
+  @Test
+  public void abbreviate_leavesPartialWordsUnchanged() {
+    String abbreviation = StringAbbreviator.abbreviate("Parkside Roadhouse Streetcar Drive");
+
+    assertEquals("Parkside Roadhouse Streetcar Dr", abbreviation);
+  }
+
+  @Test
+  public void abbreviate_sameNameTwiceReturnsSameResult() {
+    String first = StringAbbreviator.abbreviate("Martin Luther King Junior Boulevard");
+    String second = StringAbbreviator.abbreviate("Martin Luther King Junior Boulevard");
+
+    assertEquals("Martin Luther King Jr Blvd", first);
+    assertEquals(first, second);
+  }
+
+  @Test
+  public void deliminator_replacesSeparators() {
+    assertEquals("I 95/US 1/Main", StringAbbreviator.deliminator("I 95;US 1,Main"));
+  }
+
+  @Test
+  public void splitter_splitsOnSeparators() {
+    String[] names = StringAbbreviator.splitter("I 95;US 1:Main");
+
+    assertEquals(3, names.length);
+    assertEquals("US 1", names[1]);
+  }
+}